@@ -0,0 +1,186 @@
+package myspring.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 컴파일 타임에 컴포넌트 후보를 찾아 {@value #INDEX_LOCATION} 인덱스를 생성하는 애노테이션 프로세서.
+ * <p>
+ * 런타임의 {@code ApplicationContext}는 이 인덱스가 있으면 클래스패스 스캔(Reflections)을 건너뛴다.
+ * 인덱스 형식은 {@link Properties}: {@code 바이너리 클래스명=스테레오타입[,스테레오타입...]}
+ * <pre>
+ * myspring.config.AppConfig=Component,Configuration
+ * myspring.sample.Service=Component
+ * </pre>
+ * {@code @Inject}/{@code @Bean}/{@code @Scope}/{@code @Lazy}는 인덱스에 싣지 않고, 런타임에 실패할 잘못된 사용만 컴파일 단계에서 보고한다.
+ * 코어 모듈에 의존하지 않도록 애노테이션은 이름으로만 비교한다.
+ */
+@SupportedAnnotationTypes("*")
+public class BeanIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/myspring.components";
+
+    static final String COMPONENT = "myspring.core.annotation.Component";
+    static final String CONFIGURATION = "myspring.core.annotation.Configuration";
+    static final String SCOPE = "myspring.core.annotation.Scope";
+    static final String BEAN = "myspring.core.annotation.Bean";
+    static final String INJECT = "myspring.core.annotation.Inject";
+    static final String LAZY = "myspring.core.annotation.Lazy";
+
+    // 라운드를 거치며 누적되는 인덱스 (정렬해서 기록 → 빌드 재현성)
+    private final Map<String, String> entries = new TreeMap<>();
+    private boolean existingLoaded;
+    private boolean hadExistingIndex;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!existingLoaded) {
+            loadExistingIndex();
+            existingLoaded = true;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type);
+        }
+        if (roundEnv.processingOver() && (!entries.isEmpty() || hadExistingIndex)) {
+            writeIndex();
+        }
+        return false; // 다른 프로세서도 같은 애노테이션을 볼 수 있게 claim 하지 않음
+    }
+
+    // 중첩 클래스까지 재귀적으로 수집
+    private void collect(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        String binaryName = elements.getBinaryName(type).toString();
+        entries.remove(binaryName); // 증분 컴파일: 애노테이션이 빠진 경우 이전 항목 제거
+
+        if (type.getKind() == ElementKind.CLASS && isAnnotated(type, COMPONENT, new HashSet<>())) {
+            validate(type);
+            entries.put(binaryName, describe(type));
+        } else {
+            warnIfMisplaced(type);
+        }
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(nested);
+        }
+    }
+
+    private String describe(TypeElement type) {
+        return isAnnotated(type, CONFIGURATION, new HashSet<>()) ? "Component,Configuration" : "Component";
+    }
+
+    // 런타임에 실패할 구성을 컴파일 단계에서 미리 알린다
+    private void validate(TypeElement type) {
+        Messager messager = processingEnv.getMessager();
+        List<ExecutableElement> ctors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        long injects = ctors.stream().filter(c -> hasDirect(c, INJECT)).count();
+        if (injects > 1) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Inject constructor must be single", type);
+        }
+        if (!isAnnotated(type, CONFIGURATION, new HashSet<>())) {
+            for (ExecutableElement m : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (hasDirect(m, BEAN)) {
+                    messager.printMessage(Diagnostic.Kind.WARNING,
+                            "@Bean method is ignored outside @Configuration", m);
+                }
+            }
+        }
+    }
+
+    private void warnIfMisplaced(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS && hasDirect(type, SCOPE)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@Scope has no effect without @Component", type);
+        }
+        if (type.getKind() == ElementKind.CLASS && hasDirect(type, LAZY)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "@Lazy has no effect without @Component", type);
+        }
+    }
+
+    // 직접 또는 메타 애노테이션(@Configuration → @Component)으로 붙어 있는지
+    private boolean isAnnotated(Element element, String annotation, Set<String> visited) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = nameOf(mirror);
+            if (name.equals(annotation)) return true;
+            if (name.startsWith("java.lang.annotation.") || !visited.add(name)) continue;
+            if (isAnnotated(mirror.getAnnotationType().asElement(), annotation, visited)) return true;
+        }
+        return false;
+    }
+
+    private static boolean hasDirect(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream().anyMatch(m -> nameOf(m).equals(annotation));
+    }
+
+    private static String nameOf(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    // 증분 컴파일 시 이전 빌드 결과를 이어받는다 (없으면 무시)
+    private void loadExistingIndex() {
+        try {
+            FileObject existing = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            Properties props = new Properties();
+            try (InputStream in = existing.openInputStream()) {
+                props.load(in);
+            }
+            hadExistingIndex = true;
+            Elements elements = processingEnv.getElementUtils();
+            for (String name : props.stringPropertyNames()) {
+                // 삭제된 클래스는 버린다
+                if (elements.getTypeElement(name.replace('$', '.')) != null) {
+                    entries.put(name, props.getProperty(name));
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // 첫 빌드: 기존 인덱스 없음
+        }
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (OutputStream out = file.openOutputStream()) {
+                StringBuilder sb = new StringBuilder();
+                for (Map.Entry<String, String> e : entries.entrySet()) {
+                    sb.append(e.getKey()).append('=').append(e.getValue()).append('\n');
+                }
+                out.write(sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+}
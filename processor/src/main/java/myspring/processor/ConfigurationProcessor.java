@@ -0,0 +1,205 @@
+package myspring.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code @Configuration} 클래스마다 하위 클래스 {@code 바이너리 이름 + $$Enhanced}를 같은 패키지에 생성하는 애노테이션 프로세서.
+ * <p>
+ * 하위 클래스는 인스턴스 @Bean 메서드를 재정의해, 컨테이너가 바로 그 빈을 만드는 중일 때만 원래 본문을 실행하고
+ * 나머지 호출(다른 @Bean 메서드에서의 직접 호출 등)은 {@code BeanMethodCalls}로 컨테이너에서 꺼낸 빈을 돌려준다.
+ * 생성자는 파라미터(애노테이션 포함)를 그대로 옮겨 상위 생성자를 부른다.
+ * {@code proxyBeanMethods = false}(lite 모드)이거나 인스턴스 @Bean 메서드가 없으면 만들지 않는다.
+ * 재정의할 수 없는 선언(final/private 클래스·@Bean 메서드 등)은 컴파일 에러로 보고한다.
+ */
+@SupportedAnnotationTypes(ConfigurationProcessor.CONFIGURATION)
+public class ConfigurationProcessor extends AbstractProcessor {
+
+    static final String CONFIGURATION = "myspring.core.annotation.Configuration";
+    static final String BEAN = "myspring.core.annotation.Bean";
+    static final String ENHANCED_SUFFIX = "$$Enhanced";
+    private static final String CALLS = "myspring.core.BeanMethodCalls";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (type.getKind() == ElementKind.CLASS && proxyBeanMethods(type)) enhance(type);
+            }
+        }
+        return false; // BeanIndexProcessor도 같은 클래스를 본다
+    }
+
+    private static boolean proxyBeanMethods(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!nameOf(mirror).equals(CONFIGURATION)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : mirror.getElementValues().entrySet()) {
+                if (e.getKey().getSimpleName().contentEquals("proxyBeanMethods")) return (Boolean) e.getValue().getValue();
+            }
+        }
+        return true;
+    }
+
+    private void enhance(TypeElement type) {
+        List<ExecutableElement> beanMethods = new ArrayList<>();
+        for (ExecutableElement m : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (hasDirect(m, BEAN) && !m.getModifiers().contains(Modifier.STATIC)) beanMethods.add(m);
+        }
+        if (beanMethods.isEmpty()) return; // 가로챌 메서드가 없으면 원래 클래스로 충분
+        List<ExecutableElement> ctors = new ArrayList<>();
+        for (ExecutableElement c : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!c.getModifiers().contains(Modifier.PRIVATE)) ctors.add(c);
+        }
+        if (!validate(type, beanMethods, ctors)) return;
+
+        String pkg = packageOf(type);
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (pkg.isEmpty() ? binaryName : binaryName.substring(pkg.length() + 1)) + ENHANCED_SUFFIX;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    (pkg.isEmpty() ? "" : pkg + ".") + simpleName, type);
+            try (Writer out = file.openWriter()) {
+                out.write(source(type, pkg, simpleName, beanMethods, ctors));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + simpleName + ": " + e.getMessage(), type);
+        }
+    }
+
+    // 하위 클래스로 재정의할 수 없으면 에러 (lite 모드로 바꾸면 사라진다)
+    private boolean validate(TypeElement type, List<ExecutableElement> beanMethods, List<ExecutableElement> ctors) {
+        Messager messager = processingEnv.getMessager();
+        boolean valid = true;
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.FINAL) || modifiers.contains(Modifier.PRIVATE)
+                || (type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC))
+                || !type.getTypeParameters().isEmpty() || ctors.isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "@Configuration class must be subclassable"
+                    + " (non-final, non-private, static if nested, no type parameters, a non-private constructor)"
+                    + " or use proxyBeanMethods = false", type);
+            valid = false;
+        }
+        for (ExecutableElement m : beanMethods) {
+            if (m.getModifiers().contains(Modifier.FINAL) || m.getModifiers().contains(Modifier.PRIVATE)
+                    || !m.getTypeParameters().isEmpty() || m.getReturnType().getKind() == TypeKind.VOID) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@Bean method must be overridable"
+                        + " (non-final, non-private, non-generic, non-void) or use proxyBeanMethods = false", m);
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private String source(TypeElement type, String pkg, String simpleName,
+                          List<ExecutableElement> beanMethods, List<ExecutableElement> ctors) {
+        StringBuilder sb = new StringBuilder();
+        if (!pkg.isEmpty()) sb.append("package ").append(pkg).append(";\n\n");
+        sb.append("// ").append(getClass().getName()).append("가 생성한 코드: @Bean 메서드끼리의 호출을 컨테이너로 넘긴다\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("final class ").append(simpleName).append(" extends ").append(type.getQualifiedName())
+                .append(" implements ").append(CALLS).append(".Enhanced {\n\n")
+                .append("    private ").append(CALLS).append(" beanMethodCalls;\n");
+
+        for (ExecutableElement ctor : ctors) {
+            sb.append("\n    ").append(simpleName).append('(').append(parameters(ctor, true)).append(')')
+                    .append(throwsClause(ctor)).append(" {\n")
+                    .append("        super(").append(arguments(ctor)).append(");\n")
+                    .append("    }\n");
+        }
+
+        sb.append("\n    @Override\n")
+                .append("    public void bindBeanMethodCalls(").append(CALLS).append(" calls) {\n")
+                .append("        this.beanMethodCalls = calls;\n")
+                .append("    }\n");
+
+        for (ExecutableElement m : beanMethods) {
+            String beanType = processingEnv.getTypeUtils().erasure(m.getReturnType()).toString() + ".class";
+            sb.append("\n    @Override\n    ").append(access(m)).append(m.getReturnType()).append(' ')
+                    .append(m.getSimpleName()).append('(').append(parameters(m, false)).append(')')
+                    .append(throwsClause(m)).append(" {\n")
+                    // 생성자에서 부른 경우(아직 연결 전)나 컨테이너가 이 빈을 만드는 중이면 원래 본문
+                    .append("        if (beanMethodCalls == null || beanMethodCalls.proceed(").append(beanType).append(")) {\n")
+                    .append("            return super.").append(m.getSimpleName()).append('(').append(arguments(m)).append(");\n")
+                    .append("        }\n")
+                    .append("        return beanMethodCalls.bean(").append(beanType).append(");\n")
+                    .append("    }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    // 파라미터 이름은 p0..pn (필드 beanMethodCalls와 겹치지 않게). 생성자는 @Qualifier 등 파라미터 애노테이션도 옮긴다
+    private static String parameters(ExecutableElement e, boolean withAnnotations) {
+        List<? extends VariableElement> params = e.getParameters();
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < params.size(); i++) {
+            VariableElement p = params.get(i);
+            String annotations = withAnnotations
+                    ? p.getAnnotationMirrors().stream().map(a -> a + " ").collect(Collectors.joining())
+                    : "";
+            result.add(annotations + p.asType() + " p" + i);
+        }
+        return String.join(", ", result);
+    }
+
+    private static String arguments(ExecutableElement e) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < e.getParameters().size(); i++) result.add("p" + i);
+        return String.join(", ", result);
+    }
+
+    private static String throwsClause(ExecutableElement e) {
+        List<? extends TypeMirror> thrown = e.getThrownTypes();
+        if (thrown.isEmpty()) return "";
+        return " throws " + thrown.stream().map(TypeMirror::toString).collect(Collectors.joining(", "));
+    }
+
+    private static String access(ExecutableElement m) {
+        if (m.getModifiers().contains(Modifier.PUBLIC)) return "public ";
+        if (m.getModifiers().contains(Modifier.PROTECTED)) return "protected ";
+        return "";
+    }
+
+    private static String packageOf(Element element) {
+        while (!(element instanceof PackageElement)) element = element.getEnclosingElement();
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    private static boolean hasDirect(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream().anyMatch(m -> nameOf(m).equals(annotation));
+    }
+
+    private static String nameOf(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+}
@@ -0,0 +1,277 @@
+package myspring.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code @Lazy} 빈 클래스마다 하위 클래스 {@code 바이너리 이름 + $$Lazy}를 같은 패키지에 생성하는 애노테이션 프로세서.
+ * 구체 클래스로 @Lazy 빈을 주입받는 지점에 JDK 프록시 대신 들어간다.
+ * <p>
+ * 대상은 @Lazy 클래스와, @Lazy @Bean 메서드의 반환 타입이 클래스인 경우다.
+ * 하위 클래스는 재정의할 수 있는 메서드를 모두 {@code LazyBeanTarget}이 처음 호출 때 만드는 실제 빈으로 위임하고,
+ * equals/hashCode는 프록시 자체 기준, toString은 대상이 없으면 대상을 만들지 않는다.
+ * 하위 클래스를 만들 수 없는 클래스(final/private, 타입 파라미터 등)는 건너뛴다 (인터페이스로 주입받으면 된다).
+ * final 메서드는 위임되지 않으므로 경고한다.
+ */
+@SupportedAnnotationTypes(LazyProcessor.LAZY)
+public class LazyProcessor extends AbstractProcessor {
+
+    static final String LAZY = "myspring.core.annotation.Lazy";
+    static final String BEAN = "myspring.core.annotation.Bean";
+    static final String LAZY_SUFFIX = "$$Lazy";
+    private static final String TARGET = "myspring.core.LazyBeanTarget";
+
+    private final Set<String> generated = new HashSet<>(); // 여러 @Bean 메서드가 같은 타입을 돌려줘도 한 번만
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!lazy(element)) continue;
+                if (element.getKind() == ElementKind.CLASS) {
+                    generate((TypeElement) element, element);
+                } else if (element.getKind() == ElementKind.METHOD && hasDirect(element, BEAN)) {
+                    TypeMirror returnType = ((ExecutableElement) element).getReturnType();
+                    if (returnType.getKind() != TypeKind.DECLARED) continue;
+                    Element returned = ((DeclaredType) returnType).asElement();
+                    if (returned.getKind() == ElementKind.CLASS) generate((TypeElement) returned, element);
+                }
+            }
+        }
+        return false; // BeanIndexProcessor 등도 같은 요소를 본다
+    }
+
+    private static boolean lazy(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (!nameOf(mirror).equals(LAZY)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : mirror.getElementValues().entrySet()) {
+                if (e.getKey().getSimpleName().contentEquals("value")) return (Boolean) e.getValue().getValue();
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, Element origin) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        if (!subclassable(type) || !processingEnv.getElementUtils().getModuleOf(type).isUnnamed()
+                || !generated.add(binaryName)) {
+            return; // JDK 등 이름 있는 모듈의 패키지에는 클래스를 추가할 수 없다
+        }
+        ExecutableElement ctor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .filter(c -> !c.getModifiers().contains(Modifier.PRIVATE)).findFirst().orElse(null);
+        if (ctor == null) return;
+
+        String pkg = packageOf(type);
+        String simpleName = (pkg.isEmpty() ? binaryName : binaryName.substring(pkg.length() + 1)) + LAZY_SUFFIX;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                    (pkg.isEmpty() ? "" : pkg + ".") + simpleName, origin);
+            try (Writer out = file.openWriter()) {
+                out.write(source(type, pkg, simpleName, ctor));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate " + simpleName + ": " + e.getMessage(), origin);
+        }
+    }
+
+    private static boolean subclassable(TypeElement type) {
+        Set<Modifier> modifiers = type.getModifiers();
+        return !modifiers.contains(Modifier.FINAL) && !modifiers.contains(Modifier.PRIVATE)
+                && !modifiers.contains(Modifier.ABSTRACT)
+                && (type.getNestingKind() == NestingKind.TOP_LEVEL
+                    || (type.getNestingKind() == NestingKind.MEMBER && modifiers.contains(Modifier.STATIC)))
+                && type.getTypeParameters().isEmpty();
+    }
+
+    private String source(TypeElement type, String pkg, String simpleName, ExecutableElement ctor) {
+        String typeName = type.getQualifiedName().toString();
+        StringBuilder sb = new StringBuilder();
+        if (!pkg.isEmpty()) sb.append("package ").append(pkg).append(";\n\n");
+        sb.append("// ").append(getClass().getName()).append("가 생성한 코드: 첫 호출 때 만든 실제 빈으로 위임한다\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\", \"deprecation\"})\n")
+                .append("final class ").append(simpleName).append(" extends ").append(typeName)
+                .append(" implements ").append(TARGET).append(".Generated {\n\n")
+                .append("    private ").append(TARGET).append(" lazyTarget;\n");
+
+        // 보통은 실행되지 않는다 (LazyBeanTarget이 생성자 없이 만든다). 그럴 수 없는 런타임에서만 상위 생성자를 기본값으로 부른다
+        sb.append("\n    private ").append(simpleName).append("()").append(throwsClause(ctor.getThrownTypes())).append(" {\n")
+                .append("        super(").append(defaults(ctor)).append(");\n")
+                .append("    }\n");
+
+        sb.append("\n    @Override\n")
+                .append("    public void bindLazyTarget(").append(TARGET).append(" target) {\n")
+                .append("        this.lazyTarget = target;\n")
+                .append("    }\n");
+
+        DeclaredType declared = (DeclaredType) type.asType();
+        for (ExecutableElement m : overridable(type, pkg)) {
+            ExecutableType resolved = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declared, m);
+            String name = m.getSimpleName().toString();
+            sb.append("\n    @Override\n    ").append(access(m)).append(typeParameters(m))
+                    .append(resolved.getReturnType()).append(' ').append(name)
+                    .append('(').append(parameters(m, resolved)).append(')')
+                    .append(throwsClause(resolved.getThrownTypes())).append(" {\n        ");
+            if (isObjectMethod(m, "equals", 1)) {
+                sb.append("return this == p0;\n");
+            } else if (isObjectMethod(m, "hashCode", 0)) {
+                sb.append("return System.identityHashCode(this);\n");
+            } else if (isObjectMethod(m, "toString", 0)) {
+                sb.append("return lazyTarget.toString();\n");
+            } else {
+                if (resolved.getReturnType().getKind() != TypeKind.VOID) sb.append("return ");
+                sb.append("((").append(typeName).append(") lazyTarget.get()).").append(name)
+                        .append('(').append(arguments(m)).append(");\n");
+            }
+            sb.append("    }\n");
+        }
+        return sb.append("}\n").toString();
+    }
+
+    // 재정의할 메서드: 상속한 것 포함, 시그니처마다 가장 구체적인 선언 하나.
+    // 다른 패키지의 protected/package-private 메서드는 대상 참조로 부를 수 없어 뺀다. Object 메서드는 equals/hashCode/toString만
+    private List<ExecutableElement> overridable(TypeElement type, String pkg) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        DeclaredType declared = (DeclaredType) type.asType();
+        Map<String, ExecutableElement> bySignature = new LinkedHashMap<>();
+        for (ExecutableElement m : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            Set<Modifier> modifiers = m.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)
+                    || isObjectMethod(m, "finalize", 0)) {
+                continue; // finalize를 위임하면 GC가 대상을 만든다
+            }
+            TypeElement owner = (TypeElement) m.getEnclosingElement();
+            if (owner.getQualifiedName().contentEquals("java.lang.Object")
+                    && !isObjectMethod(m, "equals", 1) && !isObjectMethod(m, "hashCode", 0) && !isObjectMethod(m, "toString", 0)) {
+                continue;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(owner).equals(pkg)) continue;
+            ExecutableType resolved = (ExecutableType) types.asMemberOf(declared, m);
+            String signature = m.getSimpleName() + resolved.getParameterTypes().stream()
+                    .map(t -> types.erasure(t).toString()).collect(Collectors.joining(",", "(", ")"));
+            ExecutableElement existing = bySignature.get(signature);
+            if (existing == null || elements.overrides(m, existing, type)) bySignature.put(signature, m);
+        }
+        List<ExecutableElement> result = new ArrayList<>();
+        for (ExecutableElement m : bySignature.values()) {
+            if (m.getModifiers().contains(Modifier.FINAL)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "final method "
+                        + m.getEnclosingElement() + "." + m.getSimpleName() + " is not delegated by the @Lazy subclass"
+                        + " (runs on the uninitialized proxy when injected by class)", type);
+                continue;
+            }
+            result.add(m);
+        }
+        return result;
+    }
+
+    private static boolean isObjectMethod(ExecutableElement m, String name, int parameters) {
+        return m.getSimpleName().contentEquals(name) && m.getParameters().size() == parameters
+                && (parameters == 0 || m.getParameters().get(0).asType().toString().equals("java.lang.Object"));
+    }
+
+    private static String typeParameters(ExecutableElement m) {
+        if (m.getTypeParameters().isEmpty()) return "";
+        List<String> result = new ArrayList<>();
+        for (TypeParameterElement p : m.getTypeParameters()) {
+            List<String> bounds = p.getBounds().stream().map(TypeMirror::toString)
+                    .filter(b -> !b.equals("java.lang.Object")).collect(Collectors.toList());
+            result.add(p.getSimpleName() + (bounds.isEmpty() ? "" : " extends " + String.join(" & ", bounds)));
+        }
+        return "<" + String.join(", ", result) + "> ";
+    }
+
+    // 파라미터 이름은 p0..pn (필드 lazyTarget과 겹치지 않게)
+    private static String parameters(ExecutableElement m, ExecutableType resolved) {
+        List<? extends TypeMirror> params = resolved.getParameterTypes();
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < params.size(); i++) {
+            TypeMirror type = params.get(i);
+            String typeName = (m.isVarArgs() && i == params.size() - 1)
+                    ? ((ArrayType) type).getComponentType() + "..."
+                    : type.toString();
+            result.add(typeName + " p" + i);
+        }
+        return String.join(", ", result);
+    }
+
+    private static String arguments(ExecutableElement e) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < e.getParameters().size(); i++) result.add("p" + i);
+        return String.join(", ", result);
+    }
+
+    // 상위 생성자에 넘길 기본값 (오버로드가 갈리지 않게 타입을 붙인다)
+    private String defaults(ExecutableElement ctor) {
+        Types types = processingEnv.getTypeUtils();
+        List<String> result = new ArrayList<>();
+        for (Element p : ctor.getParameters()) {
+            TypeMirror type = p.asType();
+            if (type.getKind() == TypeKind.BOOLEAN) result.add("false");
+            else if (type.getKind().isPrimitive()) result.add("(" + type + ") 0");
+            else result.add("(" + types.erasure(type) + ") null");
+        }
+        return String.join(", ", result);
+    }
+
+    private static String throwsClause(List<? extends TypeMirror> thrown) {
+        if (thrown.isEmpty()) return "";
+        return " throws " + thrown.stream().map(TypeMirror::toString).collect(Collectors.joining(", "));
+    }
+
+    private static String access(ExecutableElement m) {
+        if (m.getModifiers().contains(Modifier.PUBLIC)) return "public ";
+        if (m.getModifiers().contains(Modifier.PROTECTED)) return "protected ";
+        return "";
+    }
+
+    private static String packageOf(Element element) {
+        while (!(element instanceof PackageElement)) element = element.getEnclosingElement();
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    private static boolean hasDirect(Element element, String annotation) {
+        return element.getAnnotationMirrors().stream().anyMatch(m -> nameOf(m).equals(annotation));
+    }
+
+    private static String nameOf(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+}
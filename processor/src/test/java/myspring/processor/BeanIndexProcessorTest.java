@@ -0,0 +1,126 @@
+package myspring.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanIndexProcessorTest {
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) { return code; }
+        };
+    }
+
+    private static Properties compile(Path out, DiagnosticCollector<JavaFileObject> diagnostics,
+                                      JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fm = compiler.getStandardFileManager(diagnostics, null, null)) {
+            fm.setLocation(StandardLocation.CLASS_OUTPUT, List.of(out.toFile()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fm, diagnostics, null, null, List.of(sources));
+            task.setProcessors(List.of(new BeanIndexProcessor()));
+            task.call();
+        }
+        Properties props = new Properties();
+        Path index = out.resolve(BeanIndexProcessor.INDEX_LOCATION);
+        if (Files.exists(index)) {
+            try (InputStream in = Files.newInputStream(index)) {
+                props.load(in);
+            }
+        }
+        return props;
+    }
+
+    // 코어 모듈에 의존하지 않도록 같은 이름의 애노테이션을 함께 컴파일한다
+    private static JavaFileObject[] coreAnnotations() {
+        return new JavaFileObject[]{
+                source("myspring.core.annotation.Component", """
+                        package myspring.core.annotation;
+                        public @interface Component { String value() default ""; }
+                        """),
+                source("myspring.core.annotation.Configuration", """
+                        package myspring.core.annotation;
+                        @Component public @interface Configuration {}
+                        """),
+                source("myspring.core.annotation.Inject", """
+                        package myspring.core.annotation;
+                        public @interface Inject {}
+                        """),
+                source("myspring.core.annotation.Bean", """
+                        package myspring.core.annotation;
+                        public @interface Bean {}
+                        """),
+        };
+    }
+
+    private static JavaFileObject[] with(JavaFileObject... extra) {
+        JavaFileObject[] base = coreAnnotations();
+        JavaFileObject[] all = Arrays.copyOf(base, base.length + extra.length);
+        System.arraycopy(extra, 0, all, base.length, extra.length);
+        return all;
+    }
+
+    @Test
+    @DisplayName("@Component/@Configuration(메타 애노테이션 포함)과 중첩 클래스를 바이너리 이름으로 인덱싱한다")
+    void indexes_components_and_configurations() throws IOException {
+        Path out = Files.createTempDirectory("index");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Properties index = compile(out, diagnostics, with(
+                source("app.Svc", """
+                        package app;
+                        import myspring.core.annotation.*;
+                        @Component public class Svc {
+                            @Component static class Inner {}
+                        }
+                        """),
+                source("app.Cfg", """
+                        package app;
+                        import myspring.core.annotation.*;
+                        @Configuration public class Cfg {}
+                        """),
+                source("app.Plain", """
+                        package app;
+                        public class Plain {}
+                        """)));
+
+        assertEquals("Component", index.getProperty("app.Svc"));
+        assertEquals("Component", index.getProperty("app.Svc$Inner"));
+        assertEquals("Component,Configuration", index.getProperty("app.Cfg"));
+        assertNull(index.getProperty("app.Plain"));
+        // 애노테이션 선언 자체는 빈 후보가 아니다
+        assertNull(index.getProperty("myspring.core.annotation.Configuration"));
+    }
+
+    @Test
+    @DisplayName("@Inject 생성자가 둘 이상이면 컴파일 에러로 보고한다")
+    void multiple_inject_constructors_is_compile_error() throws IOException {
+        Path out = Files.createTempDirectory("index");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        compile(out, diagnostics, with(
+                source("app.Bad", """
+                        package app;
+                        import myspring.core.annotation.*;
+                        @Component public class Bad {
+                            @Inject Bad() {}
+                            @Inject Bad(String s) {}
+                        }
+                        """)));
+
+        assertTrue(diagnostics.getDiagnostics().stream()
+                .anyMatch(d -> d.getKind() == Diagnostic.Kind.ERROR
+                        && d.getMessage(null).contains("@Inject constructor must be single")));
+    }
+}
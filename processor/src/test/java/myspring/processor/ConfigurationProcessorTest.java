@@ -0,0 +1,118 @@
+package myspring.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurationProcessorTest {
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) { return code; }
+        };
+    }
+
+    private static boolean compile(Path out, DiagnosticCollector<JavaFileObject> diagnostics,
+                                   JavaFileObject config) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fm = compiler.getStandardFileManager(diagnostics, null, null)) {
+            fm.setLocation(StandardLocation.CLASS_OUTPUT, List.of(out.toFile()));
+            fm.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(out.toFile()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fm, diagnostics, null, null,
+                    List.of(coreTypes()[0], coreTypes()[1], coreTypes()[2], coreTypes()[3], config));
+            task.setProcessors(List.of(new ConfigurationProcessor()));
+            return task.call();
+        }
+    }
+
+    // 코어 모듈에 의존하지 않도록 같은 이름의 애노테이션과 생성된 코드가 부르는 타입을 함께 컴파일한다
+    private static JavaFileObject[] coreTypes() {
+        return new JavaFileObject[]{
+                source("myspring.core.annotation.Configuration", """
+                        package myspring.core.annotation;
+                        public @interface Configuration { boolean proxyBeanMethods() default true; }
+                        """),
+                source("myspring.core.annotation.Bean", """
+                        package myspring.core.annotation;
+                        public @interface Bean {}
+                        """),
+                source("myspring.core.annotation.Qualifier", """
+                        package myspring.core.annotation;
+                        public @interface Qualifier { String value(); }
+                        """),
+                source("myspring.core.BeanMethodCalls", """
+                        package myspring.core;
+                        public final class BeanMethodCalls {
+                            public interface Enhanced { void bindBeanMethodCalls(BeanMethodCalls calls); }
+                            public boolean proceed(Class<?> beanType) { return false; }
+                            public <T> T bean(Class<T> beanType) { return null; }
+                        }
+                        """),
+        };
+    }
+
+    @Test
+    @DisplayName("인스턴스 @Bean 메서드와 생성자를 옮긴 하위 클래스를 생성하고, lite 모드면 만들지 않는다")
+    void generates_enhanced_subclass() throws IOException {
+        Path out = Files.createTempDirectory("enhanced");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(compile(out, diagnostics, source("app.Outer", """
+                package app;
+                import myspring.core.annotation.*;
+                import java.util.List;
+                public class Outer {
+                    @Configuration static class Cfg {
+                        Cfg(@Qualifier("main") String name) throws Exception {}
+                        @Bean List<String> names() { return List.of(); }
+                        @Bean public int port() throws java.io.IOException { return 1; }
+                        @Bean static String label() { return ""; }
+                    }
+                    @Configuration(proxyBeanMethods = false) static class Lite {
+                        @Bean String lite() { return ""; }
+                    }
+                }
+                """)), diagnostics.getDiagnostics().toString());
+
+        String generated = Files.readString(out.resolve("app/Outer$Cfg$$Enhanced.java"));
+        assertTrue(generated.contains("extends app.Outer.Cfg implements myspring.core.BeanMethodCalls.Enhanced"), generated);
+        assertTrue(generated.contains("Outer$Cfg$$Enhanced(@myspring.core.annotation.Qualifier(\"main\") java.lang.String p0) throws java.lang.Exception"), generated);
+        assertTrue(generated.contains("java.util.List<java.lang.String> names()"), generated);
+        assertTrue(generated.contains("return beanMethodCalls.bean(java.util.List.class);"), generated);
+        assertTrue(generated.contains("public int port() throws java.io.IOException"), generated);
+        assertFalse(generated.contains("label"), generated); // static @Bean은 재정의할 수 없다
+        assertTrue(Files.exists(out.resolve("app/Outer$Cfg$$Enhanced.class")));
+        assertFalse(Files.exists(out.resolve("app/Outer$Lite$$Enhanced.java")));
+    }
+
+    @Test
+    @DisplayName("final 클래스나 private/final @Bean 메서드는 컴파일 에러로 보고한다")
+    void non_overridable_declarations_are_compile_errors() throws IOException {
+        Path out = Files.createTempDirectory("enhanced");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(compile(out, diagnostics, source("app.Bad", """
+                package app;
+                import myspring.core.annotation.*;
+                @Configuration public final class Bad {
+                    @Bean private String hidden() { return ""; }
+                    @Bean final Integer fixed() { return 1; }
+                }
+                """)));
+
+        List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .toList();
+        assertEquals(1, errors.stream().filter(m -> m.startsWith("@Configuration class must be subclassable")).count(), errors.toString());
+        assertEquals(2, errors.stream().filter(m -> m.startsWith("@Bean method must be overridable")).count(), errors.toString());
+    }
+}
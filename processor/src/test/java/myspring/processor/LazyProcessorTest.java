@@ -0,0 +1,133 @@
+package myspring.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyProcessorTest {
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) { return code; }
+        };
+    }
+
+    private static boolean compile(Path out, DiagnosticCollector<JavaFileObject> diagnostics,
+                                   JavaFileObject... sources) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fm = compiler.getStandardFileManager(diagnostics, null, null)) {
+            fm.setLocation(StandardLocation.CLASS_OUTPUT, List.of(out.toFile()));
+            fm.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(out.toFile()));
+            List<JavaFileObject> all = new ArrayList<>(List.of(coreTypes()));
+            all.addAll(List.of(sources));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fm, diagnostics, null, null, all);
+            task.setProcessors(List.of(new LazyProcessor()));
+            return task.call();
+        }
+    }
+
+    // 코어 모듈에 의존하지 않도록 같은 이름의 애노테이션과 생성된 코드가 부르는 타입을 함께 컴파일한다
+    private static JavaFileObject[] coreTypes() {
+        return new JavaFileObject[]{
+                source("myspring.core.annotation.Lazy", """
+                        package myspring.core.annotation;
+                        public @interface Lazy { boolean value() default true; }
+                        """),
+                source("myspring.core.annotation.Bean", """
+                        package myspring.core.annotation;
+                        public @interface Bean {}
+                        """),
+                source("myspring.core.LazyBeanTarget", """
+                        package myspring.core;
+                        public final class LazyBeanTarget {
+                            public interface Generated { void bindLazyTarget(LazyBeanTarget target); }
+                            public Object get() { return null; }
+                        }
+                        """),
+        };
+    }
+
+    @Test
+    @DisplayName("@Lazy 클래스와 @Lazy @Bean 반환 클래스마다 모든 메서드를 위임하는 하위 클래스를 생성한다")
+    void generates_lazy_subclass() throws IOException {
+        Path out = Files.createTempDirectory("lazy");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(compile(out, diagnostics, source("app.Base", """
+                package app;
+                public abstract class Base<T> implements Comparable<Base<T>> {
+                    public abstract T load(String key) throws java.io.IOException;
+                    protected void touch(String... keys) {}
+                    public int compareTo(Base<T> other) { return 0; }
+                }
+                """), source("app.Store", """
+                package app;
+                import myspring.core.annotation.Lazy;
+                @Lazy public class Store extends Base<Integer> {
+                    public Store(String url, int port) { throw new IllegalStateException("not called"); }
+                    public Integer load(String key) { return 1; }
+                    <R extends CharSequence> R echo(R value) { return value; }
+                    public final String id() { return "store"; }
+                    @Override public boolean equals(Object o) { return false; }
+                }
+                """), source("app.Config", """
+                package app;
+                import myspring.core.annotation.*;
+                public class Config {
+                    @Bean @Lazy Index index() { return new Index(); }
+                    @Bean @Lazy java.util.ArrayList<String> names() { return new java.util.ArrayList<>(); }
+                    @Bean @Lazy(false) Eager eager() { return new Eager(); }
+                }
+                class Index { void rebuild() {} }
+                class Eager {}
+                """)), diagnostics.getDiagnostics().toString());
+
+        String store = Files.readString(out.resolve("app/Store$$Lazy.java"));
+        assertTrue(store.contains("final class Store$$Lazy extends app.Store implements myspring.core.LazyBeanTarget.Generated"), store);
+        assertTrue(store.contains("super((java.lang.String) null, (int) 0);"), store);
+        assertTrue(store.contains("public java.lang.Integer load(java.lang.String p0) {"), store);
+        assertTrue(store.contains("return ((app.Store) lazyTarget.get()).load(p0);"), store);
+        assertTrue(store.contains("protected void touch(java.lang.String... p0) {"), store);
+        assertTrue(store.contains("<R extends java.lang.CharSequence> R echo(R p0)"), store);
+        assertTrue(store.contains("public int compareTo(app.Base<java.lang.Integer> p0)"), store);
+        assertTrue(store.contains("return this == p0;"), store);
+        assertTrue(store.contains("return System.identityHashCode(this);"), store);
+        assertTrue(store.contains("return lazyTarget.toString();"), store);
+        assertFalse(store.contains(" id()"), store);
+        assertFalse(store.contains("finalize"), store);
+        assertTrue(diagnostics.getDiagnostics().stream().anyMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                && d.getMessage(null).startsWith("final method app.Store.id is not delegated")), diagnostics.getDiagnostics().toString());
+
+        assertTrue(Files.exists(out.resolve("app/Index$$Lazy.class")));
+        assertFalse(Files.exists(out.resolve("java/util/ArrayList$$Lazy.java"))); // JDK 클래스에는 만들지 않는다
+        assertFalse(Files.exists(out.resolve("app/Eager$$Lazy.java")));
+    }
+
+    @Test
+    @DisplayName("하위 클래스를 만들 수 없는 @Lazy 클래스는 건너뛴다 (인터페이스 주입은 그대로 가능)")
+    void skips_classes_that_cannot_be_subclassed() throws IOException {
+        Path out = Files.createTempDirectory("lazy");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(compile(out, diagnostics, source("app.Sealed", """
+                package app;
+                import myspring.core.annotation.Lazy;
+                @Lazy public final class Sealed {}
+                @Lazy class Generic<T> {}
+                @Lazy class Hidden { private Hidden() {} }
+                """)), diagnostics.getDiagnostics().toString());
+
+        assertFalse(Files.exists(out.resolve("app/Sealed$$Lazy.java")));
+        assertFalse(Files.exists(out.resolve("app/Generic$$Lazy.java")));
+        assertFalse(Files.exists(out.resolve("app/Hidden$$Lazy.java")));
+    }
+}
@@ -0,0 +1,41 @@
+package myspring.bench;
+
+import myspring.core.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ApplicationContext} 생성 비용: 정의 등록만 (기본, lazy) vs 모든 싱글톤 eager 생성 (단일 스레드 / CPU 수만큼 병렬).
+ * graphSize는 build.gradle의 bench.graph.sizes와 같아야 한다 (jmh 태스크가 자동으로 넘긴다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContextStartupBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int graphSize;
+
+    private String basePackage;
+
+    @Setup
+    public void setUp() {
+        basePackage = GraphPackages.of(graphSize);
+    }
+
+    @Benchmark
+    public ApplicationContext startup() {
+        return ApplicationContext.of(basePackage);
+    }
+
+    @Benchmark
+    public ApplicationContext startupEager() {
+        return ApplicationContext.builder(basePackage).eagerInit(1).build();
+    }
+
+    @Benchmark
+    public ApplicationContext startupEagerParallel() {
+        return ApplicationContext.builder(basePackage).eagerInit().build();
+    }
+}
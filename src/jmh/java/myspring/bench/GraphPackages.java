@@ -0,0 +1,19 @@
+package myspring.bench;
+
+// generateBenchGraph 태스크(build.gradle)가 만든 빈 그래프 패키지/클래스 이름 규칙
+final class GraphPackages {
+
+    private GraphPackages() {}
+
+    static String of(int size) {
+        return "myspring.bench.graph.g" + size;
+    }
+
+    static Class<?> beanClass(int size, int index) throws ClassNotFoundException {
+        return Class.forName(of(size) + ".Bean" + index);
+    }
+
+    static Class<?> rootInterface(int size) throws ClassNotFoundException {
+        return Class.forName(of(size) + ".GraphRoot");
+    }
+}
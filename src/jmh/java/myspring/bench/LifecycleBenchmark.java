@@ -0,0 +1,60 @@
+package myspring.bench;
+
+import myspring.bench.fixture.LifecycleComponent;
+import myspring.bench.fixture.PrototypeComponent;
+import myspring.bench.fixture.SharedDependency;
+import myspring.core.ApplicationContext;
+import myspring.core.LifecycleProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라이프사이클 콜백 오버헤드.
+ * prototypeWithCallbacks - prototypeWithoutCallbacks = 생성 경로에서의 @PostConstruct 비용,
+ * postConstructOnly/noCallbacks = LifecycleProcessor 단독 비용 (콜백 없는 클래스는 메타 조회만 하고 반환해야 한다).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LifecycleBenchmark {
+
+    private ApplicationContext ctx;
+    private final LifecycleProcessor lifecycle = new LifecycleProcessor();
+    private LifecycleComponent withCallbacks;
+    private SharedDependency withoutCallbacks;
+
+    @Setup
+    public void setUp() {
+        ctx = ApplicationContext.of("myspring.bench.fixture");
+        withCallbacks = ctx.getBean(LifecycleComponent.class);
+        withoutCallbacks = ctx.getBean(SharedDependency.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public LifecycleComponent prototypeWithCallbacks() {
+        return ctx.getBean(LifecycleComponent.class);
+    }
+
+    @Benchmark
+    public PrototypeComponent prototypeWithoutCallbacks() {
+        return ctx.getBean(PrototypeComponent.class);
+    }
+
+    @Benchmark
+    public Object postConstructOnly() {
+        lifecycle.invokePostConstruct(withCallbacks);
+        return withCallbacks;
+    }
+
+    @Benchmark
+    public Object noCallbacks() {
+        lifecycle.invokePostConstruct(withoutCallbacks);
+        return withoutCallbacks;
+    }
+}
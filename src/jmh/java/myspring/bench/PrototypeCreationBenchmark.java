@@ -0,0 +1,89 @@
+package myspring.bench;
+
+import myspring.bench.fixture.BenchConfig;
+import myspring.bench.fixture.Codec;
+import myspring.bench.fixture.PrototypeComponent;
+import myspring.core.ApplicationContext;
+import myspring.core.LifecycleProcessor;
+import myspring.core.annotation.Inject;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PROTOTYPE 생성 경로 비교: 컨테이너(MethodHandle 팩토리) vs 이전 리플렉션 경로.
+ * <p>
+ * reflective* 벤치마크는 팩토리 도입 전 createNewInstanceGraph가 매 호출마다 하던 일
+ * (생성자 재탐색, setAccessible, 스트림으로 인자 해결, Constructor.newInstance / Method.invoke, @PostConstruct)을
+ * 그대로 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrototypeCreationBenchmark {
+
+    private ApplicationContext ctx;
+    private BenchConfig config;
+    private Method codecMethod;
+    private final LifecycleProcessor lifecycle = new LifecycleProcessor();
+
+    @Setup
+    public void setUp() throws Exception {
+        ctx = ApplicationContext.of("myspring.bench.fixture");
+        config = new BenchConfig();
+        codecMethod = Arrays.stream(BenchConfig.class.getDeclaredMethods())
+                .filter(m -> m.getName().equals("codec"))
+                .findFirst()
+                .orElseThrow();
+        codecMethod.setAccessible(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public PrototypeComponent componentPrototype() {
+        return ctx.getBean(PrototypeComponent.class);
+    }
+
+    @Benchmark
+    public Object componentPrototypeReflective() throws Exception {
+        Constructor<?> ctor = selectConstructor(PrototypeComponent.class);
+        Object[] args = Arrays.stream(ctor.getParameterTypes())
+                .map(ctx::getBean)
+                .toArray();
+        ctor.setAccessible(true);
+        Object instance = ctor.newInstance(args);
+        lifecycle.invokePostConstruct(instance);
+        return instance;
+    }
+
+    @Benchmark
+    public Codec beanMethodPrototype() {
+        return ctx.getBean(Codec.class);
+    }
+
+    @Benchmark
+    public Object beanMethodPrototypeReflective() throws Exception {
+        Object[] args = Arrays.stream(codecMethod.getParameterTypes())
+                .map(ctx::getBean)
+                .toArray();
+        Object instance = codecMethod.invoke(config, args);
+        lifecycle.invokePostConstruct(instance);
+        return instance;
+    }
+
+    // 이전 ApplicationContext.selectConstructor와 동일
+    private static Constructor<?> selectConstructor(Class<?> clazz) throws NoSuchMethodException {
+        List<Constructor<?>> injects = Arrays.stream(clazz.getDeclaredConstructors())
+                .filter(c -> c.isAnnotationPresent(Inject.class))
+                .toList();
+        return injects.isEmpty() ? clazz.getDeclaredConstructor() : injects.get(0);
+    }
+}
@@ -0,0 +1,57 @@
+package myspring.bench;
+
+import myspring.core.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미 생성된 싱글톤 getBean: 정확한 타입 vs 인터페이스, 단일 스레드 vs 모든 코어 동시 조회.
+ * 그래프 크기가 달라도 조회 비용은 같아야 한다 (타입 인덱스 해시 조회 + 싱글톤 캐시).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SingletonLookupBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int graphSize;
+
+    private ApplicationContext ctx;
+    private Class<?> rootClass;
+    private Class<?> rootInterface;
+
+    @Setup
+    public void setUp() throws Exception {
+        ctx = ApplicationContext.builder(GraphPackages.of(graphSize)).eagerInit().build();
+        rootClass = GraphPackages.beanClass(graphSize, graphSize - 1);
+        rootInterface = GraphPackages.rootInterface(graphSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ctx.close();
+    }
+
+    @Benchmark
+    public Object byExactType() {
+        return ctx.getBean(rootClass);
+    }
+
+    @Benchmark
+    public Object byInterface() {
+        return ctx.getBean(rootInterface);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object byExactTypeContended() {
+        return ctx.getBean(rootClass);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object byInterfaceContended() {
+        return ctx.getBean(rootInterface);
+    }
+}
@@ -0,0 +1,14 @@
+package myspring.bench.fixture;
+
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+import myspring.core.annotation.ScopeType;
+
+@Configuration
+public class BenchConfig {
+
+    @Bean(scope = ScopeType.PROTOTYPE)
+    Codec codec(SharedDependency dependency) {
+        return new Codec(dependency);
+    }
+}
@@ -0,0 +1,13 @@
+package myspring.bench.fixture;
+
+public class Codec {
+    private final SharedDependency dependency;
+
+    public Codec(SharedDependency dependency) {
+        this.dependency = dependency;
+    }
+
+    public int value() {
+        return dependency.value();
+    }
+}
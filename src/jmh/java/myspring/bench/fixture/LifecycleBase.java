@@ -0,0 +1,12 @@
+package myspring.bench.fixture;
+
+import myspring.core.annotation.PostConstruct;
+
+public abstract class LifecycleBase {
+    protected int base;
+
+    @PostConstruct
+    void initBase() {
+        base = 1;
+    }
+}
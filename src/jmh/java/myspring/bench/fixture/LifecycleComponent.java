@@ -0,0 +1,29 @@
+package myspring.bench.fixture;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PostConstruct;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+// PrototypeComponent와 같은 의존성 + 상속된 콜백 포함 @PostConstruct 두 개 → 차이가 라이프사이클 비용
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class LifecycleComponent extends LifecycleBase {
+    private final SharedDependency dependency;
+    private int ready;
+
+    @Inject
+    public LifecycleComponent(SharedDependency dependency) {
+        this.dependency = dependency;
+    }
+
+    @PostConstruct
+    void init() {
+        ready = dependency.value();
+    }
+
+    public int value() {
+        return ready + base;
+    }
+}
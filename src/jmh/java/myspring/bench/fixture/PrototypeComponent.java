@@ -0,0 +1,21 @@
+package myspring.bench.fixture;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class PrototypeComponent {
+    private final SharedDependency dependency;
+
+    @Inject
+    public PrototypeComponent(SharedDependency dependency) {
+        this.dependency = dependency;
+    }
+
+    public int value() {
+        return dependency.value();
+    }
+}
@@ -0,0 +1,10 @@
+package myspring.bench.fixture;
+
+import myspring.core.annotation.Component;
+
+@Component
+public class SharedDependency {
+    public int value() {
+        return 42;
+    }
+}
@@ -5,9 +5,23 @@ import myspring.core.annotation.Component;
 import myspring.core.annotation.PostConstruct;
 import myspring.core.annotation.PreDestroy;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+
 public class Main {
     public static void main(String[] args) {
-        try (ApplicationContext ctx = ApplicationContext.of("myspring")) {
+        // -Dmyspring.snapshot=<파일>: 빈 정의 스냅샷을 쓰고 읽는다 (클래스패스가 그대로면 스캔 생략)
+        ApplicationContext.Builder builder = ApplicationContext.builder("myspring");
+        String snapshot = System.getProperty("myspring.snapshot");
+        if (snapshot != null) builder.snapshot(Path.of(snapshot));
+
+        try (ApplicationContext ctx = builder.build()) {
+            if (Arrays.asList(args).contains("--training-run")) {
+                // AppCDS/AOT 캐시 학습 실행 (./gradlew cdsArchive): 모든 빈을 만들고 바로 끝낸다
+                int singletons = ctx.trainingRun();
+                System.out.println("[training] singletons created: " + singletons);
+                return;
+            }
             DemoService demo = ctx.getBean(DemoService.class);
             demo.doWork();
         }
@@ -41,4 +55,4 @@ class DemoService {
     public void shutdown() {
         System.out.println("[DemoService] @PreDestroy 실행!");
     }
-}
\ No newline at end of file
+}
@@ -3,82 +3,510 @@ package myspring.core;
 import myspring.core.annotation.*;
 import org.reflections.Reflections;
 
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class ApplicationContext implements AutoCloseable {
 
-    // 싱글톤 캐시: SINGLETON 스코프의 인스턴스만 저장
-    private final Map<Class<?>, Object> singletons = new HashMap<>();
+    // 싱글톤 캐시: 계획 번호 → SINGLETON 인스턴스 (이미 생성된 빈 조회는 락 없이 배열에서 읽음)
+    private volatile AtomicReferenceArray<Object> singletons;
 
     // 빈 정의 메타: 컴포넌트 클래스 → 스코프(SINGLETON/PROTOTYPE)
-    private final Map<Class<?>, ScopeType> beanDefinitions = new HashMap<>();
+    private final Map<Class<?>, ScopeType> beanDefinitions = new ConcurrentHashMap<>();
 
+    // @Lazy 빈: 주입 지점에는 프록시가 들어가고, eager 초기화 대상에서도 빠진다
+    private final Set<Class<?>> lazyBeans = ConcurrentHashMap.newKeySet();
 
-    // @Bean 메서드 메타: 반환 타입 → (설정 인스턴스, 메서드, 스코프)
-    private static record BeanMethodMeta(Object configInstance, Method method, ScopeType scope) {}
-    private final Map<Class<?>, BeanMethodMeta> beanMethodsByType = new HashMap<>();
 
-    private final Set<Class<?>> components;
-    private final Set<Class<?>> creating = new HashSet<>();
+    // @Bean 메서드 메타: 반환 타입 → (설정 클래스, 메서드, 스코프). 설정 인스턴스는 처음 호출될 때 생성
+    private static record BeanMethodMeta(Class<?> configClass, Method method, ScopeType scope) {}
+    private final Map<Class<?>, BeanMethodMeta> beanMethodsByType = new ConcurrentHashMap<>();
+    // 생성된 설정 하위 클래스가 @Bean 메서드끼리의 직접 호출을 넘기는 곳 (반환 타입 → 스코프 규칙대로 꺼낸 빈)
+    private final BeanMethodCalls beanMethodCalls = new BeanMethodCalls(type -> getAccordingToScope(this.planByType.get(type)));
+
+    // 빈 이름(@Component value/@Bean name, 없으면 클래스명/메서드명)과 @Qualifier 값
+    private final Map<Class<?>, String> beanNames = new HashMap<>();
+    private final Map<Class<?>, String> beanQualifiers = new HashMap<>();
+
+    // @Cacheable 캐시 (이름 → 캐시)와 메서드를 가로챌 빈의 프록시 설계 (계획 컴파일/새로 고침 때만 채운다)
+    private final Map<String, MethodCache> caches = new ConcurrentHashMap<>();
+    private final Map<Class<?>, InterceptingProxy.Template> proxyTemplates = new HashMap<>();
+
+    // @Async 실행기와 메서드별 디스패처 (클래스명#메서드명 → 디스패처)
+    private final AsyncExecutors asyncExecutors;
+    private final Map<String, AsyncMethod> asyncMethods = new ConcurrentHashMap<>();
+
+    // @EventListener 메서드 (계획 컴파일 때 모음)를 전달하는 이벤트 버스
+    private final EventBus eventBus;
+
+    // POOLED 빈 클래스 → 풀 (처음 borrow할 때 생성)
+    private final ConcurrentMap<Class<?>, BeanPool> pools = new ConcurrentHashMap<>();
+
+    // 스냅샷에서 읽은 생성자 (없으면 계획 컴파일 때 selectConstructor)
+    private final Map<Class<?>, Constructor<?>> selectedConstructors = new HashMap<>();
+
+    // 타입 → 후보 빈 클래스 (정의 등록이 끝난 뒤 생성, 새로 고침 때 다시 생성)
+    private volatile BeanTypeIndex typeIndex;
+
+    // 생성 계획 (컨텍스트 생성 시 전체 그래프를 검증하며 컴파일): 계획 번호 = 배열 위치.
+    // 계획 자체는 불변이고, 새로 고침은 바뀐 계획만 같은 번호에 바꿔 넣고 새 빈은 뒤에 붙인 배열로 통째로 교체한다
+    private volatile BeanPlan[] plans;
+    // 빈 클래스 → 계획 (getBean 진입 시에만 사용, 의존성 주입은 계획 번호로 바로 간다)
+    private volatile Map<Class<?>, BeanPlan> planByType;
+    // 빈 이름 → 계획 (getBean(String, Class)는 해시 조회 한 번)
+    private volatile Map<String, BeanPlan> planByName;
+    // (List/Map, 원소 타입, 한정자) → 컬렉션 공급자 (같은 컬렉션을 받는 주입 지점끼리 공유, 자식이 위임할 때도 재사용)
+    private record CollectionKey(boolean map, Class<?> elementType, String qualifier) {}
+    private final ConcurrentMap<CollectionKey, BeanCollection> collections = new ConcurrentHashMap<>();
+    // 계획 번호 → Provider (스코프 분기를 미리 끝낸 공급자, 주입 지점끼리 공유. POOLED는 null)
+    // 호출할 때 plans[번호]를 읽으므로 새로 고침 뒤에도 같은 공급자가 새 계획을 따른다
+    private volatile Provider<?>[] providers;
+    // 생성 순서 그래프 (@Lazy/Provider 간선 제외, 순환 없음이 검증됨)
+    private volatile BeanDependencyGraph dependencyGraph;
+
+    // 새로 고침은 한 번에 하나씩
+    private final Object refreshLock = new Object();
+
+    // 교착 감지용: 스레드 → 기다리고 있는 빈 (락 경합 때만 기록)
+    private final ConcurrentMap<Thread, BeanPlan> waitingFor = new ConcurrentHashMap<>();
+
+    // 생성 중첩 깊이: 계측 또는 JFR 이벤트가 켜져 있을 때만 센다 (기본 생성 경로에는 ThreadLocal 접근 없음)
+    private final ThreadLocal<int[]> creationDepth = ThreadLocal.withInitial(() -> new int[1]);
 
     // 라이프사이클 위임자
     private final LifecycleProcessor lifecycle = new LifecycleProcessor();
 
+    // THREAD 스코프: 스레드별 빈 묶음 / SCOPED 스코프: runInScope 블록 동안 바인딩되는 빈 묶음
+    private final ThreadScope threadScope = new ThreadScope(lifecycle::invokePreDestroy);
+    private final ThreadLocal<ScopedBeans> currentScope = new ThreadLocal<>();
 
-    private ApplicationContext(String basePackage) {
-        // 1) @Component 스캔
-        Reflections reflections = new Reflections(basePackage);
-        this.components = reflections.getTypesAnnotatedWith(Component.class);
+    // eager 초기화 결과 (eagerInit을 켰을 때만)
+    private final SingletonInitReport singletonInitReport;
 
-        // 2) @Configuration 클래스 처리: 인스턴스 만들고 @Bean 메서드 등록
-        Set<Class<?>> configs = reflections.getTypesAnnotatedWith(Configuration.class);
-        for (Class<?> cfgClass : configs) {
-            Object cfg = getOrCreateAccordingToComponentRules(cfgClass); // DI 지원
-            for (Method m : cfgClass.getDeclaredMethods()) {
-                if (m.isAnnotationPresent(Bean.class)) {
-                    Bean beanAnno = m.getAnnotation(Bean.class);
-                    ScopeType scope = beanAnno.scope();
-                    Class<?> returnType = m.getReturnType();
-                    if (beanMethodsByType.containsKey(returnType)) {
-                        throw new IllegalArgumentException("Duplicate @Bean return type: " + returnType);
-                    }
-                    m.setAccessible(true);
-                    beanMethodsByType.put(returnType, new BeanMethodMeta(cfg, m, scope));
-                    // 타입 기준 조회가 가능하도록 정의에도 등록
-                    beanDefinitions.put(returnType, scope);
-                }
-            }
+    // 빈별 생성 시간 기록 (instrumentation을 켰을 때만, 아니면 null)
+    private final CreationRecorder recorder;
+
+    // PROTOTYPE 인스턴스 추적 (trackPrototypes를 켰을 때만, 아니면 null)
+    private final PrototypeTracker prototypes;
+
+    // @Scheduled 작업 스케줄러 (타이머와 실행기는 첫 작업이 등록될 때 만든다)
+    private final TaskScheduler scheduler;
+
+    // 자식 컨텍스트: 자기 정의에 후보가 없는 타입은 부모에게 위임 (루트면 null)
+    private final ApplicationContext parent;
+
+    // 종료 옵션: 싱글톤 @PreDestroy 병렬도, 빈 하나/전체 제한 시간
+    private final int shutdownParallelism;
+    private final Duration beanShutdownTimeout;
+    private final Duration shutdownTimeout;
+
+
+    private ApplicationContext(Builder builder) {
+        String basePackage = builder.basePackage;
+        this.parent = null;
+        this.shutdownParallelism = builder.shutdownParallelism;
+        this.beanShutdownTimeout = builder.beanShutdownTimeout;
+        this.shutdownTimeout = builder.shutdownTimeout;
+        this.asyncExecutors = new AsyncExecutors(builder.asyncPools);
+        this.recorder = builder.instrumentation ? new CreationRecorder() : null;
+        this.prototypes = builder.trackPrototypes ? new PrototypeTracker(lifecycle::invokePreDestroy) : null;
+        this.scheduler = new TaskScheduler(builder.schedulerClock, builder.schedulerTick, builder.schedulerWheelSize);
+        // 1) 빈 정의: 유효한 스냅샷이 있으면 그대로 쓰고, 없으면 스캔 (스냅샷을 켰으면 스캔 결과를 저장)
+        ClassLoader classLoader = defaultClassLoader();
+        DefinitionSnapshot definitions = loadDefinitions(basePackage, builder.snapshotFile, classLoader);
+
+        // 2) 정의 등록: @Bean 메서드 먼저 (설정 인스턴스 생성은 첫 @Bean 호출 시점으로 미룸), 그다음 컴포넌트
+        for (DefinitionSnapshot.BeanMethodDefinition m : definitions.beanMethods()) registerBeanMethod(m);
+        for (DefinitionSnapshot.ComponentDefinition c : definitions.components()) {
+            beanDefinitions.put(c.type(), c.scope());
+            if (c.lazy()) lazyBeans.add(c.type());
+            if (c.ctor() != null) selectedConstructors.put(c.type(), c.ctor());
+            registerComponentName(c.type()); // @Bean 메서드와 겹치는 타입이면 메서드 쪽 이름이 남는다
         }
-        // 싱글톤만 eager 생성 + PostConstruct 호출은 lifecycle이 담당
+
+        // 3) 모든 정의가 모인 뒤 타입/한정자 조회 테이블 구성
+        this.typeIndex = new BeanTypeIndex(beanDefinitions.keySet(), qualifierIndex());
+
+        // 4) 모든 생성자/@Bean 파라미터를 해석하고 순환을 검사해 생성 계획으로 컴파일 (오류는 모아서 한 번에)
+        List<Class<?>> types = planOrder();
+        List<EventBus.Listener> listeners = new ArrayList<>();
+        List<ScheduledTask> tasks = new ArrayList<>();
+        this.providers = compileProviders(types, new Provider<?>[0]);
+        this.plans = compileDefinitions(types, Set.of(), 0, listeners, tasks);
+        this.planByType = byType(plans);
+        this.planByName = byName(plans);
+        this.dependencyGraph = buildDependencyGraph(plans); // 순환이면 여기서 전체 경로와 함께 실패
+        this.singletons = new AtomicReferenceArray<>(plans.length);
+        this.eventBus = new EventBus(listeners);
+
+        // 5) (opt-in) 싱글톤을 위상 순서로 병렬 생성
+        this.singletonInitReport = (builder.eagerInitParallelism > 0)
+                ? preInstantiateSingletons(builder.eagerInitParallelism)
+                : null;
+
+        // 6) @Scheduled 작업 시작 (빈은 첫 실행 때 만들어진다)
+        scheduler.register(tasks);
+    }
+
+    // 자식 컨텍스트: 스캔 없이 재정의한 빈만 등록 → 생성 비용이 재정의 수에 비례
+    private ApplicationContext(ApplicationContext parent, Collection<Class<?>> components, Collection<Object> instances) {
+        this.parent = parent;
+        this.shutdownParallelism = parent.shutdownParallelism;
+        this.beanShutdownTimeout = parent.beanShutdownTimeout;
+        this.shutdownTimeout = parent.shutdownTimeout;
+        this.asyncExecutors = new AsyncExecutors(parent.asyncExecutors.specs()); // 설정은 같고 실행기는 자식 소유
+        this.recorder = null;
+        this.prototypes = (parent.prototypes != null) ? new PrototypeTracker(lifecycle::invokePreDestroy) : null; // 자식이 만든 인스턴스는 자식이 정리
+        this.scheduler = parent.scheduler.withSameSettings(); // 자식 빈의 작업은 자식이 실행하고 자식이 멈춘다
+        this.singletonInitReport = null;
         for (Class<?> c : components) {
-            ScopeType scope = ScopeType.SINGLETON;
-            if (c.isAnnotationPresent(Scope.class)) {
-                scope = c.getAnnotation(Scope.class).value();
+            for (DefinitionSnapshot.BeanMethodDefinition m : beanMethodsOf(c)) registerBeanMethod(m); // 스캔처럼 @Bean 먼저
+        }
+        for (Class<?> c : components) registerComponent(c);
+        Map<Class<?>, Object> external = new HashMap<>();
+        for (Object instance : instances) {
+            Class<?> type = instance.getClass();
+            if (beanDefinitions.putIfAbsent(type, ScopeType.SINGLETON) != null) {
+                throw new IllegalArgumentException("Duplicate child bean: " + type.getName());
             }
-            beanDefinitions.put(c, scope);
+            external.put(type, instance);
+            registerComponentName(type);
         }
+        this.typeIndex = new BeanTypeIndex(beanDefinitions.keySet(), qualifierIndex());
+        List<Class<?>> types = planOrder();
+        List<EventBus.Listener> listeners = new ArrayList<>();
+        List<ScheduledTask> tasks = new ArrayList<>();
+        this.providers = compileProviders(types, new Provider<?>[0]);
+        this.plans = compileDefinitions(types, external.keySet(), 0, listeners, tasks);
+        this.planByType = byType(plans);
+        this.planByName = byName(plans);
+        this.dependencyGraph = buildDependencyGraph(plans);
+        this.singletons = new AtomicReferenceArray<>(plans.length);
+        this.eventBus = new EventBus(listeners);
+        external.forEach((type, instance) -> singletons.set(planByType.get(type).index, instance));
+        scheduler.register(tasks);
     }
 
     public static ApplicationContext of(String basePackage) {
-        return new ApplicationContext(basePackage);
+        return builder(basePackage).build();
+    }
+
+    public static Builder builder(String basePackage) {
+        return new Builder(basePackage);
+    }
+
+    /** 컨텍스트 옵션. 기본값은 {@link #of(String)}와 같다 (빈은 처음 요청될 때 생성) */
+    public static final class Builder {
+        private final String basePackage;
+        private int eagerInitParallelism; // 0이면 eager 초기화 안 함
+        private boolean instrumentation;
+        private boolean trackPrototypes;
+        private Path snapshotFile;
+        private int shutdownParallelism = Runtime.getRuntime().availableProcessors();
+        private Duration beanShutdownTimeout = Duration.ofSeconds(10);
+        private Duration shutdownTimeout = Duration.ofSeconds(25);
+        private Clock schedulerClock = Clock.systemDefaultZone();
+        private Duration schedulerTick = Duration.ofMillis(10);
+        private int schedulerWheelSize = 512;
+        private final Map<String, AsyncExecutors.PoolSpec> asyncPools = new HashMap<>();
+
+        private Builder(String basePackage) {
+            this.basePackage = Objects.requireNonNull(basePackage, "basePackage");
+        }
+
+        /** 모든 싱글톤을 컨텍스트 생성 시점에 병렬로 미리 만든다 (병렬도 = CPU 수) */
+        public Builder eagerInit() {
+            return eagerInit(Runtime.getRuntime().availableProcessors());
+        }
+
+        /** 모든 싱글톤을 컨텍스트 생성 시점에 최대 parallelism개 스레드로 미리 만든다 */
+        public Builder eagerInit(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+            }
+            this.eagerInitParallelism = parallelism;
+            return this;
+        }
+
+        /** 빈별 생성 시간/@PostConstruct 시간/의존 깊이/인스턴스 수를 기록한다 ({@link #getStartupReport()}) */
+        public Builder instrumentation(boolean enabled) {
+            this.instrumentation = enabled;
+            return this;
+        }
+
+        /**
+         * PROTOTYPE 인스턴스를 약한 참조로 추적한다: close() 때 아직 살아 있는 인스턴스를 @PreDestroy 하고,
+         * 빈 클래스별 생성/생존/GC 수를 {@link #getPrototypeStats()}로 보여 준다 (비용은 인스턴스당 약한 참조 하나)
+         */
+        public Builder trackPrototypes(boolean enabled) {
+            this.trackPrototypes = enabled;
+            return this;
+        }
+
+        /**
+         * 스캔 결과(빈 정의)를 file에 저장해 두고, 다음 시작 때 클래스패스가 그대로면 스캔 없이 읽는다.
+         * 클래스패스가 바뀌었거나 파일이 손상되었으면 다시 스캔해서 덮어쓴다.
+         */
+        public Builder snapshot(Path file) {
+            this.snapshotFile = Objects.requireNonNull(file, "file");
+            return this;
+        }
+
+        /** close() 때 서로 의존하지 않는 싱글톤을 최대 parallelism개 스레드로 동시에 @PreDestroy 한다 (기본값 = CPU 수) */
+        public Builder shutdownParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+            }
+            this.shutdownParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * close() 제한 시간. 빈 하나의 @PreDestroy가 perBean을 넘기면 인터럽트하고 다음으로 넘어가며,
+         * 전체가 total을 넘기면 남은 빈은 포기한다 (기본값 10초/25초: 흔한 종료 유예 시간 30초 안에 끝나도록).
+         * total은 @Scheduled/@Async/비동기 이벤트 대기와 POOLED/THREAD 정리까지 포함한 close() 전체의 한도다.
+         */
+        public Builder shutdownTimeout(Duration perBean, Duration total) {
+            if (perBean.isNegative() || perBean.isZero() || total.isNegative() || total.isZero()) {
+                throw new IllegalArgumentException("timeouts must be positive: perBean=" + perBean + ", total=" + total);
+            }
+            this.beanShutdownTimeout = perBean;
+            this.shutdownTimeout = total;
+            return this;
+        }
+
+        /**
+         * {@code @Async(executor = name)} 메서드를 threads개 플랫폼 스레드 풀에서 실행한다.
+         * 풀 큐(queueCapacity)까지 가득 차면 호출의 future가 RejectedExecutionException으로 끝난다.
+         * name이 ""이면 기본 실행기(가상 스레드)를 이 풀로 바꾼다.
+         */
+        public Builder asyncExecutor(String name, int threads, int queueCapacity) {
+            Objects.requireNonNull(name, "name");
+            if (threads < 1 || queueCapacity < 1) {
+                throw new IllegalArgumentException("threads and queueCapacity must be positive: threads=" + threads
+                        + ", queueCapacity=" + queueCapacity);
+            }
+            asyncPools.put(name, new AsyncExecutors.PoolSpec(threads, queueCapacity));
+            return this;
+        }
+
+        /**
+         * {@code @Scheduled} 작업의 시계 (기본값 시스템 시계, cron은 이 시계의 시간대 기준).
+         * {@link ManualClock}을 넘기면 타이머 스레드 없이 {@link ManualClock#advance(Duration)}가 틱을 처리한다.
+         */
+        public Builder schedulerClock(Clock clock) {
+            this.schedulerClock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * {@code @Scheduled} 타이머 휠: 틱 길이(= 정밀도, 기본값 10ms)와 버킷 수(기본값 512, 2의 거듭제곱으로 올림).
+         * tick × wheelSize보다 먼 예약은 바퀴 수로 센다.
+         */
+        public Builder schedulerTimer(Duration tick, int wheelSize) {
+            if (tick.toMillis() < 1 || wheelSize < 1) {
+                throw new IllegalArgumentException("tick must be at least 1ms and wheelSize positive: tick=" + tick
+                        + ", wheelSize=" + wheelSize);
+            }
+            this.schedulerTick = tick;
+            this.schedulerWheelSize = wheelSize;
+            return this;
+        }
+
+        public ApplicationContext build() {
+            return new ApplicationContext(this);
+        }
+    }
+
+    /** 이 컨텍스트의 싱글톤/정의를 공유하고 일부 빈만 재정의하는 자식 컨텍스트를 만든다 */
+    public ChildBuilder newChild() {
+        return new ChildBuilder(this);
+    }
+
+    /**
+     * 자식 컨텍스트 구성.
+     * <ul>
+     *     <li>자식에 등록한 빈이 할당 가능한 타입은 자식 것이 이기고, 나머지는 부모에서 찾는다 (부모 싱글톤 인스턴스 그대로 공유)</li>
+     *     <li>자식 빈의 의존성도 같은 규칙으로 찾지만, 부모 빈은 자식을 보지 않는다 (부모 싱글톤이 재정의된 빈을 주입받지는 않음)</li>
+     *     <li>자식 close()는 자식이 만든 빈만 소멸시킨다</li>
+     * </ul>
+     */
+    public static final class ChildBuilder {
+        private final ApplicationContext parent;
+        private final Set<Class<?>> components = new LinkedHashSet<>();
+        private final List<Object> instances = new ArrayList<>();
+
+        private ChildBuilder(ApplicationContext parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * 컴포넌트 클래스를 등록한다 (@Scope/@Lazy/@Inject 생성자 규칙은 스캔한 컴포넌트와 같음).
+         * {@code @Configuration} 클래스면 @Bean 메서드도 함께 자식 빈으로 등록한다 (반환 타입은 부모 빈을 재정의)
+         */
+        public ChildBuilder bean(Class<?> componentClass) {
+            if (componentClass.isInterface()) {
+                throw new IllegalArgumentException("Bean class must not be an interface: " + componentClass.getName());
+            }
+            components.add(componentClass);
+            return this;
+        }
+
+        /** 이미 만든 인스턴스를 (런타임 클래스 타입의) 싱글톤으로 등록한다. 자식 close() 때 소멸시키지 않는다 */
+        public ChildBuilder instance(Object instance) {
+            instances.add(Objects.requireNonNull(instance, "instance"));
+            return this;
+        }
+
+        public ApplicationContext build() {
+            return new ApplicationContext(parent, components, instances);
+        }
+    }
+
+    /**
+     * AppCDS/AOT 캐시 학습 실행용 워밍업: @Lazy를 포함한 모든 싱글톤을 의존 순서대로 만들고,
+     * 다른 스코프 빈은 클래스 초기화만 한다 (인스턴스는 만들지 않음). 학습 실행은 이 뒤에 close()하고 끝내면
+     * JVM이 그동안 로드한 클래스로 클래스 목록/아카이브를 만든다. 만든(또는 이미 있던) 싱글톤 수를 돌려준다
+     */
+    public int trainingRun() {
+        int singletonCount = 0;
+        for (Class<?> type : dependencyGraph.topologicalOrder()) {
+            BeanPlan plan = planByType.get(type);
+            if (plan.scope == ScopeType.SINGLETON) {
+                getOrCreateSingleton(plan);
+                singletonCount++;
+                continue;
+            }
+            try {
+                Class.forName(type.getName(), true, type.getClassLoader());
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Cannot initialize bean class: " + type.getName(), e);
+            }
+        }
+        return singletonCount;
+    }
+
+    /** 바뀐 정의만 반영하고 영향을 받는 빈만 다시 만드는 새로 고침을 구성한다 (스캔/전체 재생성 없음) */
+    public Refresh refresh() {
+        return new Refresh(this);
+    }
+
+    /**
+     * 부분 새로 고침 구성. {@link #apply()}는 바뀐 빈과, 생성 의존 그래프에서 그 빈에 (생성자/@Bean 파라미터, 설정 클래스,
+     * List/Map 원소로) 전이적으로 의존하는 빈을 찾아 이미 만들어져 있던 싱글톤만 @PreDestroy 후 다시 만든다.
+     * 나머지 싱글톤은 같은 인스턴스 그대로 남는다.
+     * <ul>
+     *     <li>새 정의가 잘못되었으면 (미충족/모호한 의존성, 순환 등) IllegalStateException을 던지고 컨텍스트는 그대로다</li>
+     *     <li>Provider/@Lazy로 받은 빈은 다시 만들지 않는다: 다음 get()/호출부터 새 인스턴스를 본다</li>
+     *     <li>다시 만든 빈의 @Cacheable 캐시는 비우고, POOLED 풀은 새로 만든다.
+     *         이미 만들어진 THREAD/SCOPED 인스턴스는 그 스코프가 끝날 때까지 그대로 쓰인다</li>
+     *     <li>자식 컨텍스트 빈이 이미 주입받은 부모 빈은 바뀌지 않는다</li>
+     *     <li>다른 스레드가 빈을 만드는 중에 호출하면 그 스레드가 옛 정의로 만든 싱글톤은 반영되지 않을 수 있다</li>
+     * </ul>
+     */
+    public static final class Refresh {
+        private final ApplicationContext context;
+        private final Set<Class<?>> reloads = new LinkedHashSet<>();
+        private final Map<Class<?>, Object> instances = new LinkedHashMap<>();
+        private final Set<Class<?>> components = new LinkedHashSet<>();
+
+        private Refresh(ApplicationContext context) {
+            this.context = context;
+        }
+
+        /** 정의는 그대로 두고 인스턴스만 다시 만든다 (예: @Bean 메서드를 다시 호출해 설정을 다시 읽는다) */
+        public Refresh reload(Class<?> beanType) {
+            reloads.add(Objects.requireNonNull(beanType, "beanType"));
+            return this;
+        }
+
+        /** SINGLETON 빈 정의를 이미 만든 인스턴스로 바꾼다 (예: @Bean 결과 교체). 넘긴 인스턴스는 close() 때 소멸시키지 않는다 */
+        public <T> Refresh instance(Class<T> beanType, T instance) {
+            instances.put(Objects.requireNonNull(beanType, "beanType"), beanType.cast(Objects.requireNonNull(instance, "instance")));
+            return this;
+        }
+
+        /**
+         * 새 컴포넌트 클래스를 등록한다. 기존 빈의 의존성 해석이나 List/Map 원소가 달라지면 그 빈도 다시 만든다.
+         * {@code @Configuration} 클래스면 @Bean 메서드도 새 빈으로 등록한다 (반환 타입이 이미 정의되어 있으면 IllegalArgumentException)
+         */
+        public Refresh bean(Class<?> componentClass) {
+            if (componentClass.isInterface()) {
+                throw new IllegalArgumentException("Bean class must not be an interface: " + componentClass.getName());
+            }
+            components.add(componentClass);
+            return this;
+        }
+
+        /** 반영하고, 다시 만들었거나 교체한 빈 클래스를 생성 순서대로 돌려준다 */
+        public List<Class<?>> apply() {
+            return context.applyRefresh(reloads, instances, components);
+        }
+    }
+
+    /** eager 초기화 결과 (eagerInit을 켜지 않았으면 empty) */
+    public Optional<SingletonInitReport> getSingletonInitReport() {
+        return Optional.ofNullable(singletonInitReport);
+    }
+
+    /** 지금까지의 빈 생성 지표 (instrumentation을 켜지 않았으면 empty) */
+    public Optional<StartupReport> getStartupReport() {
+        return (recorder != null) ? Optional.of(new StartupReport(recorder.snapshot())) : Optional.empty();
     }
 
     @SuppressWarnings("unchecked")
     public <T> T getBean(Class<T> type) {
-        // 1) 정확 매칭: 정의에 등록된 클래스면 스코프에 맞게 반환
-        if (beanDefinitions.containsKey(type)) {
-            return (T) getAccordingToScope(type);
+        if (delegatesToParent(type)) return parent.getBean(type);
+        BeanPlan plan = planByType.get(uniqueCandidate(type));
+        requireProxyLookupType(type, plan);
+        return (T) getAccordingToScope(plan);
+    }
+
+    /** 이름으로 찾는다. 이름이 없으면 IllegalArgumentException, 빈이 type이 아니어도 IllegalArgumentException */
+    public <T> T getBean(String name, Class<T> type) {
+        BeanPlan plan = planByName.get(name);
+        if (plan == null) {
+            if (parent != null) return parent.getBean(name, type);
+            throw new IllegalArgumentException("No bean named: " + name);
         }
+        if (!type.isAssignableFrom(plan.type)) {
+            throw new IllegalArgumentException("Bean '" + name + "' is of type " + plan.type.getName()
+                    + ", not " + type.getName());
+        }
+        requireProxyLookupType(type, plan);
+        return type.cast(getAccordingToScope(plan));
+    }
 
-        // 2) 다형성 매칭: 컴포넌트들 중 assignable 후보 수집
-        List<Class<?>> candidates = components.stream()
-                .filter(type::isAssignableFrom)
-                .toList();
+    // 자식 컨텍스트에 후보가 없으면 부모가 처리
+    private boolean delegatesToParent(Class<?> type) {
+        return delegatesToParent(type, null);
+    }
+
+    private boolean delegatesToParent(Class<?> type, String qualifier) {
+        return parent != null && typeIndex.candidatesFor(type, qualifier).isEmpty();
+    }
 
+    // 정확 매칭이면 자기 자신, 아니면 다형성 후보 (미리 계산된 테이블에서 한 번에 조회)
+    private Class<?> uniqueCandidate(Class<?> type) {
+        List<Class<?>> candidates = typeIndex.candidatesFor(type);
         if (candidates.size() == 1) {
-            return (T) getAccordingToScope(candidates.get(0));
+            return candidates.get(0);
         }
         if (candidates.isEmpty()) {
             throw new IllegalArgumentException("No bean of type: " + type.getName());
@@ -86,72 +514,314 @@ public class ApplicationContext implements AutoCloseable {
         throw new IllegalArgumentException("No unique bean of type: " + type.getName() + ", candidates=" + candidates);
     }
 
+    // 프록시는 인터페이스만 구현하므로 구체 클래스로는 꺼낼 수 없다
+    private static void requireProxyLookupType(Class<?> type, BeanPlan plan) {
+        if (plan.proxy != null && !type.isInterface() && type != Object.class) {
+            throw new IllegalArgumentException("Proxied bean (@Cacheable/@CacheEvict/@Async) must be looked up by an interface: "
+                    + type.getName() + " (bean " + plan.type.getName() + ")");
+        }
+    }
+
+    /**
+     * 이벤트를 이 컨텍스트의 @EventListener에게 전달한 뒤 부모 컨텍스트에도 발행한다 (부모 이벤트는 자식에게 가지 않음).
+     * 리스너는 이벤트의 런타임 클래스에 할당 가능한 파라미터 타입으로 고른다. 닫힌 컨텍스트면 IllegalStateException
+     */
+    public void publishEvent(Object event) {
+        eventBus.publish(event);
+        if (parent != null) parent.publishEvent(event);
+    }
+
+    /** @Cacheable 캐시별 통계 (캐시 이름 순) */
+    public Map<String, CacheStats> getCacheStats() {
+        Map<String, CacheStats> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /** @Async 메서드별 실행 통계 (클래스명#메서드명(파라미터 타입) 순) */
+    public Map<String, AsyncStats> getAsyncStats() {
+        Map<String, AsyncStats> stats = new TreeMap<>();
+        asyncMethods.forEach((name, method) -> stats.put(name, method.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /** PROTOTYPE 빈 클래스별 인스턴스 추적 통계 (클래스명 순). trackPrototypes를 켜지 않았으면 비어 있다 */
+    public Map<String, PrototypeStats> getPrototypeStats() {
+        return (prototypes != null) ? Collections.unmodifiableMap(prototypes.stats()) : Map.of();
+    }
+
+    /** @Scheduled 작업별 실행/건너뜀/지연 통계 (클래스명#메서드명 순) */
+    public Map<String, ScheduledStats> getScheduledStats() {
+        return Collections.unmodifiableMap(scheduler.stats());
+    }
+
     // 스코프에 따른 반환 전략
-    private Object getAccordingToScope(Class<?> clazz) {
-        ScopeType scope = beanDefinitions.getOrDefault(clazz, ScopeType.SINGLETON);
+    private Object getAccordingToScope(BeanPlan plan) {
+        ScopeType scope = plan.scope;
         if (scope == ScopeType.SINGLETON) {
-            return getOrCreateSingleton(clazz); // SINGLETON은 캐시 사용
+            return getOrCreateSingleton(plan); // SINGLETON은 캐시 사용
         } else if (scope == ScopeType.PROTOTYPE) {
-            return createNewInstanceGraph(clazz); // PROTOTYPE은 항상 새로 생성
+            return createPrototype(plan); // PROTOTYPE은 항상 새로 생성
+        } else if (scope == ScopeType.THREAD) {
+            return threadScope.get(plan.type, () -> createNewInstanceGraph(plan));
+        } else if (scope == ScopeType.SCOPED) {
+            return activeScope(plan.type).get(plan.type, () -> createNewInstanceGraph(plan));
+        } else if (scope == ScopeType.POOLED) {
+            // 반납 시점을 알 수 없으므로 getBean/주입으로는 내줄 수 없다
+            throw new IllegalStateException("POOLED bean must be borrowed with borrow(): " + plan.type.getName());
         }
         throw new IllegalStateException("Unsupported scope: " + scope);
     }
 
+    private ScopedBeans activeScope(Class<?> clazz) {
+        ScopedBeans scoped = currentScope.get();
+        if (scoped == null) {
+            throw new IllegalStateException("No active scope (use runInScope/callInScope) for SCOPED bean: "
+                    + clazz.getName());
+        }
+        return scoped;
+    }
+
+    /**
+     * POOLED 빈을 풀에서 빌린다. 반납은 {@link PooledBean#close()} (try-with-resources).
+     * 모두 대여 중이면 @Pooled maxWaitMillis까지 기다린 뒤 IllegalStateException
+     */
+    @SuppressWarnings("unchecked")
+    public <T> PooledBean<T> borrow(Class<T> type) {
+        if (delegatesToParent(type)) return parent.borrow(type);
+        BeanPlan plan = planByType.get(uniqueCandidate(type));
+        if (plan.scope != ScopeType.POOLED) {
+            throw new IllegalArgumentException("Not a POOLED bean: " + plan.type.getName());
+        }
+        BeanPool pool = pools.computeIfAbsent(plan.type, k -> createPool(plan));
+        BeanPool.Entry entry = pool.borrow();
+        return new PooledBean<>(pool, entry, (T) entry.bean);
+    }
+
+    private BeanPool createPool(BeanPlan plan) {
+        BeanMethodMeta meta = beanMethodsByType.get(plan.type);
+        Pooled config = (meta != null) ? meta.method.getAnnotation(Pooled.class) : plan.type.getAnnotation(Pooled.class);
+        if (config == null) config = DefaultPoolConfig.class.getAnnotation(Pooled.class);
+        return new BeanPool(plan.type, () -> createNewInstanceGraph(plan),
+                lifecycle::invokePoolReset, lifecycle::invokePreDestroy,
+                config.maxSize(), config.idleTimeoutMillis(), config.maxWaitMillis());
+    }
+
+    @Pooled // 애노테이션이 없는 POOLED 빈은 이 기본값을 쓴다
+    private static final class DefaultPoolConfig {}
+
+    /** task 동안 SCOPED 빈 묶음을 현재 스레드에 바인딩하고, 끝나면 그 빈들을 @PreDestroy 한다 (중첩 시 새 묶음) */
+    public void runInScope(Runnable task) {
+        ScopedBeans previous = currentScope.get();
+        ScopedBeans scoped = enterScope();
+        try {
+            task.run();
+        } finally {
+            exitScope(previous, scoped);
+        }
+    }
+
+    /** {@link #runInScope(Runnable)}의 값 반환 버전 */
+    public <T> T callInScope(Callable<T> task) throws Exception {
+        ScopedBeans previous = currentScope.get();
+        ScopedBeans scoped = enterScope();
+        try {
+            return task.call();
+        } finally {
+            exitScope(previous, scoped);
+        }
+    }
+
+    private ScopedBeans enterScope() {
+        ScopedBeans scoped = new ScopedBeans();
+        currentScope.set(scoped);
+        return scoped;
+    }
+
+    // 바인딩을 이전 값으로 되돌린 뒤 (바깥 블록이 없으면 ThreadLocal 제거) 블록의 빈을 소멸
+    private void exitScope(ScopedBeans previous, ScopedBeans scoped) {
+        if (previous != null) currentScope.set(previous);
+        else currentScope.remove();
+        scoped.destroy(lifecycle::invokePreDestroy);
+    }
+
+    /** 현재 스레드의 THREAD 스코프 빈을 지금 @PreDestroy 한다 (스레드 풀에서 작업 단위로 정리할 때) */
+    public void endThreadScope() {
+        threadScope.endCurrentThread();
+    }
+
     // ===== 생성 로직 =====
 
-    // 싱글톤 전용: 캐시에 있으면 꺼내고, 없으면 만들어서 캐시에 저장
-    private Object getOrCreateSingleton(Class<?> clazz) {
-        Object existing = singletons.get(clazz);
-        if (existing != null) return existing;
-        Object created = createNewInstanceGraph(clazz);
-        singletons.put(clazz, created);
-        return created;
+    // 추적을 켰으면 close() 때 @PreDestroy 하도록 약한 참조로 등록한다
+    private Object createPrototype(BeanPlan plan) {
+        Object instance = createNewInstanceGraph(plan);
+        if (prototypes != null) prototypes.track(plan.type, instance);
+        return instance;
     }
 
+    // 싱글톤 전용: 캐시에 있으면 꺼내고, 없으면 빈 단위 락을 잡고 만들어서 캐시에 저장
+    private Object getOrCreateSingleton(BeanPlan plan) {
+        Object existing = singletons.get(plan.index);
+        if (existing != null) return existing; // fast path: 락 없음
 
+        acquire(plan);
+        try {
+            // 락을 기다리는 동안 다른 스레드가 만들었을 수 있음 (double-checked)
+            existing = singletons.get(plan.index);
+            if (existing != null) return existing;
+            // 그래프 밖의 경로(생성 중 Provider.get()/getBean 호출)로 자기 자신에게 되돌아온 경우
+            if (plan.lock.getHoldCount() > 1) {
+                throw new IllegalStateException("Circular dependency detected at: " + plan.type.getName());
+            }
+            Object created = createNewInstanceGraph(plan);
+            singletons.set(plan.index, created);
+            return created;
+        } finally {
+            plan.lock.unlock();
+        }
+    }
 
-    // 생성 그래프: 컴포넌트 클래스 vs @Bean 메서드 반환 타입을 구분 처리
-    private Object createNewInstanceGraph(Class<?> clazz) {
-        if (creating.contains(clazz))
-            throw new IllegalStateException("Circular dependency detected at: " + clazz.getName());
-        creating.add(clazz);
+    // 다른 스레드가 같은 빈을 만드는 중이면 대기. 스레드 간 순환(A→B, B→A)으로 서로 기다리게 되면 예외
+    private void acquire(BeanPlan plan) {
+        BeanPlan.CreationLock lock = plan.lock;
+        if (lock.tryLock()) return;
+        Thread current = Thread.currentThread();
+        waitingFor.put(current, plan);
         try {
-            // 1) @Bean 메서드 반환 타입이면 메서드 호출로 생성
-            BeanMethodMeta meta = beanMethodsByType.get(clazz);
-            if (meta != null) {
-                Object[] args = Arrays.stream(meta.method.getParameterTypes())
-                        .map(this::resolveDependency)
-                        .toArray();
-                try {
-                    Object instance = meta.method.invoke(meta.configInstance, args);
-                    if (instance == null) {
-                        throw new IllegalStateException("@Bean method returned null: " +
-                                meta.configInstance.getClass().getName() + "#" + meta.method.getName());
-                    }
-                    lifecycle.invokePostConstruct(instance);
-                    return instance;
-                } catch (Exception e) {
-                    throw new RuntimeException("Failed to invoke @Bean: " +
-                            meta.configInstance.getClass().getName() + "#" + meta.method.getName(), e);
+            // 대기 등록 후 검사 → 순환의 마지막 스레드는 반드시 전체 고리를 본다
+            Set<Thread> visited = new HashSet<>();
+            Thread owner = lock.owner();
+            while (owner != null && visited.add(owner)) {
+                if (owner == current) {
+                    throw new IllegalStateException("Circular dependency detected at: " + plan.type.getName());
                 }
+                BeanPlan awaited = waitingFor.get(owner);
+                if (awaited == null) break;
+                owner = awaited.lock.owner();
             }
+            lock.lock();
+        } finally {
+            waitingFor.remove(current);
+        }
+    }
 
-            // 2) 일반 @Component 클래스면 생성자 주입
-            Constructor<?> ctor = selectConstructor(clazz);
-            Object[] args = Arrays.stream(ctor.getParameterTypes())
-                    .map(this::resolveDependency)
-                    .toArray();
-            ctor.setAccessible(true);
-            Object instance = newInstance(ctor, args);
-            lifecycle.invokePostConstruct(instance);
+
+
+    // 계획대로 생성 (@PostConstruct 포함). 계측/JFR이 꺼져 있으면 시간·깊이 기록 없이 바로 만든다
+    private Object createNewInstanceGraph(BeanPlan plan) {
+        BeanCreationEvent event = new BeanCreationEvent();
+        if (recorder == null && !event.isEnabled()) return instantiate(plan, null);
+
+        int[] depth = creationDepth.get();
+        int currentDepth = depth[0]++;
+        event.begin();
+        CreationRecorder.Frame frame = (recorder != null) ? recorder.begin(plan.type, plan.scope, currentDepth) : null;
+        Object instance = null;
+        try {
+            instance = instantiate(plan, frame);
             return instance;
         } finally {
-            creating.remove(clazz);
+            if (frame != null) recorder.end(frame, instance != null);
+            if (event.shouldCommit()) {
+                event.beanClass = plan.type;
+                event.scope = plan.scope.name();
+                event.depth = currentDepth;
+                event.commit();
+            }
+            if (--depth[0] == 0) creationDepth.remove(); // 스레드 풀 환경에서 ThreadLocal 누수 방지
+        }
+    }
+
+    // 생성 + @PostConstruct가 끝난 뒤에 감싼다 (콜백은 원래 빈에서 돌아야 하므로)
+    private Object instantiate(BeanPlan plan, CreationRecorder.Frame frame) {
+        Object instance = construct(plan, frame);
+        return (plan.proxy != null) ? plan.proxy.wrap(instance) : instance;
+    }
+
+    private Object construct(BeanPlan plan, CreationRecorder.Frame frame) {
+        // 1) @Bean 메서드 반환 타입이면 메서드 호출로 생성 (설정 인스턴스가 receiver)
+        if (plan.beanMethod) {
+            Object configInstance = (plan.config >= 0) ? getAccordingToScope(plans[plan.config]) : null; // DI 지원
+            Object[] args = resolveArgs(plan);
+            // 생성된 설정 하위 클래스는 지금 만드는 타입의 메서드만 원래 본문을 실행한다
+            Class<?> previous = (configInstance instanceof BeanMethodCalls.Enhanced) ? BeanMethodCalls.enter(plan.type) : null;
+            try {
+                Object instance;
+                try {
+                    instance = plan.factory.create(configInstance, args);
+                } finally {
+                    if (configInstance instanceof BeanMethodCalls.Enhanced) BeanMethodCalls.exit(previous);
+                }
+                if (instance == null) {
+                    throw new IllegalStateException("@Bean method returned null: " + plan.factory.description());
+                }
+                postConstruct(instance, frame);
+                return instance;
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to invoke @Bean: " + plan.factory.description(), e);
+            }
+        }
+
+        // 2) 일반 @Component 클래스면 생성자 주입
+        Object[] args = resolveArgs(plan);
+        Object instance = newInstance(plan.factory, plan.type, args);
+        if (instance instanceof BeanMethodCalls.Enhanced enhanced) enhanced.bindBeanMethodCalls(beanMethodCalls);
+        postConstruct(instance, frame);
+        return instance;
+    }
+
+    private void postConstruct(Object instance, CreationRecorder.Frame frame) {
+        if (frame == null) {
+            lifecycle.invokePostConstruct(instance);
+            return;
+        }
+        long start = System.nanoTime();
+        lifecycle.invokePostConstruct(instance);
+        frame.addPostConstruct(System.nanoTime() - start);
+    }
+
+    // 파라미터 순서대로 계획 번호를 따라간다 (타입 매칭/해시 조회 없음)
+    private Object[] resolveArgs(BeanPlan plan) {
+        byte[] kinds = plan.kinds;
+        Object[] args = new Object[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case BeanPlan.DIRECT -> args[i] = getAccordingToScope(plans[plan.args[i]]); // 싱글톤은 캐시, 프로토타입은 새로 생성
+                case BeanPlan.LAZY -> args[i] = lazyProxy(plan.factory.dependencyTypes()[i], plans[plan.args[i]]);
+                case BeanPlan.PROVIDER -> args[i] = plan.constants[i];
+                default -> args[i] = plan.constants[i].get(); // PARENT, COLLECTION
+            }
+        }
+        return args;
+    }
+
+    // 실제 생성은 프록시의 첫 메서드 호출 시점으로 미룸 (스코프 규칙은 그때 적용)
+    private Object lazyProxy(Class<?> injectionType, BeanPlan target) {
+        int index = target.index; // 새로 고침으로 계획이 바뀌어도 같은 번호를 따른다
+        return LazyBeanProxy.create(injectionType, target.type, () -> getAccordingToScope(plans[index]));
+    }
+
+    private InstanceFactory createInstanceFactory(Class<?> clazz) {
+        BeanMethodMeta meta = beanMethodsByType.get(clazz);
+        if (meta != null) return InstanceFactory.forBeanMethod(meta.method);
+        Constructor<?> ctor = selectedConstructors.get(clazz);
+        if (ctor == null) ctor = selectConstructor(clazz);
+        Class<?> enhanced = BeanMethodCalls.enhancedClass(clazz);
+        return InstanceFactory.forConstructor((enhanced != null) ? enhancedConstructor(enhanced, ctor) : ctor);
+    }
+
+    // 생성된 하위 클래스는 설정 클래스의 생성자를 같은 파라미터로 그대로 갖고 있다
+    private static Constructor<?> enhancedConstructor(Class<?> enhanced, Constructor<?> ctor) {
+        try {
+            return enhanced.getDeclaredConstructor(ctor.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Generated @Configuration subclass is out of date (recompile): "
+                    + enhanced.getName() + " has no constructor like " + ctor, e);
         }
     }
 
     // @Inject 1개 우선, 없으면 기본 생성자
-    private Constructor<?> selectConstructor(Class<?> clazz) {
+    private static Constructor<?> selectConstructor(Class<?> clazz) {
         Constructor<?>[] ctors = clazz.getDeclaredConstructors();
         List<Constructor<?>> injects = Arrays.stream(ctors)
                 .filter(c -> c.isAnnotationPresent(Inject.class))
@@ -167,37 +837,821 @@ public class ApplicationContext implements AutoCloseable {
         }
     }
 
-    private Object resolveDependency(Class<?> depType) {
-        // 정의된 모든 타입(컴포넌트 + @Bean 반환 타입)에서 탐색
-        Optional<Class<?>> target = beanDefinitions.keySet().stream()
-                .filter(depType::isAssignableFrom)
-                .findFirst();
-        if (target.isEmpty()) {
-            throw new IllegalStateException("Unsatisfied dependency: " + depType.getName());
+    // 정의된 모든 타입(컴포넌트 + @Bean 반환 타입)에서 탐색: 정확 매칭 우선, 다형성 후보는 유일해야 함
+    // qualifier가 있으면 이름 또는 @Qualifier가 일치하는 후보만 본다
+    private Class<?> resolveCandidate(Class<?> depType, String qualifier) {
+        List<Class<?>> candidates = typeIndex.candidatesFor(depType, qualifier);
+        String described = (qualifier != null) ? depType.getName() + " @Qualifier(\"" + qualifier + "\")" : depType.getName();
+        if (candidates.isEmpty()) {
+            throw new IllegalStateException("Unsatisfied dependency: " + described);
+        }
+        if (candidates.size() > 1) {
+            throw new IllegalStateException("Ambiguous dependency: " + described + ", candidates=" + candidates);
+        }
+        return candidates.get(0);
+    }
+
+    // ===== 생성 계획 컴파일 =====
+
+    // 계획 번호는 클래스명 순 (결정적)
+    private List<Class<?>> planOrder() {
+        List<Class<?>> types = new ArrayList<>(beanDefinitions.keySet());
+        types.sort(Comparator.comparing(Class::getName));
+        return types;
+    }
+
+    // 스코프별로 분기를 끝낸 공급자. plans는 컴파일이 끝난 뒤 채워지지만 get()은 그 이후에만 불린다
+    // existing: 이미 있는 번호의 공급자 (새로 고침 때 그대로 재사용 → 주입받은 Provider가 계속 유효)
+    private Provider<?>[] compileProviders(List<Class<?>> types, Provider<?>[] existing) {
+        Provider<?>[] compiled = Arrays.copyOf(existing, types.size());
+        for (int i = existing.length; i < compiled.length; i++) {
+            int index = i;
+            Class<?> type = types.get(i);
+            Supplier<Object> creator = () -> createNewInstanceGraph(plans[index]);
+            compiled[i] = switch (beanDefinitions.get(type)) {
+                case SINGLETON -> () -> getOrCreateSingleton(plans[index]);
+                case PROTOTYPE -> () -> createPrototype(plans[index]);
+                case THREAD -> () -> threadScope.get(type, creator);
+                case SCOPED -> () -> activeScope(type).get(type, creator);
+                case POOLED -> null; // borrow()로만 얻을 수 있다
+            };
+        }
+        return compiled;
+    }
+
+    /**
+     * 모든 정의의 생성자/@Bean 파라미터를 해석해 계획으로 만든다.
+     * 미충족/모호한 의존성, 생성자 선택 실패, 잘못된 @Lazy/POOLED 주입을 모두 모아 한 번에 보고한다.
+     * external: 밖에서 만들어 넘긴 인스턴스의 타입 (생성하지 않으므로 팩토리 없음)
+     * from: 이 번호부터의 빈만 프록시/리스너/@Scheduled 작업을 새로 찾는다 (새로 고침 때 추가된 빈),
+     * 찾은 리스너와 작업은 listeners와 tasks에 더한다
+     */
+    private BeanPlan[] compileDefinitions(List<Class<?>> types, Set<Class<?>> external, int from,
+                                          List<EventBus.Listener> listeners, List<ScheduledTask> tasks) {
+        List<String> errors = new ArrayList<>();
+        List<Class<?>> added = types.subList(from, types.size());
+        compileProxies(added, external, errors);
+        compileListeners(types, from, listeners, errors);
+        compileScheduledTasks(types, from, tasks, errors);
+        BeanPlan[] compiled = compilePlans(types, external, errors);
+        if (errors.isEmpty()) return compiled; // 순환은 간선이 모두 해석된 뒤 buildDependencyGraph가 검사한다
+        if (errors.size() == 1) throw new IllegalStateException(errors.get(0));
+        StringBuilder message = new StringBuilder("Invalid bean definitions (" + errors.size() + "):");
+        for (String error : errors) message.append("\n  - ").append(error);
+        throw new IllegalStateException(message.toString());
+    }
+
+    private BeanPlan[] compilePlans(List<Class<?>> types, Set<Class<?>> external, List<String> errors) {
+        Map<Class<?>, Integer> indexOf = new HashMap<>();
+        for (int i = 0; i < types.size(); i++) indexOf.put(types.get(i), i);
+
+        Map<String, Class<?>> named = new HashMap<>();
+        for (Class<?> type : types) {
+            Class<?> other = named.putIfAbsent(beanNames.get(type), type);
+            if (other != null) {
+                errors.add("Duplicate bean name '" + beanNames.get(type) + "': " + other.getName() + ", " + type.getName());
+            }
+        }
+        BeanPlan[] compiled = new BeanPlan[types.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            Class<?> type = types.get(i);
+            compiled[i] = external.contains(type)
+                    ? new BeanPlan(i, type, ScopeType.SINGLETON, false, null, false, -1,
+                            new byte[0], new int[0], new Provider<?>[0], null)
+                    : compilePlan(i, type, indexOf, errors);
+        }
+        return compiled;
+    }
+
+    private BeanPlan compilePlan(int index, Class<?> type, Map<Class<?>, Integer> indexOf, List<String> errors) {
+        InstanceFactory factory;
+        try {
+            factory = createInstanceFactory(type);
+        } catch (RuntimeException e) {
+            errors.add(e.getMessage());
+            return null;
+        }
+        BeanMethodMeta meta = beanMethodsByType.get(type);
+        int config = -1;
+        if (meta != null && !Modifier.isStatic(meta.method.getModifiers())) {
+            Integer configIndex = indexOf.get(meta.configClass);
+            if (configIndex == null) {
+                errors.add("Configuration class is not a bean: " + meta.configClass.getName()
+                        + " (required by " + factory.description() + ")");
+            } else {
+                config = configIndex;
+            }
+        }
+
+        Class<?>[] types = factory.dependencyTypes();
+        Class<?>[] provided = factory.providedTypes();
+        Class<?>[] elements = factory.elementTypes();
+        String[] qualifiers = factory.qualifiers();
+        byte[] kinds = new byte[types.length];
+        int[] args = new int[types.length];
+        Provider<?>[] constants = new Provider<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Class<?> depType = (provided[i] != null) ? provided[i] : types[i];
+            String qualifier = qualifiers[i];
+            try {
+                if (elements[i] != null) {
+                    // 자식에 원소 후보가 하나도 없으면 부모의 컬렉션을 그대로 쓴다
+                    boolean map = types[i] == Map.class;
+                    kinds[i] = delegatesToParent(elements[i], qualifier) ? BeanPlan.PARENT : BeanPlan.COLLECTION;
+                    constants[i] = (kinds[i] == BeanPlan.PARENT)
+                            ? parent.collectionFor(map, elements[i], qualifier)
+                            : collections.computeIfAbsent(new CollectionKey(map, elements[i], qualifier),
+                                    k -> compileCollection(k, indexOf::get));
+                    continue;
+                }
+                if (delegatesToParent(depType, qualifier)) {
+                    kinds[i] = (provided[i] != null) ? BeanPlan.PROVIDER : BeanPlan.PARENT;
+                    constants[i] = (provided[i] != null)
+                            ? parent.providerFor(depType, qualifier)
+                            : parent.dependencyProvider(depType, qualifier);
+                    continue;
+                }
+                Class<?> target = resolveCandidate(depType, qualifier);
+                requireProxyInjectionPoint(depType, target);
+                int targetIndex = indexOf.get(target);
+                if (provided[i] != null) {
+                    kinds[i] = BeanPlan.PROVIDER;
+                    constants[i] = providerAt(targetIndex, target);
+                } else if (beanDefinitions.get(target) == ScopeType.POOLED) {
+                    throw new IllegalStateException("POOLED bean must be borrowed with borrow(): " + target.getName());
+                } else if (lazyBeans.contains(target)) {
+                    LazyBeanProxy.requireInjectionPoint(depType, target);
+                    kinds[i] = BeanPlan.LAZY;
+                    args[i] = targetIndex;
+                } else {
+                    kinds[i] = BeanPlan.DIRECT;
+                    args[i] = targetIndex;
+                }
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage() + " (required by " + factory.description() + ")");
+            }
+        }
+        return new BeanPlan(index, type, beanDefinitions.get(type), lazyBeans.contains(type), factory,
+                meta != null, config, kinds, args, constants, proxyTemplates.get(type));
+    }
+
+    // @Cacheable 캐시를 모두 등록한 뒤(@CacheEvict가 이름으로 찾으므로) 빈별 프록시 설계를 만든다. 밖에서 넘긴 인스턴스는 감싸지 않는다
+    private void compileProxies(List<Class<?>> types, Set<Class<?>> external, List<String> errors) {
+        Map<Class<?>, Map<Method, Object>> cached = new HashMap<>();
+        Map<Class<?>, Map<Method, Async>> async = new HashMap<>();
+        Set<Class<?>> proxied = new LinkedHashSet<>();
+        for (Class<?> type : types) {
+            if (external.contains(type)) continue;
+            try {
+                Map<Method, Object> methods = CacheInterceptors.annotatedMethods(type);
+                if (!methods.isEmpty()) {
+                    CacheInterceptors.registerCaches(type, methods, caches);
+                    cached.put(type, methods);
+                    proxied.add(type);
+                }
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+            try {
+                Map<Method, Async> methods = AsyncInterceptors.annotatedMethods(type);
+                if (!methods.isEmpty()) {
+                    async.put(type, methods);
+                    proxied.add(type);
+                }
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        for (Class<?> type : proxied) {
+            try {
+                Map<Method, MethodInterceptor> interceptors = new HashMap<>(
+                        CacheInterceptors.interceptors(type, cached.getOrDefault(type, Map.of()), caches));
+                AsyncInterceptors.interceptors(type, async.getOrDefault(type, Map.of()), asyncExecutors, asyncMethods)
+                        .forEach((method, interceptor) -> {
+                            if (interceptors.putIfAbsent(method, interceptor) != null) {
+                                throw new IllegalStateException("Method cannot be both @Async and @Cacheable/@CacheEvict: "
+                                        + type.getName() + "#" + method.getName());
+                            }
+                        });
+                proxyTemplates.put(type, InterceptingProxy.template(type, interceptors));
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+        }
+    }
+
+    // 리스너는 스코프 규칙대로 빈을 꺼내는 공급자를 들고 있다 (이벤트마다 타입 조회 없음)
+    private void compileListeners(List<Class<?>> types, int from, List<EventBus.Listener> listeners, List<String> errors) {
+        for (int i = from; i < types.size(); i++) {
+            try {
+                listeners.addAll(EventBus.listenersOf(types.get(i), providers[i]));
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+        }
+    }
+
+    // 작업도 공급자로 빈을 꺼낸다 → 지연 빈은 첫 실행 때 만들어진다
+    private void compileScheduledTasks(List<Class<?>> types, int from, List<ScheduledTask> tasks, List<String> errors) {
+        for (int i = from; i < types.size(); i++) {
+            try {
+                tasks.addAll(ScheduledTask.tasksOf(types.get(i), providers[i], beanDefinitions.get(types.get(i))));
+            } catch (IllegalStateException e) {
+                errors.add(e.getMessage());
+            }
+        }
+    }
+
+    // 프록시는 인터페이스만 구현하므로 구체 클래스 파라미터에는 넣을 수 없다
+    private void requireProxyInjectionPoint(Class<?> injectionType, Class<?> target) {
+        if (proxyTemplates.containsKey(target) && !injectionType.isInterface()) {
+            throw new IllegalStateException("Proxied bean (@Cacheable/@CacheEvict/@Async) must be injected through an interface: "
+                    + injectionType.getName() + " (bean " + target.getName() + ")");
+        }
+    }
+
+    private Provider<?> providerAt(int index, Class<?> target) {
+        Provider<?> provider = providers[index];
+        if (provider == null) {
+            throw new IllegalStateException("POOLED bean must be borrowed with borrow(), not injected as Provider: "
+                    + target.getName());
+        }
+        return provider;
+    }
+
+    // 자식 컨텍스트의 Provider 파라미터가 부모에게 위임될 때
+    private Provider<?> providerFor(Class<?> type, String qualifier) {
+        if (delegatesToParent(type, qualifier)) return parent.providerFor(type, qualifier);
+        Class<?> target = resolveCandidate(type, qualifier);
+        requireProxyInjectionPoint(type, target);
+        return providerAt(planByType.get(target).index, target);
+    }
+
+    // 자식 컨텍스트의 일반 파라미터가 부모에게 위임될 때: 주입할 값을 만드는 공급자 (대상이 @Lazy면 프록시)
+    private Provider<?> dependencyProvider(Class<?> depType, String qualifier) {
+        if (delegatesToParent(depType, qualifier)) return parent.dependencyProvider(depType, qualifier);
+        BeanPlan target = planByType.get(resolveCandidate(depType, qualifier));
+        requireProxyInjectionPoint(depType, target.type);
+        if (target.scope == ScopeType.POOLED) {
+            throw new IllegalStateException("POOLED bean must be borrowed with borrow(): " + target.type.getName());
+        }
+        if (target.lazy) {
+            LazyBeanProxy.requireInjectionPoint(depType, target.type);
+            return () -> lazyProxy(depType, target);
+        }
+        return providers[target.index];
+    }
+
+    // 자식 컨텍스트의 List/Map 파라미터가 부모에게 위임될 때 (부모는 계획이 이미 있으므로 planByType으로 번호를 찾는다)
+    private Provider<?> collectionFor(boolean map, Class<?> elementType, String qualifier) {
+        if (delegatesToParent(elementType, qualifier)) return parent.collectionFor(map, elementType, qualifier);
+        return collections.computeIfAbsent(new CollectionKey(map, elementType, qualifier),
+                k -> compileCollection(k, type -> planByType.get(type).index));
+    }
+
+    // 원소 후보와 원소별 공급자를 미리 정해 둔다 (후보가 없으면 빈 컬렉션)
+    private BeanCollection compileCollection(CollectionKey key, Function<Class<?>, Integer> indexOf) {
+        Class<?> elementType = key.elementType();
+        List<Class<?>> candidates = typeIndex.candidatesFor(elementType, key.qualifier());
+        String[] names = new String[candidates.size()];
+        Provider<?>[] elements = new Provider<?>[candidates.size()];
+        int[] targets = new int[candidates.size()];
+        int edges = 0;
+        boolean cacheable = true;
+        for (int i = 0; i < elements.length; i++) {
+            Class<?> target = candidates.get(i);
+            int targetIndex = indexOf.apply(target);
+            ScopeType scope = beanDefinitions.get(target);
+            names[i] = beanNames.get(target);
+            requireProxyInjectionPoint(elementType, target);
+            if (scope == ScopeType.POOLED) {
+                throw new IllegalStateException("POOLED bean must be borrowed with borrow(): " + target.getName());
+            }
+            if (lazyBeans.contains(target)) {
+                LazyBeanProxy.requireInjectionPoint(elementType, target);
+                elements[i] = () -> lazyProxy(elementType, plans[targetIndex]);
+                continue; // 프록시는 스코프 규칙을 호출 때 적용하므로 재사용해도 된다
+            }
+            elements[i] = providers[targetIndex];
+            targets[edges++] = targetIndex;
+            cacheable &= scope == ScopeType.SINGLETON;
+        }
+        targets = Arrays.copyOf(targets, edges);
+        return key.map() ? BeanCollection.map(List.copyOf(candidates), names, elements, targets, cacheable)
+                : BeanCollection.list(List.copyOf(candidates), elements, targets, cacheable);
+    }
+
+    private static Map<Class<?>, BeanPlan> byType(BeanPlan[] plans) {
+        Map<Class<?>, BeanPlan> result = new HashMap<>();
+        for (BeanPlan plan : plans) result.put(plan.type, plan);
+        return Map.copyOf(result);
+    }
+
+    private Map<String, BeanPlan> byName(BeanPlan[] plans) {
+        Map<String, BeanPlan> result = new HashMap<>();
+        for (BeanPlan plan : plans) result.put(beanNames.get(plan.type), plan);
+        return Map.copyOf(result);
+    }
+
+    // 간선: 생성자/@Bean 메서드 파라미터가 가리키는 빈(List/Map이면 각 원소) + @Bean 메서드의 설정 클래스
+    // + 이미 만든 @Bean 본문이 직접 부른 @Bean (생성된 설정 하위 클래스가 호출 때 기록)
+    // @Lazy/Provider 대상으로 가는 간선은 생성 시점에 만들지 않으므로 제외 (생성 순서에 영향이 없고 순환도 끊는다)
+    private BeanDependencyGraph buildDependencyGraph(BeanPlan[] plans) {
+        Map<Class<?>, List<Class<?>>> dependencies = new HashMap<>();
+        for (BeanPlan plan : plans) {
+            List<Class<?>> deps = new ArrayList<>();
+            for (BeanPlan dep : creationDependencies(plan, plans)) deps.add(dep.type);
+            dependencies.put(plan.type, deps);
+        }
+        return new BeanDependencyGraph(dependencies);
+    }
+
+    // plans는 현재 계획이거나 새로 고침 중인 계획 (기존 빈의 번호는 그대로다)
+    private List<BeanPlan> creationDependencies(BeanPlan plan, BeanPlan[] plans) {
+        List<BeanPlan> deps = new ArrayList<>();
+        if (plan.config >= 0) deps.add(plans[plan.config]);
+        for (Class<?> called : beanMethodCalls.calledBy(plan.type)) {
+            BeanPlan target = planByType.get(called);
+            if (target != null && target.index < plans.length) deps.add(plans[target.index]);
+        }
+        for (int i = 0; i < plan.kinds.length; i++) {
+            if (plan.kinds[i] == BeanPlan.DIRECT) deps.add(plans[plan.args[i]]);
+            if (plan.kinds[i] == BeanPlan.COLLECTION) {
+                for (int target : ((BeanCollection) plan.constants[i]).targets()) deps.add(plans[target]);
+            }
+        }
+        return deps;
+    }
+
+    // ===== eager 초기화 =====
+
+    // 실패하면 이미 만들어진 싱글톤을 정리(@PreDestroy)하고 원래 예외를 던진다
+    private SingletonInitReport preInstantiateSingletons(int parallelism) {
+        try {
+            return new ParallelSingletonInitializer(dependencyGraph,
+                    c -> planByType.get(c).scope == ScopeType.SINGLETON && !planByType.get(c).lazy,
+                    c -> getOrCreateSingleton(planByType.get(c)),
+                    parallelism).run();
+        } catch (RuntimeException | Error e) {
+            try {
+                destroyOwnedBeans(shutdownTimeout);
+            } catch (RuntimeException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+    }
+
+    // ===== 부분 새로 고침 =====
+
+    // 1) 정의를 바꾸고 전체를 다시 컴파일 (스캔·인스턴스 생성 없음, 기존 계획 번호 유지). 실패하면 정의를 되돌린다
+    // 2) 주입 방식이 같은 계획은 기존 객체를 그대로 쓰고, 바뀐 빈 + 그 빈에 전이적으로 의존하는 빈만 영향 범위로 본다
+    // 3) 상태를 교체한 뒤 영향 범위의 옛 싱글톤을 소멸시키고, 이미 만들어져 있던 것만 의존 순서대로 다시 만든다
+    private List<Class<?>> applyRefresh(Set<Class<?>> reloads, Map<Class<?>, Object> instances, Set<Class<?>> components) {
+        synchronized (refreshLock) {
+            BeanPlan[] oldPlans = plans;
+            Map<Class<?>, BeanPlan> oldByType = planByType;
+            for (Class<?> type : reloads) {
+                BeanPlan plan = requireDefined(oldByType, type);
+                if (plan.factory == null) {
+                    throw new IllegalArgumentException("Cannot reload a bean registered as an instance: " + type.getName());
+                }
+            }
+            for (Class<?> type : instances.keySet()) {
+                if (requireDefined(oldByType, type).scope != ScopeType.SINGLETON) {
+                    throw new IllegalArgumentException("Only a SINGLETON bean can be replaced with an instance: " + type.getName());
+                }
+            }
+            List<DefinitionSnapshot.BeanMethodDefinition> beanMethods = new ArrayList<>();
+            for (Class<?> c : components) beanMethods.addAll(beanMethodsOf(c)); // @Configuration이면 @Bean 메서드도 추가
+            List<Class<?>> added = new ArrayList<>(components);
+            for (DefinitionSnapshot.BeanMethodDefinition m : beanMethods) added.add(m.method().getReturnType());
+            for (Class<?> type : added) {
+                if (oldByType.containsKey(type)) {
+                    throw new IllegalArgumentException("Bean already defined (use reload): " + type.getName());
+                }
+            }
+
+            DefinitionBackup backup = new DefinitionBackup();
+            BeanPlan[] compiled;
+            BeanDependencyGraph graph;
+            List<EventBus.Listener> addedListeners = new ArrayList<>();
+            List<ScheduledTask> addedTasks = new ArrayList<>();
+            try {
+                for (DefinitionSnapshot.BeanMethodDefinition m : beanMethods) registerBeanMethod(m);
+                for (Class<?> c : components) registerComponent(c);
+                Set<Class<?>> external = new HashSet<>(instances.keySet());
+                for (BeanPlan plan : oldPlans) {
+                    if (plan.factory == null) external.add(plan.type);
+                }
+                instances.keySet().forEach(proxyTemplates::remove); // 밖에서 넘긴 인스턴스는 감싸지 않는다
+
+                List<Class<?>> types = new ArrayList<>(oldPlans.length + added.size());
+                for (BeanPlan plan : oldPlans) types.add(plan.type);
+                added.sort(Comparator.comparing(Class::getName));
+                types.addAll(new LinkedHashSet<>(added)); // @Bean 반환 타입이 넘긴 컴포넌트와 같으면 한 번만
+
+                this.typeIndex = new BeanTypeIndex(beanDefinitions.keySet(), qualifierIndex());
+                collections.entrySet().removeIf(e -> !e.getValue().candidates()
+                        .equals(typeIndex.candidatesFor(e.getKey().elementType(), e.getKey().qualifier())));
+                this.providers = compileProviders(types, providers);
+                compiled = compileDefinitions(types, external, oldPlans.length, addedListeners, addedTasks);
+                for (int i = 0; i < oldPlans.length; i++) {
+                    Class<?> type = oldPlans[i].type;
+                    if (!reloads.contains(type) && !instances.containsKey(type) && sameWiring(oldPlans[i], compiled[i])) {
+                        compiled[i] = oldPlans[i];
+                    }
+                }
+                graph = buildDependencyGraph(compiled);
+            } catch (RuntimeException | Error e) {
+                backup.restore();
+                throw e;
+            }
+
+            // 영향 범위: 바뀐 계획 + 위상 순서로 훑으며 영향 받은 빈에 의존하는 빈
+            Set<Class<?>> affected = new HashSet<>(reloads);
+            affected.addAll(instances.keySet());
+            for (int i = 0; i < oldPlans.length; i++) {
+                if (compiled[i] != oldPlans[i]) affected.add(oldPlans[i].type);
+            }
+            List<Class<?>> replaced = new ArrayList<>();
+            List<Class<?>> rebuild = new ArrayList<>();
+            Map<Class<?>, Object> retired = new HashMap<>();
+            AtomicReferenceArray<Object> current = singletons;
+            for (Class<?> type : graph.topologicalOrder()) {
+                BeanPlan old = oldByType.get(type);
+                if (old == null) continue; // 새로 추가된 빈은 처음 요청될 때 만든다
+                if (!affected.contains(type)) {
+                    for (Class<?> dep : graph.dependenciesOf(type)) {
+                        if (affected.contains(dep)) {
+                            affected.add(type);
+                            break;
+                        }
+                    }
+                    if (!affected.contains(type)) continue;
+                }
+                Object instance = current.get(old.index);
+                if (instance != null && old.factory != null) retired.put(type, instance);
+                if (instances.containsKey(type)) replaced.add(type);
+                else if (instance != null) {
+                    replaced.add(type);
+                    rebuild.add(type);
+                }
+            }
+            BeanDependencyGraph retiredGraph = shutdownGraph(retired.keySet()); // 옛 계획 기준 소멸 순서
+
+            AtomicReferenceArray<Object> resized = new AtomicReferenceArray<>(compiled.length);
+            for (int i = 0; i < oldPlans.length; i++) {
+                if (!affected.contains(oldPlans[i].type)) resized.set(i, current.get(i));
+            }
+            instances.forEach((type, instance) -> resized.set(oldByType.get(type).index, instance));
+            this.plans = compiled;
+            this.planByType = byType(compiled);
+            this.planByName = byName(compiled);
+            this.dependencyGraph = graph;
+            this.singletons = resized;
+            eventBus.register(addedListeners);
+            scheduler.register(addedTasks);
+            invalidateAffected(compiled, affected);
+
+            RuntimeException failure = null;
+            try {
+                new ParallelSingletonDestroyer(retiredGraph, retired, lifecycle::invokePreDestroy,
+                        shutdownParallelism, beanShutdownTimeout, shutdownTimeout).run();
+            } catch (RuntimeException e) {
+                failure = e; // 다시 만드는 것은 계속한다
+            }
+            for (Class<?> type : rebuild) getOrCreateSingleton(planByType.get(type));
+            if (failure != null) throw failure;
+            return replaced;
+        }
+    }
+
+    private static BeanPlan requireDefined(Map<Class<?>, BeanPlan> byType, Class<?> type) {
+        BeanPlan plan = byType.get(type);
+        if (plan == null) throw new IllegalArgumentException("No bean definition to refresh: " + type.getName());
+        return plan;
+    }
+
+    // 다시 컴파일한 계획이 기존 계획과 같은 방식으로 만들어지는가 (같은 생성자/메서드, 같은 주입 대상과 공급자)
+    private static boolean sameWiring(BeanPlan a, BeanPlan b) {
+        if (a.scope != b.scope || a.lazy != b.lazy || a.beanMethod != b.beanMethod || a.config != b.config
+                || a.proxy != b.proxy || (a.factory == null) != (b.factory == null)) {
+            return false;
+        }
+        if (a.factory != null && !a.factory.executable().equals(b.factory.executable())) return false;
+        if (!Arrays.equals(a.kinds, b.kinds) || !Arrays.equals(a.args, b.args)) return false;
+        for (int i = 0; i < a.constants.length; i++) {
+            if (a.constants[i] != b.constants[i]) return false;
         }
-        Class<?> targetClass = target.get();
-        ScopeType scope = beanDefinitions.getOrDefault(targetClass, ScopeType.SINGLETON);
-        return (scope == ScopeType.SINGLETON)
-                ? getOrCreateSingleton(targetClass)    // 싱글톤은 캐시
-                : createNewInstanceGraph(targetClass); // 프로토타입은 새로 생성
+        return true;
     }
 
-    // 설정 클래스 자체를 컴포넌트 규칙으로 생성
-    private Object getOrCreateAccordingToComponentRules(Class<?> clazz) {
-        ScopeType scope = beanDefinitions.getOrDefault(clazz, ScopeType.SINGLETON);
-        return (scope == ScopeType.SINGLETON) ? getOrCreateSingleton(clazz)
-                : createNewInstanceGraph(clazz);
+    // 영향 받은 빈의 옛 인스턴스가 남지 않도록: 싱글톤 컬렉션 캐시, @Cacheable 캐시, POOLED 풀
+    private void invalidateAffected(BeanPlan[] compiled, Set<Class<?>> affected) {
+        for (BeanCollection collection : collections.values()) {
+            for (int target : collection.targets()) {
+                if (affected.contains(compiled[target].type)) {
+                    collection.invalidate();
+                    break;
+                }
+            }
+        }
+        for (Class<?> type : affected) {
+            if (proxyTemplates.containsKey(type)) {
+                for (String name : CacheInterceptors.cacheNames(type)) caches.get(name).clear();
+            }
+            BeanPool pool = pools.remove(type);
+            if (pool != null) pool.close();
+        }
     }
 
-    private static Object newInstance(Constructor<?> ctor, Object[] args) {
+    // 새로 고침 컴파일이 실패했을 때 되돌릴 정의 상태
+    private final class DefinitionBackup {
+        private final Map<Class<?>, ScopeType> definitions = new HashMap<>(beanDefinitions);
+        private final Map<Class<?>, BeanMethodMeta> methods = new HashMap<>(beanMethodsByType);
+        private final Set<Class<?>> lazy = new HashSet<>(lazyBeans);
+        private final Map<Class<?>, String> names = new HashMap<>(beanNames);
+        private final Map<Class<?>, String> qualifiers = new HashMap<>(beanQualifiers);
+        private final Map<Class<?>, InterceptingProxy.Template> templates = new HashMap<>(proxyTemplates);
+        private final Map<String, MethodCache> cacheSnapshot = new HashMap<>(caches);
+        private final Map<String, AsyncMethod> asyncSnapshot = new HashMap<>(asyncMethods);
+        private final Map<CollectionKey, BeanCollection> collectionSnapshot = new HashMap<>(collections);
+        private final BeanTypeIndex index = typeIndex;
+        private final Provider<?>[] providerSnapshot = providers;
+
+        void restore() {
+            replace(beanDefinitions, definitions);
+            replace(beanMethodsByType, methods);
+            lazyBeans.retainAll(lazy);
+            replace(beanNames, names);
+            replace(beanQualifiers, qualifiers);
+            replace(proxyTemplates, templates);
+            replace(caches, cacheSnapshot);
+            replace(asyncMethods, asyncSnapshot);
+            replace(collections, collectionSnapshot);
+            typeIndex = index;
+            providers = providerSnapshot;
+        }
+
+        private static <K, V> void replace(Map<K, V> target, Map<K, V> snapshot) {
+            target.keySet().retainAll(snapshot.keySet());
+            target.putAll(snapshot);
+        }
+    }
+
+    // ===== 종료 =====
+
+    // 추적 중인 PROTOTYPE 클래스 하나의 살아 있는 인스턴스들 (소멸 그래프에서 빈 하나처럼 다룬다)
+    private record LivePrototypes(Class<?> type) {
+    }
+
+    // 이 컨텍스트가 만든 싱글톤과 추적 중인 PROTOTYPE을 의존 역순으로 (밖에서 넘긴 인스턴스는 소유자가 정리).
+    // PROTOTYPE도 그래프에 넣으므로 인스턴스를 쥔 싱글톤의 @PreDestroy가 끝난 뒤, 인스턴스가 쓰는 싱글톤보다 먼저 소멸한다
+    private void destroyOwnedBeans(Duration timeout) {
+        Map<Class<?>, Object> owned = new HashMap<>();
+        for (BeanPlan plan : plans) {
+            Object instance = singletons.get(plan.index);
+            if (instance != null && plan.factory != null) owned.put(plan.type, instance);
+        }
+        if (prototypes != null) {
+            for (Class<?> type : prototypes.liveTypes()) {
+                if (planByType.containsKey(type)) owned.put(type, new LivePrototypes(type));
+            }
+        }
+        RuntimeException failure = null;
+        try {
+            new ParallelSingletonDestroyer(shutdownGraph(owned.keySet()), owned, bean -> {
+                if (bean instanceof LivePrototypes live) prototypes.close(live.type());
+                else lifecycle.invokePreDestroy(bean);
+            }, shutdownParallelism, beanShutdownTimeout, timeout).run();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        try {
+            if (prototypes != null) prototypes.close(); // 그사이 새로 만들어진 인스턴스
+        } catch (RuntimeException e) {
+            if (failure == null) failure = e;
+            else failure.addSuppressed(e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    // 만들어진 싱글톤끼리의 의존 그래프. 중간의 비싱글톤(프로토타입 등)은 건너뛰어 간접 의존으로 이어 붙인다
+    private BeanDependencyGraph shutdownGraph(Set<Class<?>> created) {
+        Map<Class<?>, List<Class<?>>> dependencies = new HashMap<>();
+        for (Class<?> bean : created) {
+            Set<Class<?>> deps = new LinkedHashSet<>();
+            collectCreatedDependencies(planByType.get(bean), created, deps, new HashSet<>());
+            dependencies.put(bean, new ArrayList<>(deps));
+        }
+        return new BeanDependencyGraph(dependencies);
+    }
+
+    private void collectCreatedDependencies(BeanPlan plan, Set<Class<?>> created,
+                                            Set<Class<?>> result, Set<BeanPlan> visited) {
+        if (!visited.add(plan)) return;
+        for (BeanPlan dep : creationDependencies(plan, plans)) {
+            if (created.contains(dep.type)) result.add(dep.type);
+            else if (dep.scope != ScopeType.SINGLETON) collectCreatedDependencies(dep, created, result, visited);
+        }
+    }
+
+    // ===== 빈 정의 수집 =====
+
+    private static DefinitionSnapshot loadDefinitions(String basePackage, Path snapshotFile, ClassLoader classLoader) {
+        if (snapshotFile == null) return scanDefinitions(basePackage, classLoader, false);
+        String fingerprint = DefinitionSnapshot.classpathFingerprint(basePackage);
+        DefinitionSnapshot cached = DefinitionSnapshot.read(snapshotFile, fingerprint, classLoader);
+        if (cached != null) return cached;
+        DefinitionSnapshot scanned = scanDefinitions(basePackage, classLoader, true);
         try {
-            return ctor.newInstance(args);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to instantiate: " + ctor.getDeclaringClass().getName(), e);
+            scanned.write(snapshotFile, fingerprint);
+        } catch (IOException ignored) {
+            // 스냅샷은 캐시일 뿐: 쓸 수 없는 위치여도 시작은 계속한다 (다음에도 스캔)
+        }
+        return scanned;
+    }
+
+    // @Component 후보: 컴파일 타임 인덱스가 있으면 그대로 쓰고, 없을 때만 클래스패스 스캔
+    // selectConstructors: 스냅샷에 싣기 위해 생성자를 미리 고른다 (고를 수 없는 클래스는 생성 시점으로 미룸)
+    private static DefinitionSnapshot scanDefinitions(String basePackage, ClassLoader classLoader,
+                                                      boolean selectConstructors) {
+        CandidateComponentsIndex index = CandidateComponentsIndex.load(classLoader);
+        Set<Class<?>> components;
+        Set<Class<?>> configs;
+        if (index != null) {
+            components = index.getCandidateTypes(basePackage, CandidateComponentsIndex.COMPONENT, classLoader);
+            configs = index.getCandidateTypes(basePackage, CandidateComponentsIndex.CONFIGURATION, classLoader);
+        } else {
+            Reflections reflections = new Reflections(basePackage);
+            // 메타 애노테이션 자체(@Configuration 등)와 생성된 하위 클래스($$Enhanced/$$Lazy, 상위 클래스 애노테이션으로 잡힘)는 빈이 아니므로 제외
+            components = withoutInterfaces(reflections.getTypesAnnotatedWith(Component.class));
+            configs = withoutInterfaces(reflections.getTypesAnnotatedWith(Configuration.class));
+        }
+
+        List<DefinitionSnapshot.BeanMethodDefinition> beanMethods = new ArrayList<>();
+        Set<Class<?>> beanMethodTypes = new HashSet<>();
+        for (Class<?> cfgClass : configs) {
+            for (DefinitionSnapshot.BeanMethodDefinition m : beanMethodsOf(cfgClass)) {
+                beanMethods.add(m);
+                beanMethodTypes.add(m.method().getReturnType());
+            }
+        }
+        List<DefinitionSnapshot.ComponentDefinition> definitions = new ArrayList<>();
+        for (Class<?> c : components) {
+            ScopeType scope = ScopeType.SINGLETON;
+            if (c.isAnnotationPresent(Scope.class)) {
+                scope = c.getAnnotation(Scope.class).value();
+            }
+            Constructor<?> ctor = null;
+            if (selectConstructors && !beanMethodTypes.contains(c)) {
+                try {
+                    ctor = selectConstructor(c);
+                } catch (RuntimeException ignored) {
+                    // 생성 시점에 같은 오류가 다시 보고된다
+                }
+            }
+            definitions.add(new DefinitionSnapshot.ComponentDefinition(c, scope, isLazy(c.getAnnotation(Lazy.class)), ctor));
+        }
+        return new DefinitionSnapshot(beanMethods, definitions);
+    }
+
+    // @Configuration 클래스의 @Bean 메서드 정의 (설정 클래스가 아니면 빈 목록)
+    private static List<DefinitionSnapshot.BeanMethodDefinition> beanMethodsOf(Class<?> cfgClass) {
+        if (!cfgClass.isAnnotationPresent(Configuration.class)) return List.of();
+        List<DefinitionSnapshot.BeanMethodDefinition> result = new ArrayList<>();
+        for (Method m : cfgClass.getDeclaredMethods()) {
+            if (m.isAnnotationPresent(Bean.class)) {
+                result.add(new DefinitionSnapshot.BeanMethodDefinition(cfgClass, m,
+                        m.getAnnotation(Bean.class).scope(), isLazy(m.getAnnotation(Lazy.class))));
+            }
+        }
+        return result;
+    }
+
+    // @Bean 메서드 하나를 반환 타입의 빈 정의로 등록한다 (설정 인스턴스 생성은 첫 @Bean 호출 시점으로 미룸)
+    private void registerBeanMethod(DefinitionSnapshot.BeanMethodDefinition m) {
+        Class<?> returnType = m.method().getReturnType();
+        if (beanMethodsByType.containsKey(returnType)) {
+            throw new IllegalArgumentException("Duplicate @Bean return type: " + returnType);
+        }
+        beanMethodsByType.put(returnType, new BeanMethodMeta(m.configClass(), m.method(), m.scope()));
+        // 타입 기준 조회가 가능하도록 정의에도 등록
+        beanDefinitions.put(returnType, m.scope());
+        if (m.lazy()) lazyBeans.add(returnType);
+        String name = m.method().getAnnotation(Bean.class).name();
+        beanNames.put(returnType, name.isEmpty() ? m.method().getName() : name);
+        Qualifier qualifier = m.method().getAnnotation(Qualifier.class);
+        if (qualifier != null) beanQualifiers.put(returnType, qualifier.value());
+    }
+
+    // 자식 컨텍스트/새로 고침에서 클래스 하나를 컴포넌트로 등록한다 (스캔한 컴포넌트와 같은 규칙)
+    private void registerComponent(Class<?> c) {
+        Scope scope = c.getAnnotation(Scope.class);
+        beanDefinitions.put(c, (scope != null) ? scope.value() : ScopeType.SINGLETON);
+        if (isLazy(c.getAnnotation(Lazy.class))) lazyBeans.add(c);
+        registerComponentName(c);
+    }
+
+    // 이미 @Bean 메서드로 이름이 정해진 타입은 그대로 둔다
+    private void registerComponentName(Class<?> type) {
+        Component component = type.getAnnotation(Component.class);
+        String name = (component != null && !component.value().isEmpty()) ? component.value() : defaultBeanName(type);
+        if (beanNames.putIfAbsent(type, name) != null) return;
+        Qualifier qualifier = type.getAnnotation(Qualifier.class);
+        if (qualifier != null) beanQualifiers.put(type, qualifier.value());
+    }
+
+    // 빈 클래스 → 그 빈을 가리키는 한정자 (이름 + @Qualifier)
+    private Map<Class<?>, Set<String>> qualifierIndex() {
+        Map<Class<?>, Set<String>> result = new HashMap<>();
+        beanNames.forEach((type, name) -> result.computeIfAbsent(type, k -> new HashSet<>()).add(name));
+        beanQualifiers.forEach((type, qualifier) -> result.computeIfAbsent(type, k -> new HashSet<>()).add(qualifier));
+        return result;
+    }
+
+    // FooService → fooService (URLParser처럼 앞 두 글자가 대문자면 그대로). 중첩 클래스는 Outer.Inner → outer.Inner
+    static String defaultBeanName(Class<?> type) {
+        String simple = type.getName().substring(type.getName().lastIndexOf('.') + 1).replace('$', '.');
+        if (simple.length() > 1 && Character.isUpperCase(simple.charAt(1)) && Character.isUpperCase(simple.charAt(0))) {
+            return simple;
+        }
+        return Character.toLowerCase(simple.charAt(0)) + simple.substring(1);
+    }
+
+    private static boolean isLazy(Lazy lazy) {
+        return lazy != null && lazy.value();
+    }
+
+    private static Set<Class<?>> withoutInterfaces(Set<Class<?>> types) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (Class<?> t : types) {
+            if (!t.isInterface() && !BeanMethodCalls.isEnhanced(t) && !LazyBeanTarget.isGenerated(t)) result.add(t);
+        }
+        return result;
+    }
+
+    private static ClassLoader defaultClassLoader() {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        return (cl != null) ? cl : ApplicationContext.class.getClassLoader();
+    }
+
+    private static Object newInstance(InstanceFactory factory, Class<?> clazz, Object[] args) {
+        try {
+            return factory.create(null, args);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to instantiate: " + clazz.getName(), e);
         }
     }
     @Override
     public void close() {
-        lifecycle.invokePreDestroyAll(singletons.values());
+        // 새 @Scheduled 실행을 멈추고, 진행 중인 작업/@Async 호출/대기 중인 비동기 이벤트를 먼저 끝내고 (대상 빈이 아직 살아 있을 때),
+        // POOLED/THREAD 빈은 싱글톤에 의존할 수 있으므로 싱글톤보다 먼저 정리 (추적 중인 PROTOTYPE은 싱글톤과 함께 의존 순서대로).
+        // 한 단계가 실패해도 나머지는 계속한다. 제한 시간은 하나의 마감으로 모든 단계가 나눠 쓴다 (각 단계는 남은 시간만 받는다)
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        RuntimeException failure = null;
+        List<Runnable> steps = new ArrayList<>();
+        steps.add(() -> scheduler.close(remaining(deadline))); // 작업이 @Async 호출/이벤트 발행을 할 수 있으므로 가장 먼저
+        steps.add(() -> asyncExecutors.close(remaining(deadline))); // @Async 작업이 이벤트를 발행할 수 있으므로 이벤트 버스보다 먼저
+        steps.add(() -> eventBus.close(remaining(deadline)));
+        pools.forEach((type, pool) -> steps.add(() -> runWithin("pool " + type.getName(), pool::close, deadline))); // 유휴 POOLED 인스턴스 정리
+        steps.add(() -> runWithin("thread scope", threadScope::close, deadline));
+        steps.add(() -> destroyOwnedBeans(remaining(deadline)));
+        for (Runnable step : steps) {
+            try {
+                step.run();
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private static Duration remaining(long deadline) {
+        return Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+    }
+
+    // 자체 제한 시간이 없는 정리 단계를 데몬 스레드에서 돌리고 마감까지만 기다린다 (넘기면 인터럽트하고 포기)
+    private void runWithin(String name, Runnable step, long deadline) {
+        FutureTask<Void> task = new FutureTask<>(step, null);
+        Thread thread = new Thread(task, "myspring-shutdown-" + name);
+        thread.setDaemon(true);
+        thread.start();
+        try {
+            task.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            thread.interrupt();
+            throw new IllegalStateException("Shutdown timed out after " + shutdownTimeout.toMillis() + "ms in " + name);
+        } catch (InterruptedException e) {
+            thread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while closing " + name, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException r) throw r;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException("Failed to close " + name, e.getCause());
+        }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package myspring.core;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 컨텍스트가 소유하는 {@code @Async} 실행기들.
+ * <p>
+ * 기본 실행기("")는 가상 스레드(지원하지 않는 런타임이면 데몬 스레드 풀)이고, Builder로 이름마다 크기 제한 플랫폼 스레드 풀을
+ * 등록할 수 있다 (""로 등록하면 기본 실행기를 대신한다). 실행기는 @Async 메서드가 처음 가리킬 때(계획 컴파일 중) 만든다.
+ * <p>
+ * 진행 중인 호출 수를 세어 두고, close()는 새 호출을 막은 뒤 진행 중인 호출이 모두 끝나기를 기다리고 실행기를 닫는다.
+ */
+final class AsyncExecutors {
+
+    static final String DEFAULT = "";
+
+    /** 크기 제한 플랫폼 스레드 풀 설정 */
+    record PoolSpec(int threads, int queueCapacity) {}
+
+    private final Map<String, PoolSpec> specs;
+    private final Map<String, ExecutorService> executors = new HashMap<>(); // 계획 컴파일(생성자) 중에만 추가
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean closed;
+
+    AsyncExecutors(Map<String, PoolSpec> specs) {
+        this.specs = Map.copyOf(specs);
+    }
+
+    Map<String, PoolSpec> specs() {
+        return specs;
+    }
+
+    /** 이름에 해당하는 실행기 (처음이면 만든다). 등록되지 않은 이름이면 IllegalStateException */
+    ExecutorService executorFor(String name, String usedBy) {
+        ExecutorService executor = executors.get(name);
+        if (executor != null) return executor;
+        PoolSpec spec = specs.get(name);
+        if (spec == null && !name.equals(DEFAULT)) {
+            throw new IllegalStateException("Unknown @Async executor '" + name + "': " + usedBy);
+        }
+        String prefix = name.isEmpty() ? "myspring-async" : "myspring-async-" + name;
+        executor = (spec == null)
+                ? ManagedExecutors.virtualOrCached(prefix)
+                : new ThreadPoolExecutor(spec.threads(), spec.threads(), 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(spec.queueCapacity()), ManagedExecutors.daemonThreads(prefix));
+        executors.put(name, executor);
+        return executor;
+    }
+
+    /** 호출 하나를 시작한다. 닫혔으면 false */
+    boolean enter() {
+        inFlight.incrementAndGet();
+        if (!closed) return true;
+        exit();
+        return false;
+    }
+
+    void exit() {
+        if (inFlight.decrementAndGet() == 0 && closed) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /** 새 호출을 막고, 진행 중인 호출이 timeout 안에 끝나기를 기다린 뒤 실행기를 닫는다 */
+    void close(Duration timeout) {
+        closed = true;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean drained = awaitInFlight(deadline);
+        for (ExecutorService executor : executors.values()) executor.shutdown();
+        try {
+            for (ExecutorService executor : executors.values()) {
+                if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    drained = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drained = false;
+        }
+        if (drained) return;
+        for (ExecutorService executor : executors.values()) executor.shutdownNow();
+        throw new IllegalStateException("@Async tasks did not finish within " + timeout.toMillis()
+                + "ms, in flight: " + inFlight.get());
+    }
+
+    private synchronized boolean awaitInFlight(long deadline) {
+        try {
+            while (inFlight.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package myspring.core;
+
+import myspring.core.annotation.Async;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@code @Async} 메서드를 찾아 {@link MethodInterceptor}로 만든다.
+ * 애노테이션 위치 규칙은 {@link CacheInterceptors}와 같다 (구현 클래스 메서드 또는 인터페이스 메서드).
+ */
+final class AsyncInterceptors {
+
+    /** 인터페이스 메서드 → @Async. 프록시할 메서드가 없으면 빈 맵 */
+    static Map<Method, Async> annotatedMethods(Class<?> beanType) {
+        Set<Class<?>> interfaces = InterceptingProxy.interfacesOf(beanType);
+        Map<Method, Async> result = new LinkedHashMap<>();
+        for (Class<?> c = beanType; c != null && c != Object.class && !c.isInterface(); c = c.getSuperclass()) {
+            Method[] methods = c.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method m : methods) {
+                Async async = m.getAnnotation(Async.class);
+                if (async == null) continue;
+                Method api = InterceptingProxy.interfaceMethod(interfaces, m);
+                if (api == null) {
+                    throw new IllegalStateException("@Async method must implement an interface method to be proxied: "
+                            + describe(c, m));
+                }
+                result.putIfAbsent(api, async); // 하위 클래스가 먼저
+            }
+        }
+        for (Class<?> type : interfaces) {
+            for (Method m : type.getMethods()) {
+                Async async = m.getAnnotation(Async.class);
+                if (async != null) result.putIfAbsent(m, async);
+            }
+        }
+        return result;
+    }
+
+    /** 메서드별 디스패처를 registry(클래스명#메서드명(파라미터 타입) → 디스패처)에 등록하고 인터셉터를 만든다 */
+    static Map<Method, MethodInterceptor> interceptors(Class<?> beanType, Map<Method, Async> methods,
+                                                      AsyncExecutors executors, Map<String, AsyncMethod> registry) {
+        Map<Method, MethodInterceptor> result = new HashMap<>();
+        methods.forEach((method, async) -> {
+            String name = signature(beanType, method); // 오버로드끼리 덮어쓰지 않도록
+            if (!method.getReturnType().isAssignableFrom(CompletableFuture.class) || method.getReturnType() == Object.class) {
+                throw new IllegalStateException("@Async method must return CompletableFuture: " + name);
+            }
+            if (async.maxConcurrency() < 0 || async.queueCapacity() < 1) {
+                throw new IllegalStateException("@Async maxConcurrency must not be negative and queueCapacity must be positive: "
+                        + name);
+            }
+            AsyncMethod dispatcher = new AsyncMethod(name, executors.executorFor(async.executor(), name), executors,
+                    async.maxConcurrency(), async.queueCapacity());
+            registry.put(name, dispatcher);
+            result.put(method, (target, args, invoker) ->
+                    dispatcher.submit(() -> (Object) invoker.invokeExact(target, args)));
+        });
+        return result;
+    }
+
+    private static String describe(Class<?> type, Method m) {
+        return type.getName() + "#" + m.getName();
+    }
+
+    private static String signature(Class<?> type, Method m) {
+        StringJoiner params = new StringJoiner(",", "(", ")");
+        for (Class<?> p : m.getParameterTypes()) params.add(p.getTypeName());
+        return describe(type, m) + params;
+    }
+}
@@ -0,0 +1,152 @@
+package myspring.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code @Async} 메서드 하나의 디스패처: 동시 실행 제한, 대기열 크기 제한, 통계.
+ * <p>
+ * 제한이 있으면 허가(permits)를 얻은 호출만 실행기에 넘기고 나머지는 메서드별 대기열에서 기다린다
+ * (대기하는 동안 스레드를 잡지 않는다). 허가는 메서드가 돌려준 future가 끝날 때 돌려주므로,
+ * 느린 하위 호출이 쌓여도 동시에 진행 중인 호출은 maxConcurrency를 넘지 않는다.
+ */
+final class AsyncMethod {
+
+    /** 대상 메서드 호출 (프록시의 MethodHandle 호출) */
+    @FunctionalInterface
+    interface Invocation {
+        Object call() throws Throwable;
+    }
+
+    private final class Call implements Runnable {
+        final Invocation invocation;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        Call(Invocation invocation) {
+            this.invocation = invocation;
+        }
+
+        @Override
+        public void run() {
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            Object returned;
+            try {
+                returned = invocation.call();
+            } catch (Throwable e) {
+                finish(this, null, e);
+                return;
+            }
+            if (returned instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> finish(this, value, error));
+            } else {
+                finish(this, returned, null); // null 반환
+            }
+        }
+    }
+
+    private final String name;
+    private final Executor executor;
+    private final AsyncExecutors owner;
+    private final int maxConcurrency; // 0이면 제한 없음
+    private final int queueCapacity;
+    private final ConcurrentLinkedQueue<Call> waiting = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waitingCount = new AtomicInteger(); // 허가를 기다리는 호출 (queueCapacity 기준)
+    private final AtomicInteger permits = new AtomicInteger(); // 실행기에 넘겼고 아직 끝나지 않은 호출
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    AsyncMethod(String name, Executor executor, AsyncExecutors owner, int maxConcurrency, int queueCapacity) {
+        this.name = name;
+        this.executor = executor;
+        this.owner = owner;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /** 호출을 예약하고 결과 future를 바로 돌려준다 (거부되면 RejectedExecutionException으로 끝난 future) */
+    CompletableFuture<Object> submit(Invocation invocation) {
+        Call call = new Call(invocation);
+        if (!owner.enter()) {
+            rejected.increment();
+            call.result.completeExceptionally(new RejectedExecutionException("Context is closed, cannot run " + name));
+            return call.result;
+        }
+        if (maxConcurrency > 0 && waitingCount.incrementAndGet() > queueCapacity) {
+            waitingCount.decrementAndGet();
+            rejected.increment();
+            owner.exit();
+            call.result.completeExceptionally(new RejectedExecutionException(
+                    "@Async queue is full (" + queueCapacity + "): " + name));
+            return call.result;
+        }
+        queued.incrementAndGet();
+        if (maxConcurrency == 0) {
+            dispatch(call);
+        } else {
+            waiting.add(call);
+            dispatchWaiting();
+        }
+        return call.result;
+    }
+
+    AsyncStats stats() {
+        return new AsyncStats(queued.get(), active.get(), completed.sum(), failed.sum(), rejected.sum());
+    }
+
+    // 허가가 남아 있는 동안 대기열에서 꺼내 실행기에 넘긴다. 허가를 돌려준 스레드도 호출하므로 대기 호출이 남지 않는다
+    private void dispatchWaiting() {
+        while (!waiting.isEmpty()) {
+            int taken = permits.get();
+            if (taken >= maxConcurrency) return;
+            if (!permits.compareAndSet(taken, taken + 1)) continue;
+            Call call = waiting.poll();
+            if (call == null) {
+                permits.decrementAndGet();
+                continue;
+            }
+            waitingCount.decrementAndGet();
+            dispatch(call);
+        }
+    }
+
+    private void dispatch(Call call) {
+        try {
+            executor.execute(call);
+        } catch (RejectedExecutionException e) { // 크기 제한 풀의 큐가 가득 찼거나 종료 중
+            queued.decrementAndGet();
+            rejected.increment();
+            release();
+            call.result.completeExceptionally(e);
+        }
+    }
+
+    private void finish(Call call, Object value, Throwable error) {
+        active.decrementAndGet();
+        if (error == null) completed.increment(); else failed.increment();
+        release();
+        if (error == null) {
+            call.result.complete(value);
+        } else {
+            call.result.completeExceptionally((error instanceof CompletionException && error.getCause() != null)
+                    ? error.getCause() : error);
+        }
+    }
+
+    private void release() {
+        if (maxConcurrency > 0) {
+            permits.decrementAndGet();
+            dispatchWaiting();
+        }
+        owner.exit();
+    }
+}
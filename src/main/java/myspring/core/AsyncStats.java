@@ -0,0 +1,13 @@
+package myspring.core;
+
+/**
+ * {@code @Async} 메서드 하나의 실행 통계 스냅샷.
+ *
+ * @param queued    받았지만 아직 시작하지 않은 호출 수 (동시 실행 제한 대기 + 실행기 큐)
+ * @param active    실행 중인 호출 수 (메서드가 돌려준 future가 끝나기를 기다리는 중인 호출 포함)
+ * @param completed 정상 완료된 호출 수
+ * @param failed    예외로 끝난 호출 수
+ * @param rejected  대기열이 가득 찼거나 컨텍스트가 닫혀서 실행하지 않은 호출 수
+ */
+public record AsyncStats(long queued, long active, long completed, long failed, long rejected) {
+}
@@ -0,0 +1,73 @@
+package myspring.core;
+
+import java.util.*;
+
+/**
+ * {@code List<T>}/{@code Map<String, T>} 파라미터에 주입할 컬렉션 공급자.
+ * 원소 후보와 원소별 공급자는 계획 컴파일 때 정해 두고, get()은 그 배열만 따라가 불변 컬렉션을 만든다.
+ * <p>
+ * 원소가 모두 싱글톤이면 처음 만든 컬렉션을 그대로 재사용한다 (주입 지점마다 같은 인스턴스).
+ * 프로토타입 등이 섞여 있으면 주입할 때마다 새로 만든다. 순서는 계획 순서(클래스명 순), Map 키는 빈 이름.
+ */
+final class BeanCollection implements Provider<Object> {
+
+    private final List<Class<?>> candidates; // 원소 빈 클래스 (새로 고침 때 후보가 바뀌었는지 비교)
+    private final String[] names;           // Map이면 원소별 빈 이름, List면 null
+    private final Provider<?>[] elements;
+    private final int[] targets;            // 생성 순서 간선이 되는 원소의 계획 번호 (@Lazy 원소 제외)
+    private final boolean cacheable;
+    private volatile Object cached;
+
+    private BeanCollection(List<Class<?>> candidates, String[] names, Provider<?>[] elements, int[] targets,
+                           boolean cacheable) {
+        this.candidates = candidates;
+        this.names = names;
+        this.elements = elements;
+        this.targets = targets;
+        this.cacheable = cacheable;
+    }
+
+    static BeanCollection list(List<Class<?>> candidates, Provider<?>[] elements, int[] targets, boolean cacheable) {
+        return new BeanCollection(candidates, null, elements, targets, cacheable);
+    }
+
+    static BeanCollection map(List<Class<?>> candidates, String[] names, Provider<?>[] elements, int[] targets,
+                              boolean cacheable) {
+        return new BeanCollection(candidates, names, elements, targets, cacheable);
+    }
+
+    List<Class<?>> candidates() {
+        return candidates;
+    }
+
+    int[] targets() {
+        return targets;
+    }
+
+    /** 캐시한 컬렉션을 버린다 (원소 싱글톤이 새로 고침으로 바뀌었을 때) */
+    void invalidate() {
+        cached = null;
+    }
+
+    // 캐시 경합 시 두 스레드가 모두 만들어도 원소가 같은 싱글톤이므로 결과는 같다
+    @Override
+    public Object get() {
+        Object result = cached;
+        if (result != null) return result;
+        result = (names == null) ? buildList() : buildMap();
+        if (cacheable) cached = result;
+        return result;
+    }
+
+    private List<Object> buildList() {
+        Object[] values = new Object[elements.length];
+        for (int i = 0; i < values.length; i++) values[i] = elements[i].get();
+        return List.of(values);
+    }
+
+    private Map<String, Object> buildMap() {
+        Map<String, Object> values = new LinkedHashMap<>(elements.length * 2);
+        for (int i = 0; i < elements.length; i++) values.put(names[i], elements[i].get());
+        return Collections.unmodifiableMap(values);
+    }
+}
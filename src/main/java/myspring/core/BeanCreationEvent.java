@@ -0,0 +1,25 @@
+package myspring.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** 빈 인스턴스 하나의 생성 구간 (의존성 생성 + @PostConstruct 포함). JFR이 이 이벤트를 기록하지 않으면 비용이 거의 없다 */
+@Name("myspring.BeanCreation")
+@Label("Bean Creation")
+@Category({"myspring", "Container"})
+@Description("Creation of one bean instance, including its dependencies and @PostConstruct callbacks")
+@StackTrace(false)
+final class BeanCreationEvent extends jdk.jfr.Event {
+
+    @Label("Bean Class")
+    Class<?> beanClass;
+
+    @Label("Scope")
+    String scope;
+
+    @Label("Dependency Depth")
+    int depth;
+}
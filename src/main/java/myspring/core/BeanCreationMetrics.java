@@ -0,0 +1,20 @@
+package myspring.core;
+
+import myspring.core.annotation.ScopeType;
+
+import java.time.Duration;
+
+/**
+ * 빈 클래스 하나의 누적 생성 지표.
+ *
+ * @param beanClass         빈 클래스 (@Bean 메서드면 반환 타입)
+ * @param scope             스코프
+ * @param instances         생성된 인스턴스 수
+ * @param totalTime         생성에 걸린 시간 합 (이 빈 때문에 함께 생성된 의존성 포함)
+ * @param selfTime          totalTime에서 중첩 생성된 의존성 시간을 뺀 것
+ * @param postConstructTime 그중 @PostConstruct에 쓴 시간
+ * @param maxDepth          생성될 때의 최대 의존 깊이 (getBean으로 직접 만들어지면 0)
+ */
+public record BeanCreationMetrics(Class<?> beanClass, ScopeType scope, long instances, Duration totalTime,
+                                  Duration selfTime, Duration postConstructTime, int maxDepth) {
+}
@@ -0,0 +1,81 @@
+package myspring.core;
+
+import java.util.*;
+
+/**
+ * 빈 정의 간 의존 그래프 (빈 클래스 → 생성에 필요한 빈 클래스들).
+ * 간선은 {@code @Inject} 생성자 파라미터, {@code @Bean} 메서드 파라미터와 그 설정 클래스에서 나온다.
+ * <p>
+ * 생성 시점에 순환을 검사하고, 의존 대상이 먼저 오는 위상 순서를 계산해 둔다 (같은 단계에서는 클래스명 순 → 결정적).
+ */
+final class BeanDependencyGraph {
+
+    private final Map<Class<?>, List<Class<?>>> dependencies;
+    private final List<Class<?>> topologicalOrder;
+
+    BeanDependencyGraph(Map<Class<?>, List<Class<?>>> dependencies) {
+        Map<Class<?>, List<Class<?>>> copy = new HashMap<>();
+        dependencies.forEach((bean, deps) -> {
+            for (Class<?> dep : deps) {
+                if (!dependencies.containsKey(dep)) {
+                    throw new IllegalArgumentException("Unknown dependency " + dep.getName() + " of " + bean.getName());
+                }
+            }
+            copy.put(bean, List.copyOf(deps));
+        });
+        this.dependencies = Map.copyOf(copy);
+        this.topologicalOrder = List.copyOf(sort(this.dependencies));
+    }
+
+    /** bean이 직접 의존하는 빈들 (그래프에 없는 클래스면 빈 리스트) */
+    List<Class<?>> dependenciesOf(Class<?> bean) {
+        return dependencies.getOrDefault(bean, List.of());
+    }
+
+    /** 의존 대상이 항상 먼저 오는 순서 */
+    List<Class<?>> topologicalOrder() {
+        return topologicalOrder;
+    }
+
+    // DFS 후위 순서 = 위상 순서. 방문 중인 노드를 다시 만나면 순환 경로를 그대로 보고한다
+    private static List<Class<?>> sort(Map<Class<?>, List<Class<?>>> dependencies) {
+        Comparator<Class<?>> byName = Comparator.comparing(Class::getName);
+        List<Class<?>> roots = new ArrayList<>(dependencies.keySet());
+        roots.sort(byName);
+
+        List<Class<?>> order = new ArrayList<>(roots.size());
+        Set<Class<?>> done = new HashSet<>();
+        LinkedHashSet<Class<?>> path = new LinkedHashSet<>(); // 현재 DFS 경로 (순환 메시지용)
+        for (Class<?> root : roots) {
+            visit(root, dependencies, byName, done, path, order);
+        }
+        return order;
+    }
+
+    private static void visit(Class<?> bean, Map<Class<?>, List<Class<?>>> dependencies, Comparator<Class<?>> byName,
+                              Set<Class<?>> done, LinkedHashSet<Class<?>> path, List<Class<?>> order) {
+        if (done.contains(bean)) return;
+        if (!path.add(bean)) {
+            throw new IllegalStateException("Circular dependency detected: " + describeCycle(path, bean));
+        }
+        List<Class<?>> deps = new ArrayList<>(dependencies.get(bean));
+        deps.sort(byName);
+        for (Class<?> dep : deps) {
+            visit(dep, dependencies, byName, done, path, order);
+        }
+        path.remove(bean);
+        done.add(bean);
+        order.add(bean);
+    }
+
+    // path = [.., start, .., last] → "start -> .. -> last -> start"
+    private static String describeCycle(LinkedHashSet<Class<?>> path, Class<?> start) {
+        StringJoiner cycle = new StringJoiner(" -> ");
+        boolean inCycle = false;
+        for (Class<?> c : path) {
+            if (c == start) inCycle = true;
+            if (inCycle) cycle.add(c.getName());
+        }
+        return cycle.add(start.getName()).toString();
+    }
+}
@@ -0,0 +1,91 @@
+package myspring.core;
+
+import myspring.core.annotation.Configuration;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 애노테이션 프로세서가 {@code @Configuration} 클래스마다 만드는 하위 클래스({@code XxxConfig$$Enhanced})가
+ * @Bean 메서드 사이의 직접 호출을 컨테이너로 넘기는 통로. 생성된 코드 전용이다.
+ * <p>
+ * 재정의된 @Bean 메서드는 {@link #proceed(Class)}가 true이면 (컨테이너가 지금 바로 그 빈을 만드는 중) 원래 본문을 실행하고,
+ * 아니면 (다른 @Bean 메서드나 사용자 코드에서 부른 경우) {@link #bean(Class)}로 스코프 처리를 거친 빈을 돌려준다.
+ * 그래서 싱글톤 @Bean은 몇 번 불러도 인스턴스가 하나이고, PROTOTYPE은 부를 때마다 새로 만든다.
+ * 컨테이너가 만드는 중인 @Bean 본문에서 부른 호출은 의존 간선으로 기록해 종료 순서와 새로 고침 영향 범위에 반영한다.
+ * 생성된 클래스가 없으면 (프로세서 없이 컴파일) 원래 클래스를 그대로 쓴다 (lite 모드와 같음).
+ */
+public final class BeanMethodCalls {
+
+    static final String ENHANCED_SUFFIX = "$$Enhanced";
+
+    // 컨테이너가 이 스레드에서 @Bean 메서드로 만들고 있는 빈 타입 (중첩 생성은 이전 값을 되돌린다)
+    private static final ThreadLocal<Class<?>> CREATING = new ThreadLocal<>();
+
+    /** 생성된 하위 클래스가 구현한다. 컨테이너가 인스턴스를 만든 직후 (@PostConstruct 전) 호출한다 */
+    public interface Enhanced {
+        void bindBeanMethodCalls(BeanMethodCalls calls);
+    }
+
+    private final Function<Class<?>, Object> container; // @Bean 반환 타입 → 스코프 규칙대로 꺼낸 빈
+    private final ConcurrentMap<Class<?>, Set<Class<?>>> calls = new ConcurrentHashMap<>(); // 만든 빈 → 본문에서 부른 빈
+
+    BeanMethodCalls(Function<Class<?>, Object> container) {
+        this.container = container;
+    }
+
+    /** 컨테이너가 지금 beanType을 만드는 중이면 true (원래 메서드 본문을 실행해야 함) */
+    public boolean proceed(Class<?> beanType) {
+        return CREATING.get() == beanType;
+    }
+
+    /** beanType 빈을 컨테이너에서 꺼낸다 (싱글톤은 캐시, PROTOTYPE은 새로 생성) */
+    @SuppressWarnings("unchecked")
+    public <T> T bean(Class<T> beanType) {
+        Class<?> caller = CREATING.get();
+        if (caller != null && caller != beanType) {
+            calls.computeIfAbsent(caller, k -> ConcurrentHashMap.newKeySet()).add(beanType);
+        }
+        return (T) container.apply(beanType);
+    }
+
+    /** caller를 만드는 @Bean 본문이 지금까지 부른 @Bean 반환 타입들 (파라미터로는 드러나지 않는 의존) */
+    Set<Class<?>> calledBy(Class<?> caller) {
+        return calls.getOrDefault(caller, Set.of());
+    }
+
+    /** @Bean 메서드 호출 직전: 만드는 타입을 기록하고 이전 값을 돌려준다 ({@link #exit(Class)}로 되돌림) */
+    static Class<?> enter(Class<?> beanType) {
+        Class<?> previous = CREATING.get();
+        CREATING.set(beanType);
+        return previous;
+    }
+
+    static void exit(Class<?> previous) {
+        if (previous == null) CREATING.remove(); // 스레드 풀 환경에서 ThreadLocal 누수 방지
+        else CREATING.set(previous);
+    }
+
+    /** 설정 클래스 대신 인스턴스를 만들 하위 클래스. @Configuration이 아니거나 lite 모드거나 생성된 클래스가 없으면 null */
+    static Class<?> enhancedClass(Class<?> configClass) {
+        Configuration config = configClass.getAnnotation(Configuration.class);
+        if (config == null || !config.proxyBeanMethods()) return null;
+        Class<?> enhanced;
+        try {
+            enhanced = Class.forName(configClass.getName() + ENHANCED_SUFFIX, false, configClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (enhanced.getSuperclass() != configClass || !Enhanced.class.isAssignableFrom(enhanced)) {
+            throw new IllegalStateException("Not a generated @Configuration subclass: " + enhanced.getName());
+        }
+        return enhanced;
+    }
+
+    /** 생성된 하위 클래스인지 (스캔 결과에서 뺀다) */
+    static boolean isEnhanced(Class<?> type) {
+        return Enhanced.class.isAssignableFrom(type) && type.getName().endsWith(ENHANCED_SUFFIX);
+    }
+}
@@ -0,0 +1,63 @@
+package myspring.core;
+
+import myspring.core.annotation.ScopeType;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 빈 하나의 생성 계획. 컨텍스트 생성 시 전체 그래프를 검증하면서 컴파일하고, 이후에는 바뀌지 않는다.
+ * <p>
+ * 파라미터마다 주입 방식(kinds)과 대상 계획 번호(args)를 들고 있어, 생성할 때는 타입 매칭이나
+ * 해시 조회 없이 계획 배열만 따라간다. 생성 중 순환도 컴파일 때 이미 걸러졌으므로 따로 추적하지 않는다.
+ */
+final class BeanPlan {
+
+    /** 같은 컨텍스트의 빈: 스코프 규칙대로 꺼낸다 */
+    static final byte DIRECT = 0;
+    /** 같은 컨텍스트의 @Lazy 빈: 프록시를 주입한다 */
+    static final byte LAZY = 1;
+    /** Provider 파라미터: constants[i]를 그대로 주입한다 */
+    static final byte PROVIDER = 2;
+    /** 부모 컨텍스트에 위임된 의존성: constants[i].get()을 주입한다 */
+    static final byte PARENT = 3;
+    /** List/Map 파라미터: constants[i]는 {@link BeanCollection}, get()한 컬렉션을 주입한다 */
+    static final byte COLLECTION = 4;
+
+    /** 싱글톤 생성 락: 빈마다 하나씩, 서로 다른 빈은 병렬로 생성된다 */
+    static final class CreationLock extends ReentrantLock {
+        Thread owner() { return getOwner(); }
+    }
+
+    final int index;
+    final Class<?> type;
+    final ScopeType scope;
+    final boolean lazy;
+    final InstanceFactory factory;   // null: 밖에서 만들어 넘긴 인스턴스 (자식 컨텍스트)
+    final boolean beanMethod;        // @Bean 메서드로 만드는 빈
+    final int config;                // 설정 클래스 계획 번호 (컴포넌트/static @Bean이면 -1)
+    final byte[] kinds;
+    final int[] args;                // DIRECT/LAZY: 대상 계획 번호
+    final Provider<?>[] constants;   // PROVIDER/PARENT/COLLECTION: 미리 만든 Provider
+    final InterceptingProxy.Template proxy; // @Cacheable 등 가로챌 메서드가 있으면 생성 후 감쌀 프록시, 없으면 null
+    final CreationLock lock = new CreationLock();
+
+    BeanPlan(int index, Class<?> type, ScopeType scope, boolean lazy, InstanceFactory factory, boolean beanMethod,
+             int config, byte[] kinds, int[] args, Provider<?>[] constants, InterceptingProxy.Template proxy) {
+        this.index = index;
+        this.type = type;
+        this.scope = scope;
+        this.lazy = lazy;
+        this.factory = factory;
+        this.beanMethod = beanMethod;
+        this.config = config;
+        this.kinds = kinds;
+        this.args = args;
+        this.constants = constants;
+        this.proxy = proxy;
+    }
+
+    @Override
+    public String toString() {
+        return type.getName();
+    }
+}
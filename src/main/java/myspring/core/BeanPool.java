@@ -0,0 +1,199 @@
+package myspring.core;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * POOLED 빈 하나의 고정 크기 풀.
+ * <ul>
+ *     <li>대여 수는 Semaphore(maxSize)로 제한하고, 모두 대여 중이면 maxWait까지 기다린다</li>
+ *     <li>스레드마다 마지막으로 쓴 항목을 기억해 두고, 그 항목이 비어 있으면 큐를 거치지 않고 CAS 한 번으로 다시 빌린다</li>
+ *     <li>그 외에는 lock-free 큐에서 꺼내고, 비어 있으면 maxSize까지 새로 만든다</li>
+ *     <li>반납 시 @PoolReset을 호출하고, idleTimeout보다 오래 쉰 항목은 반납/대여 흐름에서 가끔 정리한다 (별도 스레드 없음)</li>
+ * </ul>
+ */
+final class BeanPool {
+
+    private static final int IDLE = 0;
+    private static final int IN_USE = 1;
+    private static final int EVICTED = 2;
+
+    static final class Entry {
+        final Object bean;
+        private final AtomicInteger state = new AtomicInteger(IN_USE);
+        private final AtomicBoolean queued = new AtomicBoolean(); // 큐에 한 번만 들어가도록
+        private volatile long idleSince;
+
+        private Entry(Object bean) {
+            this.bean = bean;
+        }
+    }
+
+    private final Class<?> beanClass;
+    private final Supplier<Object> factory;
+    private final Consumer<Object> reset;
+    private final Consumer<Object> destroy;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final long maxWaitNanos;
+
+    private final Semaphore permits;
+    private final AtomicInteger total = new AtomicInteger(); // 살아 있는 인스턴스 수 (대여 중 + 유휴)
+    private final ConcurrentLinkedQueue<Entry> idle = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Entry> lastUsed = new ThreadLocal<>();
+    private final AtomicLong nextEviction;
+    private volatile boolean closed;
+
+    BeanPool(Class<?> beanClass, Supplier<Object> factory, Consumer<Object> reset, Consumer<Object> destroy,
+             int maxSize, long idleTimeoutMillis, long maxWaitMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("@Pooled maxSize must be positive: " + beanClass.getName());
+        }
+        this.beanClass = beanClass;
+        this.factory = factory;
+        this.reset = reset;
+        this.destroy = destroy;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.permits = new Semaphore(maxSize);
+        this.nextEviction = new AtomicLong(System.nanoTime() + idleTimeoutNanos);
+    }
+
+    Entry borrow() {
+        if (closed) throw new IllegalStateException("Pool is closed: " + beanClass.getName());
+        acquirePermit();
+        try {
+            Entry hint = lastUsed.get();
+            if (hint != null && hint.state.compareAndSet(IDLE, IN_USE)) return hint; // fast path: 공유 구조 안 건드림
+            Entry entry = takeOrCreate();
+            lastUsed.set(entry);
+            return entry;
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        } finally {
+            evictIfDue();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Pool exhausted: " + beanClass.getName() + " (maxSize=" + maxSize
+                        + ", waited " + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while borrowing: " + beanClass.getName(), e);
+        }
+    }
+
+    // 허가를 얻었다면 유휴 항목이 있거나 새로 만들 자리가 있다 (반납 중인 항목을 잠깐 기다릴 수는 있음)
+    private Entry takeOrCreate() {
+        while (true) {
+            Entry e = idle.poll();
+            if (e != null) {
+                e.queued.set(false);
+                if (e.state.compareAndSet(IDLE, IN_USE)) return e;
+                continue; // 다른 스레드가 fast path로 가져갔거나 제거됨
+            }
+            if (total.incrementAndGet() <= maxSize) {
+                try {
+                    return new Entry(factory.get());
+                } catch (RuntimeException | Error ex) {
+                    total.decrementAndGet();
+                    throw ex;
+                }
+            }
+            total.decrementAndGet();
+            Thread.onSpinWait();
+        }
+    }
+
+    /** @PoolReset이 실패하면 그 인스턴스는 풀에 돌려놓지 않고 폐기한 뒤 예외를 던진다 */
+    void release(Entry entry) {
+        try {
+            if (closed) {
+                discard(entry);
+                return;
+            }
+            try {
+                reset.accept(entry.bean);
+            } catch (RuntimeException | Error e) {
+                try {
+                    discard(entry);
+                } catch (RuntimeException destroyFailure) {
+                    e.addSuppressed(destroyFailure);
+                }
+                throw e;
+            }
+            entry.idleSince = System.nanoTime();
+            entry.state.set(IDLE);
+            if (entry.queued.compareAndSet(false, true)) idle.offer(entry);
+        } finally {
+            permits.release();
+        }
+        if (closed) drain(); // close와 경합한 반납
+        evictIfDue();
+    }
+
+    /** 유휴 인스턴스를 모두 폐기한다. 대여 중인 인스턴스는 반납될 때 폐기된다 */
+    void close() {
+        closed = true;
+        drain();
+    }
+
+    int size() {
+        return total.get();
+    }
+
+    private void drain() {
+        RuntimeException failure = null;
+        Entry e;
+        while ((e = idle.poll()) != null) {
+            if (!e.state.compareAndSet(IDLE, EVICTED)) continue;
+            try {
+                total.decrementAndGet();
+                destroy.accept(e.bean);
+            } catch (RuntimeException ex) {
+                if (failure == null) failure = ex;
+                else failure.addSuppressed(ex);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void discard(Entry entry) {
+        entry.state.set(EVICTED);
+        total.decrementAndGet();
+        destroy.accept(entry.bean);
+    }
+
+    // idleTimeout의 절반마다 한 스레드만 큐를 훑는다
+    private void evictIfDue() {
+        if (idleTimeoutNanos <= 0) return;
+        long now = System.nanoTime();
+        long next = nextEviction.get();
+        if (now - next < 0 || !nextEviction.compareAndSet(next, now + idleTimeoutNanos / 2)) return;
+        for (Iterator<Entry> it = idle.iterator(); it.hasNext(); ) {
+            Entry e = it.next();
+            if (now - e.idleSince >= idleTimeoutNanos && e.state.compareAndSet(IDLE, EVICTED)) {
+                it.remove();
+                total.decrementAndGet();
+                try {
+                    destroy.accept(e.bean);
+                } catch (RuntimeException ignored) {
+                    // 정리 실패가 지금 대여/반납하는 호출자에게 전파되지 않도록
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package myspring.core;
+
+import java.util.*;
+
+/**
+ * 타입 → 후보 빈 클래스 조회 테이블.
+ * 컨텍스트 생성 시 한 번 만들어 두고, getBean/resolveDependency는 해시 조회 한 번으로 후보를 얻는다.
+ * <ul>
+ *     <li>정의에 정확히 등록된 타입은 자기 자신만 후보 (정확 매칭 우선)</li>
+ *     <li>그 외 상위 클래스/인터페이스는 할당 가능한 모든 빈 클래스가 후보 (클래스명 순 → 결정적)</li>
+ *     <li>한정자(빈 이름 또는 @Qualifier)가 붙은 조회는 (타입, 한정자) 키로 따로 색인해 역시 한 번에 찾는다</li>
+ * </ul>
+ */
+final class BeanTypeIndex {
+
+    private record QualifiedType(Class<?> type, String qualifier) {}
+
+    private final Map<Class<?>, List<Class<?>>> candidatesByType;
+    private final Map<QualifiedType, List<Class<?>>> candidatesByQualifier;
+
+    BeanTypeIndex(Collection<Class<?>> beanTypes) {
+        this(beanTypes, Map.of());
+    }
+
+    /** qualifiers: 빈 클래스 → 그 빈을 가리키는 한정자들 (빈 이름 + @Qualifier 값) */
+    BeanTypeIndex(Collection<Class<?>> beanTypes, Map<Class<?>, Set<String>> qualifiers) {
+        Map<Class<?>, SortedSet<Class<?>>> byType = new HashMap<>();
+        Comparator<Class<?>> byName = Comparator.comparing(Class::getName);
+        for (Class<?> beanType : beanTypes) {
+            for (Class<?> superType : allSuperTypes(beanType)) {
+                byType.computeIfAbsent(superType, k -> new TreeSet<>(byName)).add(beanType);
+            }
+        }
+        Map<Class<?>, List<Class<?>>> index = new HashMap<>();
+        byType.forEach((type, candidates) -> index.put(type, List.copyOf(candidates)));
+        for (Class<?> beanType : beanTypes) {
+            index.put(beanType, List.of(beanType)); // 정확 매칭 우선
+        }
+        this.candidatesByType = Map.copyOf(index);
+
+        Map<QualifiedType, SortedSet<Class<?>>> byQualifier = new HashMap<>();
+        qualifiers.forEach((beanType, names) -> {
+            for (Class<?> superType : allSuperTypes(beanType)) {
+                for (String name : names) {
+                    byQualifier.computeIfAbsent(new QualifiedType(superType, name), k -> new TreeSet<>(byName)).add(beanType);
+                }
+            }
+        });
+        Map<QualifiedType, List<Class<?>>> qualified = new HashMap<>();
+        byQualifier.forEach((key, candidates) -> qualified.put(key, List.copyOf(candidates)));
+        this.candidatesByQualifier = Map.copyOf(qualified);
+    }
+
+    /** type에 할당 가능한 빈 클래스들 (없으면 빈 리스트) */
+    List<Class<?>> candidatesFor(Class<?> type) {
+        return candidatesByType.getOrDefault(type, List.of());
+    }
+
+    /** type에 할당 가능하고 이름 또는 @Qualifier가 qualifier인 빈 클래스들. qualifier가 null이면 {@link #candidatesFor(Class)} */
+    List<Class<?>> candidatesFor(Class<?> type, String qualifier) {
+        if (qualifier == null) return candidatesFor(type);
+        return candidatesByQualifier.getOrDefault(new QualifiedType(type, qualifier), List.of());
+    }
+
+    // 자기 자신 + 모든 상위 클래스 + 모든 (상위) 인터페이스
+    private static Set<Class<?>> allSuperTypes(Class<?> type) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        Deque<Class<?>> todo = new ArrayDeque<>();
+        todo.add(type);
+        while (!todo.isEmpty()) {
+            Class<?> c = todo.poll();
+            if (!result.add(c)) continue;
+            if (c.getSuperclass() != null) todo.add(c.getSuperclass());
+            todo.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,145 @@
+package myspring.core;
+
+import myspring.core.annotation.CacheEvict;
+import myspring.core.annotation.Cacheable;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * {@code @Cacheable}/{@code @CacheEvict} 메서드를 찾아 {@link MethodInterceptor}로 만든다.
+ * <p>
+ * 애노테이션은 구현 클래스 메서드(하위 클래스 우선) 또는 인터페이스 메서드에 붙일 수 있고,
+ * 인터셉터는 프록시가 받는 인터페이스 메서드 기준으로 등록된다.
+ * 캐시는 이름 단위로 컨텍스트에 하나씩 만들어진다 (같은 이름을 쓰는 @Cacheable 메서드는 캐시를 공유하며, 설정이 서로 다르면 시작 시 실패한다).
+ * 이름을 비우면 클래스명#메서드명(파라미터 타입)이라 오버로드끼리는 캐시를 나눈다.
+ */
+final class CacheInterceptors {
+
+    /** 인터페이스 메서드 → @Cacheable 또는 @CacheEvict. 프록시할 메서드가 없으면 빈 맵 */
+    static Map<Method, Object> annotatedMethods(Class<?> beanType) {
+        Set<Class<?>> interfaces = InterceptingProxy.interfacesOf(beanType);
+        Map<Method, Object> result = new LinkedHashMap<>();
+        for (Class<?> c = beanType; c != null && c != Object.class && !c.isInterface(); c = c.getSuperclass()) {
+            Method[] methods = c.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method m : methods) {
+                Object annotation = annotationOf(m);
+                if (annotation == null) continue;
+                Method api = InterceptingProxy.interfaceMethod(interfaces, m);
+                if (api == null) {
+                    throw new IllegalStateException("@" + simpleName(annotation)
+                            + " method must implement an interface method to be proxied: " + describe(c, m));
+                }
+                result.putIfAbsent(api, annotation); // 하위 클래스가 먼저
+            }
+        }
+        for (Class<?> type : interfaces) {
+            for (Method m : type.getMethods()) {
+                Object annotation = annotationOf(m);
+                if (annotation != null) result.putIfAbsent(m, annotation);
+            }
+        }
+        return result;
+    }
+
+    /** @Cacheable 캐시를 이름으로 등록한다 (이미 있으면 공유, 설정이 다르면 IllegalStateException) */
+    static void registerCaches(Class<?> beanType, Map<Method, Object> methods, Map<String, MethodCache> caches) {
+        methods.forEach((method, annotation) -> {
+            if (!(annotation instanceof Cacheable cacheable)) return;
+            if (method.getReturnType() == void.class) {
+                throw new IllegalStateException("@Cacheable method must return a value: " + describe(beanType, method));
+            }
+            String name = cacheName(beanType, method, cacheable);
+            MethodCache existing = caches.get(name);
+            if (existing == null) caches.put(name, MethodCache.of(name, cacheable));
+            else if (!existing.sameSettings(cacheable)) {
+                throw new IllegalStateException("Cache '" + name + "' is already declared with different maxSize/maxWeight/weigher/ttlMillis: "
+                        + describe(beanType, method));
+            }
+        });
+    }
+
+    /** 모든 캐시가 등록된 뒤 호출: 메서드별 인터셉터 */
+    static Map<Method, MethodInterceptor> interceptors(Class<?> beanType, Map<Method, Object> methods,
+                                                      Map<String, MethodCache> caches) {
+        Map<Method, MethodInterceptor> result = new HashMap<>();
+        methods.forEach((method, annotation) -> {
+            if (annotation instanceof Cacheable cacheable) {
+                MethodCache cache = caches.get(cacheName(beanType, method, cacheable));
+                result.put(method, (target, args, invoker) -> {
+                    Object cached = cache.get(args);
+                    if (cached != MethodCache.MISS) return cached;
+                    Object value = (Object) invoker.invokeExact(target, args);
+                    cache.put(args, value);
+                    return value;
+                });
+            } else {
+                CacheEvict evict = (CacheEvict) annotation;
+                MethodCache cache = caches.get(evict.value());
+                if (cache == null) {
+                    throw new IllegalStateException("Unknown cache '" + evict.value() + "' in @CacheEvict: "
+                            + describe(beanType, method));
+                }
+                boolean allEntries = evict.allEntries();
+                int[] key = evict.key();
+                for (int index : key) {
+                    if (index < 0 || index >= method.getParameterCount()) {
+                        throw new IllegalStateException("@CacheEvict key index " + index + " out of range: "
+                                + describe(beanType, method));
+                    }
+                }
+                result.put(method, (target, args, invoker) -> {
+                    Object value = (Object) invoker.invokeExact(target, args);
+                    if (allEntries) cache.clear();
+                    else cache.evict((key.length == 0) ? args : keyOf(args, key));
+                    return value;
+                });
+            }
+        });
+        return result;
+    }
+
+    /** beanType의 @Cacheable 메서드가 쓰는 캐시 이름들 (새로 고침으로 빈을 다시 만들 때 비운다) */
+    static Set<String> cacheNames(Class<?> beanType) {
+        Set<String> names = new LinkedHashSet<>();
+        annotatedMethods(beanType).forEach((method, annotation) -> {
+            if (annotation instanceof Cacheable cacheable) names.add(cacheName(beanType, method, cacheable));
+        });
+        return names;
+    }
+
+    private static String cacheName(Class<?> beanType, Method method, Cacheable cacheable) {
+        return cacheable.value().isEmpty() ? signature(beanType, method) : cacheable.value();
+    }
+
+    private static Object[] keyOf(Object[] args, int[] key) {
+        Object[] result = new Object[key.length];
+        for (int i = 0; i < key.length; i++) result[i] = args[key[i]];
+        return result;
+    }
+
+    private static Object annotationOf(Method m) {
+        Cacheable cacheable = m.getAnnotation(Cacheable.class);
+        CacheEvict evict = m.getAnnotation(CacheEvict.class);
+        if (cacheable != null && evict != null) {
+            throw new IllegalStateException("Method cannot be both @Cacheable and @CacheEvict: "
+                    + describe(m.getDeclaringClass(), m));
+        }
+        return (cacheable != null) ? cacheable : evict;
+    }
+
+    private static String simpleName(Object annotation) {
+        return (annotation instanceof Cacheable) ? "Cacheable" : "CacheEvict";
+    }
+
+    private static String describe(Class<?> type, Method m) {
+        return type.getName() + "#" + m.getName();
+    }
+
+    private static String signature(Class<?> type, Method m) {
+        StringJoiner params = new StringJoiner(",", "(", ")");
+        for (Class<?> p : m.getParameterTypes()) params.add(p.getTypeName());
+        return describe(type, m) + params;
+    }
+}
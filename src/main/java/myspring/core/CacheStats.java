@@ -0,0 +1,19 @@
+package myspring.core;
+
+/**
+ * {@code @Cacheable} 캐시 하나의 통계 스냅샷.
+ *
+ * @param hits      캐시에서 바로 돌려준 호출 수
+ * @param misses    대상 메서드를 호출한 수 (만료된 항목 포함)
+ * @param evictions 크기/무게 제한 때문에 밀려난 항목 수 (만료·@CacheEvict 제외)
+ * @param size      현재 항목 수
+ * @param weight    현재 무게 합 (weigher가 없으면 size와 같다)
+ */
+public record CacheStats(long hits, long misses, long evictions, long size, long weight) {
+
+    /** 적중률 (호출이 없었으면 0) */
+    public double hitRate() {
+        long total = hits + misses;
+        return (total == 0) ? 0 : (double) hits / total;
+    }
+}
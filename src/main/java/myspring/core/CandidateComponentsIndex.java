@@ -0,0 +1,75 @@
+package myspring.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.*;
+
+/**
+ * 애노테이션 프로세서(myspring.processor.BeanIndexProcessor)가 컴파일 타임에 생성한 컴포넌트 인덱스.
+ * 클래스패스의 모든 {@value #INDEX_LOCATION}를 합쳐서 읽는다 (main/test 출력, 여러 jar).
+ */
+final class CandidateComponentsIndex {
+
+    static final String INDEX_LOCATION = "META-INF/myspring.components";
+
+    // -Dmyspring.index.ignore=true 이면 인덱스를 무시하고 항상 스캔
+    static final String IGNORE_PROPERTY = "myspring.index.ignore";
+
+    static final String COMPONENT = "Component";
+    static final String CONFIGURATION = "Configuration";
+
+    // 클래스명 → 스테레오타입들
+    private final Map<String, Set<String>> stereotypesByType = new LinkedHashMap<>();
+
+    CandidateComponentsIndex(List<Properties> sources) {
+        for (Properties props : sources) {
+            for (String type : props.stringPropertyNames()) {
+                Set<String> stereotypes = stereotypesByType.computeIfAbsent(type, k -> new LinkedHashSet<>());
+                for (String s : props.getProperty(type).split(",")) {
+                    if (!s.isBlank()) stereotypes.add(s.trim());
+                }
+            }
+        }
+    }
+
+    /** 인덱스가 하나도 없거나 무시 설정이면 null (→ 호출 측에서 스캔으로 폴백) */
+    static CandidateComponentsIndex load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_PROPERTY)) return null;
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            if (!urls.hasMoreElements()) return null;
+            List<Properties> sources = new ArrayList<>();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                Properties props = new Properties();
+                try (InputStream in = url.openStream()) {
+                    props.load(in);
+                }
+                sources.add(props);
+            }
+            return new CandidateComponentsIndex(sources);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load " + INDEX_LOCATION, e);
+        }
+    }
+
+    /** basePackage 하위에서 stereotype이 붙은 클래스들 */
+    Set<Class<?>> getCandidateTypes(String basePackage, String stereotype, ClassLoader classLoader) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (Map.Entry<String, Set<String>> e : stereotypesByType.entrySet()) {
+            String type = e.getKey();
+            if (!e.getValue().contains(stereotype) || !inPackage(type, basePackage)) continue;
+            try {
+                result.add(Class.forName(type, false, classLoader));
+            } catch (ClassNotFoundException ex) {
+                throw new IllegalStateException("Indexed component not found: " + type, ex);
+            }
+        }
+        return result;
+    }
+
+    private static boolean inPackage(String type, String basePackage) {
+        return basePackage.isEmpty() || type.startsWith(basePackage + ".");
+    }
+}
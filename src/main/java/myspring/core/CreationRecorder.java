@@ -0,0 +1,94 @@
+package myspring.core;
+
+import myspring.core.annotation.ScopeType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 빈 생성 시간 기록기 (instrumentation을 켠 컨텍스트에만 존재).
+ * 스레드별로 생성 중인 빈의 프레임을 쌓아, 중첩 생성된 의존성 시간을 부모의 self 시간에서 뺀다.
+ */
+final class CreationRecorder {
+
+    static final class Frame {
+        private final Class<?> bean;
+        private final ScopeType scope;
+        private final int depth;
+        private final Frame parent;
+        private final long start;
+        private long childNanos;
+        private long postConstructNanos;
+
+        private Frame(Class<?> bean, ScopeType scope, int depth, Frame parent) {
+            this.bean = bean;
+            this.scope = scope;
+            this.depth = depth;
+            this.parent = parent;
+            this.start = System.nanoTime();
+        }
+
+        void addPostConstruct(long nanos) {
+            postConstructNanos += nanos;
+        }
+    }
+
+    private static final class Stats {
+        private final ScopeType scope;
+        private long instances;
+        private long totalNanos;
+        private long selfNanos;
+        private long postConstructNanos;
+        private int maxDepth;
+
+        Stats(ScopeType scope) {
+            this.scope = scope;
+        }
+
+        synchronized void add(long total, long self, long postConstruct, int depth) {
+            instances++;
+            totalNanos += total;
+            selfNanos += self;
+            postConstructNanos += postConstruct;
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        synchronized BeanCreationMetrics snapshot(Class<?> bean) {
+            return new BeanCreationMetrics(bean, scope, instances, Duration.ofNanos(totalNanos),
+                    Duration.ofNanos(selfNanos), Duration.ofNanos(postConstructNanos), maxDepth);
+        }
+    }
+
+    private final ThreadLocal<Frame> current = new ThreadLocal<>();
+    private final ConcurrentMap<Class<?>, Stats> stats = new ConcurrentHashMap<>();
+
+    Frame begin(Class<?> bean, ScopeType scope, int depth) {
+        Frame frame = new Frame(bean, scope, depth, current.get());
+        current.set(frame);
+        return frame;
+    }
+
+    /** created=false면 (생성 실패) 시간은 부모에게만 넘기고 지표에는 남기지 않는다 */
+    void end(Frame frame, boolean created) {
+        long total = System.nanoTime() - frame.start;
+        if (frame.parent != null) {
+            frame.parent.childNanos += total;
+            current.set(frame.parent);
+        } else {
+            current.remove(); // 스레드 풀 환경에서 ThreadLocal 누수 방지
+        }
+        if (created) {
+            stats.computeIfAbsent(frame.bean, k -> new Stats(frame.scope))
+                    .add(total, total - frame.childNanos, frame.postConstructNanos, frame.depth);
+        }
+    }
+
+    List<BeanCreationMetrics> snapshot() {
+        List<BeanCreationMetrics> result = new ArrayList<>(stats.size());
+        stats.forEach((bean, s) -> result.add(s.snapshot(bean)));
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package myspring.core;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code @Scheduled(cron = ...)} 식: "초 분 시 일 월 요일" 여섯 필드.
+ * <p>
+ * 필드마다 {@code *}, {@code ?}(일/요일), 값, 범위 {@code a-b}, 간격 {@code /n}, 목록 {@code a,b}을 쓸 수 있고,
+ * 월은 JAN-DEC, 요일은 SUN-SAT(또는 0-7, 0과 7이 일요일) 이름도 받는다.
+ * 필드는 비트 마스크로 미리 풀어 두고, 다음 시각은 맞지 않는 가장 큰 단위부터 건너뛰며 찾는다. 일과 요일은 둘 다 맞아야 한다.
+ */
+final class CronExpression {
+
+    private static final List<String> MONTHS =
+            List.of("JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC");
+    private static final List<String> DAYS = List.of("SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT");
+    private static final int MAX_STEPS = 100_000; // 2월 30일처럼 오지 않는 날짜를 끝없이 찾지 않도록
+
+    private final String expression;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek; // 0 = 일요일
+
+    private CronExpression(String expression, long[] fields) {
+        this.expression = expression;
+        this.seconds = fields[0];
+        this.minutes = fields[1];
+        this.hours = fields[2];
+        this.daysOfMonth = fields[3];
+        this.months = fields[4];
+        this.daysOfWeek = fields[5];
+    }
+
+    /** 잘못된 식은 IllegalArgumentException */
+    static CronExpression parse(String expression) {
+        String[] parts = expression.trim().split("\\s+");
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("Cron expression must have 6 fields (second minute hour day month weekday): "
+                    + expression);
+        }
+        long[] fields = {
+                field(expression, parts[0], 0, 59, null, false),
+                field(expression, parts[1], 0, 59, null, false),
+                field(expression, parts[2], 0, 23, null, false),
+                field(expression, parts[3], 1, 31, null, true),
+                field(expression, parts[4], 1, 12, MONTHS, false),
+                field(expression, parts[5], 0, 7, DAYS, true),
+        };
+        if ((fields[5] & (1L << 7)) != 0) fields[5] = (fields[5] | 1L) & ~(1L << 7); // 7도 일요일
+        return new CronExpression(expression, fields);
+    }
+
+    private static long field(String expression, String field, int min, int max, List<String> names, boolean question) {
+        long mask = 0;
+        for (String item : field.split(",")) {
+            int step = 1;
+            int slash = item.indexOf('/');
+            if (slash >= 0) {
+                step = number(expression, item.substring(slash + 1), 1, max, null);
+                item = item.substring(0, slash);
+            }
+            int from;
+            int to;
+            if (item.equals("*") || (question && item.equals("?"))) {
+                from = min;
+                to = max;
+            } else {
+                int dash = item.indexOf('-');
+                from = number(expression, (dash >= 0) ? item.substring(0, dash) : item, min, max, names);
+                to = (dash >= 0) ? number(expression, item.substring(dash + 1), min, max, names) : (slash >= 0 ? max : from);
+                if (from > to) throw new IllegalArgumentException("Invalid cron range '" + item + "': " + expression);
+            }
+            for (int v = from; v <= to; v += step) mask |= 1L << v;
+        }
+        return mask;
+    }
+
+    private static int number(String expression, String text, int min, int max, List<String> names) {
+        int value;
+        if (names != null && names.contains(text.toUpperCase(Locale.ROOT))) {
+            value = names.indexOf(text.toUpperCase(Locale.ROOT)) + ((names == MONTHS) ? 1 : 0);
+        } else {
+            try {
+                value = Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cron value '" + text + "': " + expression);
+            }
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Cron value " + value + " out of range " + min + "-" + max + ": " + expression);
+        }
+        return value;
+    }
+
+    /** afterMillis 다음(초 단위, 같은 초 제외)에 맞는 시각 (epoch ms) */
+    long next(long afterMillis, ZoneId zone) {
+        ZonedDateTime t = Instant.ofEpochMilli(afterMillis).atZone(zone).truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        for (int i = 0; i < MAX_STEPS; i++) {
+            if (!matches(months, t.getMonthValue())) {
+                t = t.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+            } else if (!matches(daysOfMonth, t.getDayOfMonth()) || !matches(daysOfWeek, t.getDayOfWeek().getValue() % 7)) {
+                t = t.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            } else if (!matches(hours, t.getHour())) {
+                t = t.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            } else if (!matches(minutes, t.getMinute())) {
+                t = t.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+            } else if (!matches(seconds, t.getSecond())) {
+                t = t.plusSeconds(1);
+            } else {
+                return t.toInstant().toEpochMilli();
+            }
+        }
+        throw new IllegalStateException("Cron expression never fires: " + expression);
+    }
+
+    private static boolean matches(long mask, int value) {
+        return (mask & (1L << value)) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,194 @@
+package myspring.core;
+
+import myspring.core.annotation.ScopeType;
+
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 스캔으로 얻은 빈 정의 (컴포넌트 클래스, 스코프, @Lazy, 선택된 생성자, @Bean 메서드).
+ * <p>
+ * 바이너리 파일로 저장해 두면 다음 시작 때 스캔과 getDeclaredMethods/생성자 선택을 건너뛴다.
+ * 파일 헤더에는 클래스패스 지문(각 항목의 경로·크기·수정 시각 해시)이 들어가고, 지문이 다르거나
+ * 기록된 클래스/멤버를 찾을 수 없으면 오래된 스냅샷으로 보고 버린다.
+ */
+final class DefinitionSnapshot {
+
+    private static final int MAGIC = 0x4D59534E; // "MYSN"
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_DEFINITIONS = 1 << 20; // 이보다 큰 개수는 손상된 파일로 본다
+    private static final int MAX_PARAMETERS = 255;      // JVM 메서드 파라미터 한도
+
+    /** ctor: 미리 고른 생성자 (고를 수 없었거나 @Bean 반환 타입과 겹치면 null → 생성 시점에 선택) */
+    record ComponentDefinition(Class<?> type, ScopeType scope, boolean lazy, Constructor<?> ctor) {}
+
+    record BeanMethodDefinition(Class<?> configClass, Method method, ScopeType scope, boolean lazy) {}
+
+    private final List<BeanMethodDefinition> beanMethods;
+    private final List<ComponentDefinition> components;
+
+    DefinitionSnapshot(List<BeanMethodDefinition> beanMethods, List<ComponentDefinition> components) {
+        this.beanMethods = List.copyOf(beanMethods);
+        this.components = List.copyOf(components);
+    }
+
+    List<BeanMethodDefinition> beanMethods() {
+        return beanMethods;
+    }
+
+    List<ComponentDefinition> components() {
+        return components;
+    }
+
+    // ===== 읽기/쓰기 =====
+
+    /** 파일이 없거나, 지문이 다르거나, 기록된 클래스/멤버가 사라졌으면 null */
+    static DefinitionSnapshot read(Path file, String fingerprint, ClassLoader classLoader) {
+        if (!Files.isRegularFile(file)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !in.readUTF().equals(fingerprint)) {
+                return null;
+            }
+            int methodCount = count(in, MAX_DEFINITIONS);
+            List<BeanMethodDefinition> beanMethods = new ArrayList<>(methodCount);
+            for (int i = 0; i < methodCount; i++) {
+                Class<?> configClass = type(in.readUTF(), classLoader);
+                String name = in.readUTF();
+                Class<?>[] params = types(in, classLoader);
+                ScopeType scope = ScopeType.valueOf(in.readUTF());
+                boolean lazy = in.readBoolean();
+                beanMethods.add(new BeanMethodDefinition(configClass, configClass.getDeclaredMethod(name, params), scope, lazy));
+            }
+            int componentCount = count(in, MAX_DEFINITIONS);
+            List<ComponentDefinition> components = new ArrayList<>(componentCount);
+            for (int i = 0; i < componentCount; i++) {
+                Class<?> type = type(in.readUTF(), classLoader);
+                ScopeType scope = ScopeType.valueOf(in.readUTF());
+                boolean lazy = in.readBoolean();
+                Constructor<?> ctor = in.readBoolean() ? type.getDeclaredConstructor(types(in, classLoader)) : null;
+                components.add(new ComponentDefinition(type, scope, lazy, ctor));
+            }
+            return new DefinitionSnapshot(beanMethods, components);
+        } catch (IOException | ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null; // 손상되었거나 오래된 스냅샷 (사라진 의존 클래스 포함) → 다시 스캔
+        }
+    }
+
+    /** 임시 파일에 쓴 뒤 교체한다 (동시에 시작한 다른 프로세스가 반쯤 쓴 파일을 읽지 않도록) */
+    void write(Path file, String fingerprint) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(beanMethods.size());
+                for (BeanMethodDefinition m : beanMethods) {
+                    out.writeUTF(m.configClass().getName());
+                    out.writeUTF(m.method().getName());
+                    writeTypes(out, m.method().getParameterTypes());
+                    out.writeUTF(m.scope().name());
+                    out.writeBoolean(m.lazy());
+                }
+                out.writeInt(components.size());
+                for (ComponentDefinition c : components) {
+                    out.writeUTF(c.type().getName());
+                    out.writeUTF(c.scope().name());
+                    out.writeBoolean(c.lazy());
+                    out.writeBoolean(c.ctor() != null);
+                    if (c.ctor() != null) writeTypes(out, c.ctor().getParameterTypes());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void writeTypes(DataOutputStream out, Class<?>[] types) throws IOException {
+        out.writeInt(types.length);
+        for (Class<?> t : types) out.writeUTF(t.getName());
+    }
+
+    private static Class<?>[] types(DataInputStream in, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        Class<?>[] types = new Class<?>[count(in, MAX_PARAMETERS)];
+        for (int i = 0; i < types.length; i++) types[i] = type(in.readUTF(), classLoader);
+        return types;
+    }
+
+    // 파일에서 읽은 개수: 음수나 터무니없이 큰 값은 손상으로 보고 버린다 (배열/리스트를 만들기 전에)
+    private static int count(DataInputStream in, int max) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > max) throw new IOException("Corrupt snapshot count: " + count);
+        return count;
+    }
+
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class);
+
+    private static Class<?> type(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return (primitive != null) ? primitive : Class.forName(name, false, classLoader);
+    }
+
+    // ===== 클래스패스 지문 =====
+
+    /**
+     * basePackage + java.class.path 각 항목의 경로·크기·수정 시각 해시.
+     * jar 내용 전체를 읽지 않으므로 파일 메타데이터만 확인하는 비용으로 끝난다. 디렉터리는 하위 파일을 모두 반영한다.
+     */
+    static String classpathFingerprint(String basePackage) {
+        MessageDigest digest = sha256();
+        update(digest, FORMAT_VERSION + ":" + basePackage);
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if (entry.isEmpty()) continue;
+            Path path = Paths.get(entry);
+            update(digest, entry);
+            try {
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> files = Files.walk(path)) {
+                        Iterator<Path> it = files.filter(Files::isRegularFile).sorted().iterator();
+                        while (it.hasNext()) {
+                            Path f = it.next();
+                            update(digest, path.relativize(f) + stamp(f));
+                        }
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    update(digest, stamp(path));
+                }
+            } catch (IOException | UncheckedIOException e) {
+                update(digest, "unreadable"); // 읽을 수 없는 항목도 지문에 남긴다 (다음에 읽히면 지문이 바뀜)
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String stamp(Path file) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        return ":" + attrs.size() + ":" + attrs.lastModifiedTime().toMillis();
+    }
+
+    private static void update(MessageDigest digest, String s) {
+        digest.update(s.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
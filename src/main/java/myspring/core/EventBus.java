@@ -0,0 +1,232 @@
+package myspring.core;
+
+import myspring.core.annotation.EventListener;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 컨텍스트 안의 이벤트 버스. {@code @EventListener} 메서드는 계획 컴파일 때 모아 두고,
+ * 이벤트 클래스별 리스너 배열은 그 클래스가 처음 발행될 때 한 번 계산해 ClassValue에 둔다 (이후 발행은 조회 한 번).
+ * <p>
+ * 동기 리스너는 발행 스레드에서 바로 호출되고, 예외는 발행자에게 그대로 전달된다 (남은 리스너는 호출되지 않음).
+ * 비동기 리스너는 리스너마다 크기 제한 큐를 두고, 큐가 비어 있지 않은 동안 컨테이너 실행기의 작업 하나가
+ * batchSize씩 꺼내 순서대로 전달한다. 큐가 가득 차면 발행 스레드가 기다린다 (배압).
+ * 비동기 리스너의 예외는 전달 스레드의 UncaughtExceptionHandler로 보내고 다음 이벤트를 계속 전달한다.
+ */
+final class EventBus {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final Listener[] NONE = new Listener[0];
+
+    /** 리스너 메서드 하나 */
+    static final class Listener {
+        final String name;         // 에러 메시지용: Bean#method
+        final Class<?> eventType;
+        final boolean batch;       // List<E> 파라미터
+        final MethodHandle handle; // (Object bean, Object eventOrList) -> void
+        final Provider<?> bean;
+        final int batchSize;
+        final ArrayBlockingQueue<Object> queue; // 동기 리스너면 null
+        final AtomicBoolean scheduled = new AtomicBoolean(); // 전달 작업이 실행기에 있거나 도는 중
+
+        private Listener(String name, Class<?> eventType, boolean batch, MethodHandle handle, Provider<?> bean,
+                         EventListener config) {
+            this.name = name;
+            this.eventType = eventType;
+            this.batch = batch;
+            this.handle = handle;
+            this.bean = bean;
+            this.batchSize = config.batchSize();
+            this.queue = config.async() ? new ArrayBlockingQueue<>(config.queueCapacity()) : null;
+        }
+
+        private void deliver(Object payload) throws Throwable {
+            handle.invokeExact(InterceptingProxy.targetOf(bean.get()), payload);
+        }
+    }
+
+    // 리스너가 추가되면(새로 고침) 배열과 색인을 통째로 바꾼다
+    private volatile Listener[] listeners = NONE;
+    private volatile ClassValue<Listener[]> byEventType = index(NONE);
+    private volatile ExecutorService executor; // 비동기 리스너가 없으면 null
+    private volatile boolean closed;
+
+    EventBus(List<Listener> listeners) {
+        register(listeners);
+    }
+
+    /** 리스너를 더한다 (컨텍스트 새로 고침으로 추가된 빈). 이벤트 클래스별 색인은 다시 계산한다 */
+    synchronized void register(List<Listener> added) {
+        if (added.isEmpty()) return;
+        List<Listener> all = new ArrayList<>(Arrays.asList(listeners));
+        all.addAll(added);
+        if (executor == null && added.stream().anyMatch(l -> l.queue != null)) {
+            executor = ManagedExecutors.virtualOrCached("myspring-event");
+        }
+        Listener[] merged = all.toArray(new Listener[0]);
+        byEventType = index(merged);
+        listeners = merged;
+    }
+
+    private static ClassValue<Listener[]> index(Listener[] listeners) {
+        return new ClassValue<>() {
+            @Override
+            protected Listener[] computeValue(Class<?> type) {
+                List<Listener> matched = new ArrayList<>();
+                for (Listener listener : listeners) {
+                    if (listener.eventType.isAssignableFrom(type)) matched.add(listener);
+                }
+                return matched.isEmpty() ? NONE : matched.toArray(new Listener[0]);
+            }
+        };
+    }
+
+    /** beanType(과 상위 클래스)의 @EventListener 메서드를 리스너로 만든다 (메서드명 순). 잘못된 선언은 IllegalStateException */
+    static List<Listener> listenersOf(Class<?> beanType, Provider<?> bean) {
+        List<Listener> result = new ArrayList<>();
+        for (Class<?> c = beanType; c != null && c != Object.class && !c.isInterface(); c = c.getSuperclass()) {
+            Method[] methods = c.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method m : methods) {
+                EventListener config = m.getAnnotation(EventListener.class);
+                if (config != null) result.add(listener(c, m, bean, config));
+            }
+        }
+        return result;
+    }
+
+    private static Listener listener(Class<?> declaring, Method m, Provider<?> bean, EventListener config) {
+        String name = declaring.getName() + "#" + m.getName();
+        if (Modifier.isStatic(m.getModifiers()) || m.getParameterCount() != 1) {
+            throw new IllegalStateException("@EventListener method must be an instance method with one parameter: " + name);
+        }
+        if (config.batchSize() < 1 || config.queueCapacity() < 1) {
+            throw new IllegalStateException("@EventListener batchSize and queueCapacity must be positive: " + name);
+        }
+        if (bean == null) {
+            throw new IllegalStateException("@EventListener bean must not be POOLED: " + name);
+        }
+        Class<?> eventType = m.getParameterTypes()[0];
+        boolean batch = eventType == List.class;
+        if (batch) {
+            Type arg = ((m.getGenericParameterTypes()[0] instanceof ParameterizedType p)) ? p.getActualTypeArguments()[0] : null;
+            if (arg instanceof ParameterizedType p) arg = p.getRawType();
+            if (!(arg instanceof Class<?> c)) {
+                throw new IllegalStateException("@EventListener List parameter must declare a concrete event type: " + name);
+            }
+            eventType = c;
+        }
+        if (eventType.isPrimitive()) {
+            throw new IllegalStateException("@EventListener parameter must not be primitive: " + name);
+        }
+        try {
+            m.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(m).asType(HANDLER_TYPE);
+            return new Listener(name, eventType, batch, handle, bean, config);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @EventListener method: " + name, e);
+        }
+    }
+
+    void publish(Object event) {
+        Objects.requireNonNull(event, "event");
+        if (closed) throw new IllegalStateException("Context is closed, cannot publish " + event.getClass().getName());
+        for (Listener listener : byEventType.get(event.getClass())) {
+            if (listener.queue == null) {
+                deliverNow(listener, event);
+            } else {
+                enqueue(listener, event);
+            }
+        }
+    }
+
+    private static void deliverNow(Listener listener, Object event) {
+        try {
+            listener.deliver(listener.batch ? List.of(event) : event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Event listener failed: " + listener.name, e);
+        }
+    }
+
+    private void enqueue(Listener listener, Object event) {
+        try {
+            listener.queue.put(event); // 가득 차면 전달 작업이 비울 때까지 기다린다
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing to " + listener.name, e);
+        }
+        if (listener.scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(listener));
+            } catch (RejectedExecutionException e) {
+                listener.scheduled.set(false);
+                throw new IllegalStateException("Context is closed, cannot publish " + event.getClass().getName(), e);
+            }
+        }
+    }
+
+    // 리스너당 전달 작업은 최대 하나 → 이벤트 순서가 유지된다. 작업을 끝내기 직전에 들어온 이벤트는 같은 작업이 이어서 처리
+    private static void drain(Listener listener) {
+        List<Object> batch = new ArrayList<>(Math.min(listener.batchSize, 1024));
+        do {
+            while (listener.queue.drainTo(batch, listener.batchSize) > 0) {
+                deliverBatch(listener, batch);
+                batch.clear();
+            }
+            listener.scheduled.set(false);
+        } while (!listener.queue.isEmpty() && listener.scheduled.compareAndSet(false, true));
+    }
+
+    private static void deliverBatch(Listener listener, List<Object> batch) {
+        if (listener.batch) {
+            deliverAsync(listener, List.copyOf(batch));
+            return;
+        }
+        for (Object event : batch) deliverAsync(listener, event);
+    }
+
+    private static void deliverAsync(Listener listener, Object payload) {
+        try {
+            listener.deliver(payload);
+        } catch (Throwable e) {
+            Thread t = Thread.currentThread();
+            t.getUncaughtExceptionHandler().uncaughtException(t,
+                    new IllegalStateException("Async event listener failed: " + listener.name, e));
+        }
+    }
+
+    /** 새 발행을 막고, 큐에 남은 이벤트를 timeout 안에 전달한 뒤 실행기를 닫는다 */
+    void close(Duration timeout) {
+        closed = true;
+        ExecutorService executor = this.executor;
+        if (executor == null) return;
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        int pending = 0;
+        for (Listener listener : listeners) {
+            if (listener.queue != null) pending += listener.queue.size();
+        }
+        throw new IllegalStateException("Event dispatch did not finish within " + timeout.toMillis()
+                + "ms, undelivered events: " + pending);
+    }
+}
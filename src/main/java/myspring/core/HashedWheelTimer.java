@@ -0,0 +1,110 @@
+package myspring.core;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongConsumer;
+
+/**
+ * 해시 휠 타이머: 틱 길이 tickMillis의 버킷 wheelSize개를 원형으로 두고, 마감 시각으로 버킷과 남은 바퀴 수를 정한다.
+ * <p>
+ * 등록은 대기 큐에 넣기만 하므로 O(1)이고 (어느 스레드에서나), 틱 처리는 {@link #advanceTo(long)}를 부른 스레드에서
+ * 해당 버킷 하나만 훑는다. 작업 수가 늘어도 틱당 비용은 그 버킷의 항목 수뿐이다. 정밀도는 틱 길이만큼이다
+ * (마감이 속한 틱이 끝날 때 실행). 만료된 작업은 advanceTo 스레드에서 바로 불리므로 짧아야 한다 (실행기로 넘기기만).
+ * 시간은 호출자가 넘기므로 실제 시계와 수동 시계({@link ManualClock})를 똑같이 다룬다.
+ */
+final class HashedWheelTimer {
+
+    /** 등록된 작업 하나 */
+    static final class Timeout {
+        final long deadline;
+        final LongConsumer task; // 마감 시각을 받는다
+        long remainingRounds;
+        Timeout next; // 버킷 체인 (advanceTo 안에서만)
+        private volatile boolean cancelled;
+
+        private Timeout(long deadline, LongConsumer task) {
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        void cancel() {
+            cancelled = true; // 버킷에서는 다음에 그 버킷을 훑을 때 뺀다
+        }
+    }
+
+    private final long startMillis;
+    private final long tickMillis;
+    private final int mask;
+    private final Timeout[] buckets;
+    private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private volatile long tick; // 처리한 틱 수 (advanceTo 안에서만 바꾼다)
+
+    HashedWheelTimer(long startMillis, long tickMillis, int wheelSize) {
+        if (tickMillis < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("Timer tick and wheel size must be positive: " + tickMillis + "ms, " + wheelSize);
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1; // 2의 거듭제곱으로 올림 → 비트 AND로 버킷 선택
+        this.startMillis = startMillis;
+        this.tickMillis = tickMillis;
+        this.mask = Math.max(size, 1) - 1;
+        this.buckets = new Timeout[mask + 1];
+    }
+
+    Timeout schedule(long deadlineMillis, LongConsumer task) {
+        Timeout timeout = new Timeout(deadlineMillis, task);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /** 다음 틱이 끝나는 시각 (이 시각이 되면 advanceTo를 부른다) */
+    long nextTickMillis() {
+        return startMillis + (tick + 1) * tickMillis;
+    }
+
+    /** nowMillis까지 끝난 틱을 차례로 처리하고, 마감이 지난 작업을 이 스레드에서 실행한다 */
+    synchronized void advanceTo(long nowMillis) {
+        long t = tick;
+        while (startMillis + (t + 1) * tickMillis <= nowMillis) {
+            transferPending(t);
+            // 실행한 작업이 같은 틱 안의 마감을 다시 예약하면 (틱보다 짧은 주기) 틱을 넘기기 전에 다시 훑는다
+            do {
+                expire((int) (t & mask), startMillis + (t + 1) * tickMillis);
+            } while (transferPending(t));
+            tick = ++t;
+        }
+        transferPending(t);
+    }
+
+    // 대기 큐의 작업을 버킷에 넣는다. 이미 지난 마감은 지금 틱에 넣어 바로 처리된다. 지금 틱에 넣은 작업이 있으면 true
+    private boolean transferPending(long currentTick) {
+        boolean current = false;
+        for (Timeout timeout; (timeout = pending.poll()) != null; ) {
+            if (timeout.cancelled) continue;
+            // 틱 t는 (start + t*tick, start + (t+1)*tick] 구간을 맡는다 → 틱 경계의 마감은 그 틱이 끝날 때 바로 실행
+            long ticks = Math.max(Math.floorDiv(timeout.deadline - startMillis + tickMillis - 1, tickMillis) - 1, currentTick);
+            timeout.remainingRounds = (ticks - currentTick) / buckets.length;
+            int index = (int) (ticks & mask);
+            timeout.next = buckets[index];
+            buckets[index] = timeout;
+            current |= ticks == currentTick;
+        }
+        return current;
+    }
+
+    private void expire(int index, long tickEnd) {
+        Timeout kept = null;
+        for (Timeout timeout = buckets[index]; timeout != null; ) {
+            Timeout next = timeout.next;
+            if (timeout.cancelled) {
+                // 버린다
+            } else if (timeout.remainingRounds <= 0 && timeout.deadline <= tickEnd) {
+                timeout.task.accept(timeout.deadline);
+            } else {
+                timeout.remainingRounds--;
+                timeout.next = kept;
+                kept = timeout;
+            }
+            timeout = next;
+        }
+        buckets[index] = kept;
+    }
+}
@@ -0,0 +1,159 @@
+package myspring.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import myspring.core.annotation.Qualifier;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빈 정의 하나당 한 번 만들어 두는 생성 팩토리.
+ * 생성자/@Bean 메서드를 MethodHandle로 풀어 두어, 호출할 때마다 생성자 탐색·setAccessible·
+ * Constructor.newInstance/Method.invoke 리플렉션을 반복하지 않는다.
+ * <p>
+ * 핸들 형태는 {@code (Object receiver, Object[] args) -> Object}로 통일한다 (생성자/static 메서드는 receiver 무시).
+ */
+final class InstanceFactory {
+
+    private static final MethodType INVOKER_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final String description; // 에러 메시지용: Foo#<init> / Config#method
+    private final Executable executable;
+    private final Class<?>[] dependencyTypes;
+    private final Class<?>[] providedTypes; // Provider<T> 파라미터면 T, 아니면 null
+    private final Class<?>[] elementTypes;  // List<T>/Map<String, T> 파라미터면 T, 아니면 null
+    private final String[] qualifiers;      // 파라미터의 @Qualifier 값, 없으면 null
+    private final MethodHandle invoker;
+
+    private InstanceFactory(String description, Executable executable, MethodHandle invoker) {
+        this.description = description;
+        this.executable = executable;
+        this.dependencyTypes = executable.getParameterTypes();
+        Type[] genericTypes = executable.getGenericParameterTypes();
+        this.providedTypes = typeArguments(description, dependencyTypes, genericTypes, Provider.class);
+        this.elementTypes = elementTypes(description, dependencyTypes, genericTypes);
+        this.qualifiers = qualifiers(executable.getParameters());
+        this.invoker = invoker;
+    }
+
+    static InstanceFactory forConstructor(Constructor<?> ctor) {
+        try {
+            ctor.setAccessible(true);
+            MethodHandle mh = MethodHandles.lookup().unreflectConstructor(ctor);
+            return new InstanceFactory(ctor.getDeclaringClass().getName() + "#<init>", ctor,
+                    MethodHandles.dropArguments(spread(mh), 0, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access constructor: " + ctor, e);
+        }
+    }
+
+    static InstanceFactory forBeanMethod(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle mh = MethodHandles.lookup().unreflect(method);
+            String description = method.getDeclaringClass().getName() + "#" + method.getName();
+            if (Modifier.isStatic(method.getModifiers())) {
+                return new InstanceFactory(description, method, MethodHandles.dropArguments(spread(mh), 0, Object.class));
+            }
+            // (Config, P1..Pn) → (Object, Object[])
+            MethodHandle generic = mh.asType(mh.type().generic());
+            return new InstanceFactory(description, method,
+                    generic.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @Bean method: " + method, e);
+        }
+    }
+
+    // (P1..Pn) → (Object[]) -> Object
+    private static MethodHandle spread(MethodHandle mh) {
+        return mh.asType(mh.type().generic()).asSpreader(Object[].class, mh.type().parameterCount());
+    }
+
+    // Provider<T>/List<T>의 T는 생성 시점에 한 번만 읽는다 (T가 타입 변수/와일드카드면 후보를 정할 수 없으므로 실패)
+    private static Class<?>[] typeArguments(String description, Class<?>[] types, Type[] genericTypes, Class<?> container) {
+        Class<?>[] result = new Class<?>[types.length];
+        // 내부 클래스 생성자 등은 제네릭 시그니처 길이가 다를 수 있음 → 해당 파라미터 없음으로 취급
+        if (genericTypes.length != types.length) return result;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == container) result[i] = typeArgument(description, genericTypes[i], 0, container);
+        }
+        return result;
+    }
+
+    // Map은 빈 이름 → 빈이므로 키가 String이어야 한다
+    private static Class<?>[] elementTypes(String description, Class<?>[] types, Type[] genericTypes) {
+        Class<?>[] result = typeArguments(description, types, genericTypes, List.class);
+        if (genericTypes.length != types.length) return result;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] != Map.class) continue;
+            if (typeArgument(description, genericTypes[i], 0, Map.class) != String.class) {
+                throw new IllegalStateException("Map parameter must have String keys (bean names): " + description);
+            }
+            result[i] = typeArgument(description, genericTypes[i], 1, Map.class);
+        }
+        return result;
+    }
+
+    private static Class<?> typeArgument(String description, Type genericType, int index, Class<?> container) {
+        Type arg = (genericType instanceof ParameterizedType p) ? p.getActualTypeArguments()[index] : null;
+        if (arg instanceof ParameterizedType p) arg = p.getRawType();
+        if (!(arg instanceof Class<?> c)) {
+            throw new IllegalStateException(container.getSimpleName()
+                    + " parameter must declare a concrete type argument: " + description);
+        }
+        return c;
+    }
+
+    private static String[] qualifiers(Parameter[] parameters) {
+        String[] result = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            Qualifier qualifier = parameters[i].getAnnotation(Qualifier.class);
+            if (qualifier != null) result[i] = qualifier.value();
+        }
+        return result;
+    }
+
+    /** 주입해야 할 파라미터 타입 (순서대로) */
+    Class<?>[] dependencyTypes() {
+        return dependencyTypes;
+    }
+
+    /** 파라미터별 Provider 대상 타입 (Provider가 아닌 파라미터는 null) */
+    Class<?>[] providedTypes() {
+        return providedTypes;
+    }
+
+    /** 파라미터별 컬렉션 원소 타입 (List<T>/Map<String, T>가 아닌 파라미터는 null) */
+    Class<?>[] elementTypes() {
+        return elementTypes;
+    }
+
+    /** 파라미터별 @Qualifier 값 (없으면 null) */
+    String[] qualifiers() {
+        return qualifiers;
+    }
+
+    /** 생성자 또는 @Bean 메서드 (새로 고침 때 같은 정의인지 비교) */
+    Executable executable() {
+        return executable;
+    }
+
+    String description() {
+        return description;
+    }
+
+    /** receiver: @Bean 메서드의 설정 인스턴스 (생성자면 null) */
+    Object create(Object receiver, Object[] args) throws Throwable {
+        return (Object) invoker.invokeExact(receiver, args);
+    }
+}
@@ -0,0 +1,126 @@
+package myspring.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * 생성이 끝난 빈(@PostConstruct 이후)을 감싸는 JDK 인터페이스 프록시.
+ * 빈 타입이 구현하는 모든 인터페이스를 구현하고, 메서드마다 정해 둔 인터셉터를 거쳐 대상 빈을 호출한다.
+ * <p>
+ * 메서드별 경로(대상 핸들 + 인터셉터)는 빈 타입당 한 번 {@link Template}으로 만들어 두므로,
+ * 호출 경로는 해시 조회 한 번과 MethodHandle 호출뿐이다 (Method.invoke 리플렉션 없음).
+ * equals/hashCode는 프록시 자체 기준, toString은 대상에 위임한다.
+ */
+final class InterceptingProxy implements InvocationHandler {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private record Route(MethodHandle invoker, MethodInterceptor interceptor) {}
+
+    /** 빈 타입별 프록시 설계: 구현할 인터페이스와 메서드별 경로 */
+    static final class Template {
+        private final Class<?>[] interfaces;
+        private final ClassLoader classLoader;
+        private final Map<Method, Route> routes;
+
+        private Template(Class<?>[] interfaces, ClassLoader classLoader, Map<Method, Route> routes) {
+            this.interfaces = interfaces;
+            this.classLoader = classLoader;
+            this.routes = routes;
+        }
+
+        Object wrap(Object target) {
+            return Proxy.newProxyInstance(classLoader, interfaces, new InterceptingProxy(routes, target));
+        }
+    }
+
+    private final Map<Method, Route> routes;
+    private final Object target;
+
+    private InterceptingProxy(Map<Method, Route> routes, Object target) {
+        this.routes = routes;
+        this.target = target;
+    }
+
+    /**
+     * beanType의 모든 인터페이스 메서드에 대한 경로를 만든다.
+     * interceptors: 인터페이스 메서드 → 인터셉터 (없는 메서드는 대상에 그대로 위임)
+     */
+    static Template template(Class<?> beanType, Map<Method, MethodInterceptor> interceptors) {
+        Set<Class<?>> interfaces = interfacesOf(beanType);
+        Map<Method, Route> routes = new HashMap<>();
+        for (Class<?> type : interfaces) {
+            for (Method method : type.getMethods()) {
+                routes.put(method, new Route(invoker(method), interceptors.get(method)));
+            }
+        }
+        ClassLoader classLoader = (beanType.getClassLoader() != null)
+                ? beanType.getClassLoader() : InterceptingProxy.class.getClassLoader();
+        return new Template(interfaces.toArray(new Class<?>[0]), classLoader, Map.copyOf(routes));
+    }
+
+    /** 프록시면 감싼 빈, 아니면 그대로 (라이프사이클 콜백은 원래 빈에 호출해야 한다) */
+    static Object targetOf(Object bean) {
+        if (Proxy.isProxyClass(bean.getClass()) && Proxy.getInvocationHandler(bean) instanceof InterceptingProxy p) {
+            return p.target;
+        }
+        return bean;
+    }
+
+    /** 자기 자신(인터페이스인 경우) + 상위 클래스들이 구현하는 모든 (상위) 인터페이스, 선언 순서대로 */
+    static Set<Class<?>> interfacesOf(Class<?> beanType) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        Deque<Class<?>> todo = new ArrayDeque<>();
+        for (Class<?> c = beanType; c != null; c = c.getSuperclass()) {
+            if (c.isInterface()) todo.add(c);
+            todo.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        while (!todo.isEmpty()) {
+            Class<?> c = todo.poll();
+            if (result.add(c)) todo.addAll(Arrays.asList(c.getInterfaces()));
+        }
+        return result;
+    }
+
+    /** 구현 클래스 메서드 m이 구현하는 인터페이스 메서드 (프록시가 받는 메서드), 없으면 null */
+    static Method interfaceMethod(Set<Class<?>> interfaces, Method m) {
+        for (Class<?> type : interfaces) {
+            try {
+                return type.getMethod(m.getName(), m.getParameterTypes());
+            } catch (NoSuchMethodException ignored) {
+                // 다음 인터페이스
+            }
+        }
+        return null;
+    }
+
+    // (Object target, Object[] args) -> Object
+    private static MethodHandle invoker(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle mh = MethodHandles.lookup().unreflect(method);
+            return mh.asType(mh.type().generic()).asSpreader(Object[].class, method.getParameterCount());
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot access method for proxy: " + method, e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Route route = routes.get(method);
+        if (route == null) { // Object 메서드
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                default: return target.toString();
+            }
+        }
+        Object[] actual = (args != null) ? args : NO_ARGS;
+        if (route.interceptor == null) return (Object) route.invoker.invokeExact(target, actual);
+        return route.interceptor.intercept(target, actual, route.invoker);
+    }
+}
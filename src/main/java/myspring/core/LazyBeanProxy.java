@@ -0,0 +1,66 @@
+package myspring.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * {@code @Lazy} 빈 주입 지점에 들어가는 프록시. 인터페이스 주입 지점은 JDK 동적 프록시,
+ * 구체 클래스 주입 지점은 애노테이션 프로세서가 만든 하위 클래스({@code Xxx$$Lazy})를 쓴다.
+ * 실제 빈은 첫 메서드 호출 때 한 번만 (스레드 안전하게) 만들어지고, 이후 호출은 그대로 위임된다.
+ * <p>
+ * equals/hashCode는 프록시 자체 기준이고, toString은 대상이 아직 없으면 대상을 만들지 않는다.
+ */
+final class LazyBeanProxy implements InvocationHandler {
+
+    private final LazyBeanTarget target;
+
+    private LazyBeanProxy(LazyBeanTarget target) {
+        this.target = target;
+    }
+
+    /** type: 주입 지점 타입, factory: 실제 빈 생성/조회 */
+    static Object create(Class<?> type, Class<?> beanClass, Supplier<Object> factory) {
+        LazyBeanTarget target = new LazyBeanTarget(beanClass, factory);
+        if (!type.isInterface()) return target.instantiate(generatedFor(type, beanClass));
+        ClassLoader cl = (type.getClassLoader() != null) ? type.getClassLoader() : beanClass.getClassLoader();
+        return Proxy.newProxyInstance(cl, new Class<?>[]{type}, new LazyBeanProxy(target));
+    }
+
+    /** 컨텍스트 생성 시점 검증: 인터페이스가 아니면 생성된 하위 클래스가 있어야 한다 */
+    static void requireInjectionPoint(Class<?> type, Class<?> beanClass) {
+        if (!type.isInterface()) generatedFor(type, beanClass);
+    }
+
+    private static Class<?> generatedFor(Class<?> type, Class<?> beanClass) {
+        Class<?> generated = LazyBeanTarget.generatedClass(beanClass);
+        if (generated == null || !type.isAssignableFrom(generated)) {
+            throw new IllegalStateException("@Lazy bean must be injected through an interface"
+                    + " or have a generated " + LazyBeanTarget.LAZY_SUFFIX + " subclass"
+                    + " (non-final, non-generic class with a non-private constructor, compiled with the myspring processor): "
+                    + type.getName() + " (bean " + beanClass.getName() + ")");
+        }
+        return generated;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "toString": return target.toString();
+                default: break;
+            }
+        }
+        if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) method.setAccessible(true);
+        try {
+            return method.invoke(target.get(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause(); // 대상 메서드의 예외를 그대로 전달
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package myspring.core;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * {@code @Lazy} 빈 주입 지점 하나의 지연 생성 상태. 인터페이스 주입 지점의 JDK 프록시({@link LazyBeanProxy})와
+ * 애노테이션 프로세서가 @Lazy 클래스마다 만드는 하위 클래스({@code Xxx$$Lazy}, 구체 클래스 주입 지점용)가 함께 쓴다.
+ * 생성된 코드는 {@link #get()}과 {@link #toString()}만 부른다.
+ * <p>
+ * 하위 클래스 인스턴스는 가능하면 생성자를 실행하지 않고 만든다 (원래 생성자의 부수 효과와 인자 없이, JDK 직렬화와 같은 방식:
+ * jdk.unsupported의 ReflectionFactory를 리플렉션으로 한 번 찾아 둔다). 없으면 생성된 하위 클래스의 생성자
+ * (상위 생성자에 기본값을 넘김)를 부르고, 그것도 실패하면 주입 시점에 예외로 알린다.
+ * 어느 쪽이든 프록시 자신의 상속 필드는 쓰이지 않는다. 위임된 메서드는 실제 빈의 필드를 쓰고,
+ * 재정의할 수 없는 final 메서드만 대상에 위임되지 않는다 (프로세서가 경고한다).
+ */
+public final class LazyBeanTarget {
+
+    static final String LAZY_SUFFIX = "$$Lazy";
+
+    // sun.reflect.ReflectionFactory#newConstructorForSerialization (없으면 null)
+    private static final Object REFLECTION_FACTORY;
+    private static final Method SERIALIZATION_CONSTRUCTOR;
+
+    static {
+        Object factory = null;
+        Method method = null;
+        try {
+            Class<?> type = Class.forName("sun.reflect.ReflectionFactory");
+            factory = type.getMethod("getReflectionFactory").invoke(null);
+            method = type.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            factory = null; // jdk.unsupported가 없는 런타임 → 생성된 생성자로 대신한다
+            method = null;
+        }
+        REFLECTION_FACTORY = factory;
+        SERIALIZATION_CONSTRUCTOR = method;
+    }
+
+    // 생성된 하위 클래스 → 인스턴스를 만들 생성자 (가능하면 Object()만 실행하는 것)
+    private static final ClassValue<Constructor<?>> ALLOCATORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            Constructor<?> ctor = null;
+            try {
+                if (SERIALIZATION_CONSTRUCTOR != null) {
+                    ctor = (Constructor<?>) SERIALIZATION_CONSTRUCTOR.invoke(REFLECTION_FACTORY, type,
+                            Object.class.getDeclaredConstructor());
+                }
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                ctor = null; // 아래에서 생성된 생성자로
+            }
+            try {
+                if (ctor == null) ctor = type.getDeclaredConstructor(); // 상위 생성자를 기본값으로 부른다
+                ctor.setAccessible(true);
+                return ctor;
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Not a generated @Lazy subclass: " + type.getName(), e);
+            }
+        }
+    };
+
+    /** 생성된 하위 클래스가 구현한다. 인스턴스를 만든 직후 한 번 호출한다 */
+    public interface Generated {
+        void bindLazyTarget(LazyBeanTarget target);
+    }
+
+    private final Class<?> beanClass;
+    private final Supplier<Object> factory;
+    private volatile Object target;
+
+    LazyBeanTarget(Class<?> beanClass, Supplier<Object> factory) {
+        this.beanClass = beanClass;
+        this.factory = factory;
+    }
+
+    /** 실제 빈. 첫 호출에서 한 번만 (스레드 안전하게) 만든다 */
+    public Object get() {
+        Object t = target;
+        if (t != null) return t;
+        synchronized (this) {
+            if (target == null) target = factory.get();
+            return target;
+        }
+    }
+
+    /** 대상이 아직 없으면 대상을 만들지 않는다 */
+    @Override
+    public String toString() {
+        Object t = target;
+        return (t != null) ? t.toString() : "LazyProxy[" + beanClass.getName() + "]";
+    }
+
+    /** beanClass의 생성된 하위 클래스. 없으면 (프로세서 없이 컴파일, 하위 클래스를 만들 수 없는 클래스) null */
+    static Class<?> generatedClass(Class<?> beanClass) {
+        Class<?> generated;
+        try {
+            generated = Class.forName(beanClass.getName() + LAZY_SUFFIX, false, beanClass.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (generated.getSuperclass() != beanClass || !Generated.class.isAssignableFrom(generated)) {
+            throw new IllegalStateException("Not a generated @Lazy subclass: " + generated.getName());
+        }
+        return generated;
+    }
+
+    /** 생성된 하위 클래스인지 (스캔 결과에서 뺀다) */
+    static boolean isGenerated(Class<?> type) {
+        return Generated.class.isAssignableFrom(type) && type.getName().endsWith(LAZY_SUFFIX);
+    }
+
+    /** 하위 클래스 인스턴스를 (가능하면 생성자를 실행하지 않고) 만들어 이 상태에 연결한다 */
+    Object instantiate(Class<?> generated) {
+        Generated proxy;
+        try {
+            proxy = (Generated) ALLOCATORS.get(generated).newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Cannot create @Lazy subclass " + generated.getName()
+                    + ": its superclass constructor failed with default arguments"
+                    + " (inject through an interface instead)", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to instantiate " + generated.getName(), e);
+        }
+        proxy.bindLazyTarget(this);
+        return proxy;
+    }
+}
@@ -0,0 +1,20 @@
+package myspring.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** @PostConstruct/@PreDestroy 메서드 한 번의 실행 구간 */
+@Name("myspring.LifecycleCallback")
+@Label("Lifecycle Callback")
+@Category({"myspring", "Container"})
+@StackTrace(false)
+final class LifecycleCallbackEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Phase")
+    String phase;
+}
@@ -1,21 +1,62 @@
 package myspring.core;
 
+import myspring.core.annotation.PoolReset;
 import myspring.core.annotation.PostConstruct;
 import myspring.core.annotation.PreDestroy;
 
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.Collection;
+import java.lang.reflect.Modifier;
+import java.util.*;
 
 public class LifecycleProcessor {
 
+    /** 콜백 메서드 하나: 에러 메시지용 이름 + (Object)void 형태의 핸들 */
+    private record Callback(String name, MethodHandle handle) {}
+
+    /**
+     * 클래스별 콜백 메타. 클래스마다 한 번만 계층을 훑어 만든다.
+     * - @PostConstruct: 상위 클래스 → 하위 클래스 순
+     * - @PreDestroy: 하위 클래스 → 상위 클래스 순
+     * - @PoolReset: 상위 클래스 → 하위 클래스 순
+     */
+    private record LifecycleMetadata(Callback[] postConstruct, Callback[] preDestroy, Callback[] poolReset) {
+        static final LifecycleMetadata EMPTY = new LifecycleMetadata(new Callback[0], new Callback[0], new Callback[0]);
+    }
+
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final ClassValue<LifecycleMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected LifecycleMetadata computeValue(Class<?> type) {
+            return buildMetadata(type);
+        }
+    };
+
     /** 생성/주입 완료 직후 호출 (@PostConstruct 전부 실행) */
     public void invokePostConstruct(Object bean) {
-        invokeAnnotated(bean, PostConstruct.class);
+        Callback[] callbacks = METADATA.get(bean.getClass()).postConstruct();
+        if (callbacks.length == 0) return; // 콜백 없는 클래스는 바로 반환
+        invokeAll(bean, callbacks, "PostConstruct");
     }
 
     /** 컨텍스트 종료 시 호출 (@PreDestroy 전부 실행) */
     public void invokePreDestroy(Object bean) {
-        invokeAnnotated(bean, PreDestroy.class);
+        bean = InterceptingProxy.targetOf(bean); // 프록시로 감싼 빈이면 원래 빈에 호출
+        Callback[] callbacks = METADATA.get(bean.getClass()).preDestroy();
+        if (callbacks.length == 0) return;
+        invokeAll(bean, callbacks, "PreDestroy");
+    }
+
+    /** POOLED 빈이 풀에 반납될 때 호출 (@PoolReset 전부 실행) */
+    public void invokePoolReset(Object bean) {
+        bean = InterceptingProxy.targetOf(bean); // 프록시로 감싼 빈이면 원래 빈에 호출
+        Callback[] callbacks = METADATA.get(bean.getClass()).poolReset();
+        if (callbacks.length == 0) return;
+        invokeAll(bean, callbacks, "PoolReset");
     }
 
     /** 여러 빈에 대해 PreDestroy 실행 (싱글톤 캐시에 대해 사용) */
@@ -23,18 +64,64 @@ public class LifecycleProcessor {
         for (Object bean : beans) invokePreDestroy(bean);
     }
 
-    private void invokeAnnotated(Object bean, Class<?> annoType) {
-        Class<?> clazz = bean.getClass();
-        for (Method m : clazz.getDeclaredMethods()) {
-            if (m.isAnnotationPresent((Class) annoType)) {
-                m.setAccessible(true);
-                try {
-                    m.invoke(bean);
-                } catch (Exception e) {
-                    throw new RuntimeException(
-                            "Lifecycle method failed: " + clazz.getName() + "#" + m.getName(), e);
+    private static void invokeAll(Object bean, Callback[] callbacks, String phase) {
+        for (Callback c : callbacks) {
+            LifecycleCallbackEvent event = new LifecycleCallbackEvent();
+            event.begin();
+            try {
+                c.handle().invokeExact(bean);
+            } catch (Throwable e) {
+                throw new RuntimeException("Lifecycle method failed: " + c.name(), e);
+            } finally {
+                if (event.shouldCommit()) {
+                    event.method = c.name();
+                    event.phase = phase;
+                    event.commit();
                 }
             }
         }
     }
+
+    private static LifecycleMetadata buildMetadata(Class<?> type) {
+        List<Callback> postConstruct = new ArrayList<>();
+        List<Callback> preDestroy = new ArrayList<>();
+        List<Callback> poolReset = new ArrayList<>();
+        Set<String> overridden = new HashSet<>(); // 하위 클래스가 이미 선언한 시그니처 (재정의된 메서드 중복 호출 방지)
+
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            Method[] methods = c.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName)); // 같은 클래스 안에서는 이름 순
+            List<Callback> currentInits = new ArrayList<>();
+            List<Callback> currentResets = new ArrayList<>();
+            for (Method m : methods) {
+                if (m.isSynthetic()) continue;
+                boolean overridable = !Modifier.isPrivate(m.getModifiers()) && !Modifier.isStatic(m.getModifiers());
+                String signature = m.getName() + Arrays.toString(m.getParameterTypes());
+                if (overridable && !overridden.add(signature)) continue; // 재정의된 상위 메서드는 건너뜀
+
+                if (m.isAnnotationPresent(PostConstruct.class)) currentInits.add(callback(c, m, PostConstruct.class));
+                if (m.isAnnotationPresent(PreDestroy.class)) preDestroy.add(callback(c, m, PreDestroy.class));
+                if (m.isAnnotationPresent(PoolReset.class)) currentResets.add(callback(c, m, PoolReset.class));
+            }
+            postConstruct.addAll(0, currentInits); // 상위 클래스 콜백이 앞에 오도록
+            poolReset.addAll(0, currentResets);
+        }
+        if (postConstruct.isEmpty() && preDestroy.isEmpty() && poolReset.isEmpty()) return LifecycleMetadata.EMPTY;
+        return new LifecycleMetadata(postConstruct.toArray(new Callback[0]), preDestroy.toArray(new Callback[0]),
+                poolReset.toArray(new Callback[0]));
+    }
+
+    private static Callback callback(Class<?> declaring, Method m, Class<? extends Annotation> annoType) {
+        String name = declaring.getName() + "#" + m.getName();
+        if (Modifier.isStatic(m.getModifiers()) || m.getParameterCount() != 0) {
+            throw new IllegalStateException(
+                    "@" + annoType.getSimpleName() + " method must be a no-arg instance method: " + name);
+        }
+        try {
+            m.setAccessible(true);
+            return new Callback(name, MethodHandles.lookup().unreflect(m).asType(CALLBACK_TYPE));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access lifecycle method: " + name, e);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package myspring.core;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 컨테이너가 소유하는 실행기 생성.
+ * <p>
+ * 런타임이 가상 스레드를 지원하면(Java 21+) 작업마다 가상 스레드를 쓰고, 아니면 데몬 플랫폼 스레드 풀로 대신한다.
+ * 소스는 Java 17 기준이므로 가상 스레드 API는 실행기를 만들 때 한 번만 리플렉션으로 찾는다 (작업 제출 경로에는 없음).
+ */
+final class ManagedExecutors {
+
+    private ManagedExecutors() {
+    }
+
+    /** 가상 스레드 실행기, 지원하지 않는 런타임이면 필요할 때 늘어나는 데몬 스레드 풀 */
+    static ExecutorService virtualOrCached(String threadPrefix) {
+        ExecutorService virtual = virtualThreadPerTask(threadPrefix);
+        return (virtual != null) ? virtual : Executors.newCachedThreadPool(daemonThreads(threadPrefix));
+    }
+
+    /** 이름이 prefix-N인 데몬 스레드 */
+    static ThreadFactory daemonThreads(String threadPrefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, threadPrefix + "-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    // Thread.ofVirtual().name(prefix-, 1).factory() → Executors.newThreadPerTaskExecutor(factory)
+    private static ExecutorService virtualThreadPerTask(String threadPrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, threadPrefix + "-", 1L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null; // Java 21 미만 (또는 preview 미활성)
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package myspring.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 직접 넘기는 시계 (테스트용). {@code Builder.schedulerClock(clock)}으로 넘기면 스케줄러는 타이머 스레드를 두지 않고,
+ * {@link #advance(Duration)}를 부른 스레드에서 흐른 시간만큼 틱을 처리한다 (작업 실행은 그대로 실행기 스레드).
+ * 따라서 {@code @Scheduled} 작업이 언제 예정되고 건너뛰어지는지가 실제 시간과 무관하게 정해진다.
+ */
+public final class ManualClock extends Clock {
+
+    private final AtomicLong millis;
+    private final ZoneId zone;
+    private final List<Runnable> listeners;
+
+    public ManualClock(Instant start, ZoneId zone) {
+        this(new AtomicLong(start.toEpochMilli()), zone, new CopyOnWriteArrayList<>());
+    }
+
+    private ManualClock(AtomicLong millis, ZoneId zone, List<Runnable> listeners) {
+        this.millis = millis;
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.listeners = listeners;
+    }
+
+    /** 시간을 앞으로 넘기고, 이 시계를 쓰는 스케줄러가 지난 틱을 처리할 때까지 기다린다 */
+    public void advance(Duration duration) {
+        if (duration.isNegative()) throw new IllegalArgumentException("Clock cannot go back: " + duration);
+        millis.addAndGet(duration.toMillis());
+        for (Runnable listener : listeners) listener.run();
+    }
+
+    // 스케줄러가 advance마다 불릴 콜백을 건다 (close 때 뗀다)
+    void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis.get());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /** 같은 시간을 공유하는 다른 시간대의 시계 */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new ManualClock(millis, zone, listeners);
+    }
+}
@@ -0,0 +1,299 @@
+package myspring.core;
+
+import myspring.core.annotation.Cacheable;
+
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code @Cacheable} 메서드 하나(또는 같은 이름을 쓰는 메서드들)의 크기 제한 캐시.
+ * <p>
+ * 인자 배열을 그대로 키로 쓰고 (해시/비교는 원소별로 직접 계산), 세그먼트마다 락 하나와 해시 테이블 + LRU 연결 리스트를 둔다.
+ * 적중 경로는 락을 잡고 항목을 리스트 끝으로 옮기는 것뿐이라 할당이 없다.
+ * 제한(항목 수 또는 무게 합)은 세그먼트별로 나눠 지키므로 전체 기준으로는 근사 LRU다.
+ * 같은 키를 동시에 놓친 스레드들은 각자 대상 메서드를 호출하고 마지막 결과가 남는다.
+ */
+final class MethodCache {
+
+    /** {@link #get(Object[])}가 항목이 없을 때 돌려주는 표식 */
+    static final Object MISS = new Object();
+    private static final Object NULL = new Object(); // null 결과도 캐시한다
+
+    private final String name;
+    private final Segment[] segments;
+    private final int segmentShift; // 해시 상위 비트로 세그먼트를 고른다 (하위 비트는 버킷용)
+    private final Cacheable.Weigher weigher; // null이면 항목마다 1
+    private final long ttlNanos;
+    private final Cacheable config; // of()로 만들었으면 그 설정 (같은 이름의 다른 선언과 비교), 아니면 null
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MethodCache(String name, long limit, Cacheable.Weigher weigher, long ttlMillis, int concurrency) {
+        this(name, limit, weigher, ttlMillis, concurrency, null);
+    }
+
+    private MethodCache(String name, long limit, Cacheable.Weigher weigher, long ttlMillis, int concurrency, Cacheable config) {
+        if (limit < 1) throw new IllegalStateException("Cache limit must be positive: " + name);
+        this.name = name;
+        this.config = config;
+        this.weigher = weigher;
+        this.ttlNanos = (ttlMillis > 0) ? ttlMillis * 1_000_000 : 0;
+        // 작은 캐시는 세그먼트 하나(정확한 LRU), 큰 캐시만 세그먼트당 16 이상이 되도록 나눈다
+        int count = Integer.highestOneBit((int) Math.max(1, Math.min(limit / 16, Math.max(1, concurrency) * 2L)));
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(count);
+        this.segments = new Segment[count];
+        long perSegment = (limit + count - 1) / count;
+        for (int i = 0; i < count; i++) segments[i] = new Segment(perSegment);
+    }
+
+    /** 애노테이션 설정으로 만든다. 설정 오류는 IllegalStateException */
+    static MethodCache of(String name, Cacheable config) {
+        Cacheable.Weigher weigher = null;
+        long limit = config.maxSize();
+        if (config.maxWeight() > 0) {
+            if (config.weigher() == Cacheable.Weigher.class) {
+                throw new IllegalStateException("@Cacheable maxWeight requires a weigher: " + name);
+            }
+            weigher = newWeigher(name, config.weigher());
+            limit = config.maxWeight();
+        }
+        return new MethodCache(name, limit, weigher, config.ttlMillis(), Runtime.getRuntime().availableProcessors(), config);
+    }
+
+    /** 같은 이름을 쓰는 다른 @Cacheable 선언이 이 캐시와 크기/무게/만료 설정이 같은지 */
+    boolean sameSettings(Cacheable other) {
+        return config == null || (config.maxSize() == other.maxSize() && config.maxWeight() == other.maxWeight()
+                && config.weigher() == other.weigher() && config.ttlMillis() == other.ttlMillis());
+    }
+
+    private static Cacheable.Weigher newWeigher(String name, Class<? extends Cacheable.Weigher> type) {
+        try {
+            Constructor<? extends Cacheable.Weigher> ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return ctor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create weigher " + type.getName() + " for cache: " + name, e);
+        }
+    }
+
+    /** 캐시된 값 (null 결과도 그대로), 없거나 만료되었으면 {@link #MISS} */
+    Object get(Object[] key) {
+        int hash = hash(key);
+        Object value = segmentFor(hash).get(key, hash, (ttlNanos > 0) ? System.nanoTime() : 0);
+        if (value == MISS) {
+            misses.increment();
+            return MISS;
+        }
+        hits.increment();
+        return (value == NULL) ? null : value;
+    }
+
+    void put(Object[] key, Object value) {
+        int weight = 1;
+        if (weigher != null) {
+            weight = weigher.weigh(key, value);
+            if (weight < 0) throw new IllegalStateException("Negative weight " + weight + " in cache: " + name);
+        }
+        int hash = hash(key);
+        long expiresAt = (ttlNanos > 0) ? System.nanoTime() + ttlNanos : 0;
+        int evicted = segmentFor(hash).put(key, hash, (value == null) ? NULL : value, weight, expiresAt);
+        if (evicted > 0) evictions.add(evicted);
+    }
+
+    void evict(Object[] key) {
+        int hash = hash(key);
+        segmentFor(hash).remove(key, hash);
+    }
+
+    void clear() {
+        for (Segment segment : segments) segment.clear();
+    }
+
+    CacheStats stats() {
+        long size = 0;
+        long weight = 0;
+        for (Segment segment : segments) {
+            segment.lock();
+            try {
+                size += segment.count;
+                weight += segment.weight;
+            } finally {
+                segment.unlock();
+            }
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size, weight);
+    }
+
+    private Segment segmentFor(int hash) {
+        return (segments.length == 1) ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    // 원소별 hashCode를 섞은 뒤 황금비 곱으로 상위 비트까지 퍼뜨린다 (할당 없음)
+    private static int hash(Object[] key) {
+        int h = 1;
+        for (Object o : key) h = 31 * h + Objects.hashCode(o);
+        return (h ^ (h >>> 16)) * 0x9E3779B9;
+    }
+
+    private static boolean keyEquals(Object[] a, Object[] b) {
+        if (a.length != b.length) return false;
+        for (int i = 0; i < a.length; i++) {
+            if (!Objects.equals(a[i], b[i])) return false;
+        }
+        return true;
+    }
+
+    private static final class Entry {
+        final Object[] key;
+        final int hash;
+        Object value;
+        int weight;
+        long expiresAt;
+        Entry next;          // 버킷 체인
+        Entry before, after; // LRU 리스트 (head가 가장 오래 안 쓴 항목)
+
+        Entry(Object[] key, int hash) {
+            this.key = key;
+            this.hash = hash;
+        }
+    }
+
+    private static final class Segment extends ReentrantLock {
+        private final long capacity;
+        private Entry[] table = new Entry[16];
+        private Entry head, tail;
+        private int count;
+        private long weight;
+
+        Segment(long capacity) {
+            this.capacity = capacity;
+        }
+
+        Object get(Object[] key, int hash, long now) {
+            lock();
+            try {
+                Entry e = find(key, hash);
+                if (e == null) return MISS;
+                if (e.expiresAt != 0 && now - e.expiresAt >= 0) {
+                    unlink(e);
+                    return MISS;
+                }
+                moveToTail(e);
+                return e.value;
+            } finally {
+                unlock();
+            }
+        }
+
+        // 제한 때문에 밀려난 항목 수를 돌려준다 (한 항목이 세그먼트 용량보다 무거우면 저장하지 않는다)
+        int put(Object[] key, int hash, Object value, int entryWeight, long expiresAt) {
+            if (entryWeight > capacity) return 0;
+            lock();
+            try {
+                Entry e = find(key, hash);
+                if (e == null) {
+                    e = new Entry(key, hash);
+                    int bucket = hash & (table.length - 1);
+                    e.next = table[bucket];
+                    table[bucket] = e;
+                    linkLast(e);
+                    if (++count > table.length - (table.length >>> 2)) resize();
+                } else {
+                    weight -= e.weight;
+                    moveToTail(e);
+                }
+                e.value = value;
+                e.weight = entryWeight;
+                e.expiresAt = expiresAt;
+                weight += entryWeight;
+
+                int evicted = 0;
+                while (weight > capacity && head != e) {
+                    unlink(head);
+                    evicted++;
+                }
+                return evicted;
+            } finally {
+                unlock();
+            }
+        }
+
+        void remove(Object[] key, int hash) {
+            lock();
+            try {
+                Entry e = find(key, hash);
+                if (e != null) unlink(e);
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                table = new Entry[16];
+                head = tail = null;
+                count = 0;
+                weight = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        private Entry find(Object[] key, int hash) {
+            for (Entry e = table[hash & (table.length - 1)]; e != null; e = e.next) {
+                if (e.hash == hash && keyEquals(e.key, key)) return e;
+            }
+            return null;
+        }
+
+        // 테이블과 LRU 리스트에서 모두 뺀다
+        private void unlink(Entry e) {
+            int bucket = e.hash & (table.length - 1);
+            if (table[bucket] == e) {
+                table[bucket] = e.next;
+            } else {
+                Entry prev = table[bucket];
+                while (prev.next != e) prev = prev.next;
+                prev.next = e.next;
+            }
+            if (e.before != null) e.before.after = e.after; else head = e.after;
+            if (e.after != null) e.after.before = e.before; else tail = e.before;
+            e.before = e.after = e.next = null;
+            count--;
+            weight -= e.weight;
+        }
+
+        private void linkLast(Entry e) {
+            e.before = tail;
+            e.after = null;
+            if (tail != null) tail.after = e; else head = e;
+            tail = e;
+        }
+
+        private void moveToTail(Entry e) {
+            if (tail == e) return;
+            if (e.before != null) e.before.after = e.after; else head = e.after;
+            e.after.before = e.before; // tail이 아니므로 after는 있다
+            linkLast(e);
+        }
+
+        private void resize() {
+            Entry[] old = table;
+            Entry[] resized = new Entry[old.length * 2];
+            for (Entry bucket : old) {
+                for (Entry e = bucket; e != null; ) {
+                    Entry next = e.next;
+                    int index = e.hash & (resized.length - 1);
+                    e.next = resized[index];
+                    resized[index] = e;
+                    e = next;
+                }
+            }
+            table = resized;
+        }
+    }
+}
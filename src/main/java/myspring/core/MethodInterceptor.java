@@ -0,0 +1,12 @@
+package myspring.core;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 프록시된 빈의 메서드 호출 하나를 가로챈다. 메서드별로 프록시 생성 전에 한 번 정해 두고 호출마다 재사용한다.
+ * invoker는 {@code (Object target, Object[] args) -> Object} 형태의 대상 메서드 핸들이다 (리플렉션 없이 원래 메서드 호출).
+ */
+@FunctionalInterface
+interface MethodInterceptor {
+    Object intercept(Object target, Object[] args, MethodHandle invoker) throws Throwable;
+}
@@ -0,0 +1,143 @@
+package myspring.core;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 싱글톤을 의존 역순으로 소멸시킨다: 어떤 빈은 자신에게 의존하는 빈들이 모두 끝난 뒤에만 @PreDestroy 한다.
+ * 서로 의존하지 않는 가지는 동시에 정리된다.
+ * <p>
+ * 빈 하나가 실패하거나 시간을 넘겨도 나머지 정리는 계속한다 (의존하는 빈의 결과와 무관하게 자신은 정리).
+ * 빈별 제한 시간을 넘긴 콜백은 인터럽트하고, 전체 제한 시간이 지나면 남은 빈은 포기한다.
+ * 모든 실패는 첫 실패에 suppressed로 모아 던진다.
+ */
+final class ParallelSingletonDestroyer {
+
+    private static final AtomicInteger THREAD_SEQ = new AtomicInteger();
+
+    private final BeanDependencyGraph graph;
+    private final Map<Class<?>, Object> beans;
+    private final Consumer<Object> destroyer;
+    private final int parallelism;
+    private final Duration beanTimeout;
+    private final Duration totalTimeout;
+
+    ParallelSingletonDestroyer(BeanDependencyGraph graph, Map<Class<?>, Object> beans, Consumer<Object> destroyer,
+                               int parallelism, Duration beanTimeout, Duration totalTimeout) {
+        this.graph = graph;
+        this.beans = beans;
+        this.destroyer = destroyer;
+        this.parallelism = parallelism;
+        this.beanTimeout = beanTimeout;
+        this.totalTimeout = totalTimeout;
+    }
+
+    void run() {
+        if (beans.isEmpty()) return;
+        long deadline = System.nanoTime() + totalTimeout.toNanos();
+
+        // 빈 → 그 빈에 의존하는 빈들 (이들이 먼저 소멸해야 한다)
+        Map<Class<?>, List<Class<?>>> dependents = new HashMap<>();
+        for (Class<?> bean : graph.topologicalOrder()) {
+            for (Class<?> dep : graph.dependenciesOf(bean)) {
+                dependents.computeIfAbsent(dep, k -> new ArrayList<>()).add(bean);
+            }
+        }
+
+        // 데몬 스레드: 인터럽트에도 안 끝나는 콜백이 JVM 종료를 막지 않도록
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "myspring-shutdown-" + THREAD_SEQ.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        Map<Class<?>, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+        try {
+            List<Class<?>> order = new ArrayList<>(graph.topologicalOrder());
+            Collections.reverse(order); // 의존하는 빈이 먼저
+            for (Class<?> bean : order) {
+                CompletableFuture<?>[] prerequisites = dependents.getOrDefault(bean, List.of()).stream()
+                        .map(tasks::get)
+                        .toArray(CompletableFuture[]::new);
+                tasks.put(bean, CompletableFuture.allOf(prerequisites)
+                        .handle((v, e) -> null) // 의존하는 빈이 실패해도 자신은 정리한다
+                        .thenCompose(v -> destroy(bean, pool)));
+            }
+            awaitAll(tasks, deadline);
+        } finally {
+            pool.shutdownNow(); // 전체 제한 시간을 넘겨 아직 도는 콜백은 인터럽트
+        }
+    }
+
+    // 빈별 제한 시간은 대기열에서 기다린 시간을 빼고 콜백이 시작한 시점부터 잰다
+    private CompletableFuture<Void> destroy(Class<?> bean, ExecutorService pool) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                destroyer.accept(beans.get(bean));
+                result.complete(null);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+        try {
+            pool.execute(() -> {
+                CompletableFuture.delayedExecutor(beanTimeout.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+                    IllegalStateException timeout = new IllegalStateException(
+                            "@PreDestroy timed out after " + beanTimeout.toMillis() + "ms: " + bean.getName());
+                    // 실행 중일 때만 스레드를 인터럽트한다 (이미 끝난 작업이면 아무 일도 없음)
+                    if (result.completeExceptionally(timeout)) task.cancel(true);
+                });
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e); // 전체 제한 시간이 지나 풀이 이미 닫힘
+        }
+        return result;
+    }
+
+    private void awaitAll(Map<Class<?>, CompletableFuture<Void>> tasks, long deadline) {
+        List<Class<?>> unfinished = new ArrayList<>();
+        try {
+            CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture<?>[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ignored) {
+            // 실패 원인은 아래에서 모은다
+        } catch (TimeoutException | InterruptedException e) {
+            if (e instanceof InterruptedException) Thread.currentThread().interrupt();
+            tasks.forEach((bean, task) -> {
+                if (!task.isDone()) unfinished.add(bean);
+            });
+        }
+
+        RuntimeException primary = null;
+        for (CompletableFuture<Void> task : tasks.values()) {
+            if (!task.isCompletedExceptionally()) continue;
+            primary = merge(primary, causeOf(task));
+        }
+        if (!unfinished.isEmpty()) {
+            primary = merge(primary, new IllegalStateException("Shutdown timed out after " + totalTimeout.toMillis()
+                    + "ms, not destroyed: " + unfinished.stream().map(Class::getName).toList()));
+        }
+        if (primary != null) throw primary;
+    }
+
+    private static RuntimeException merge(RuntimeException primary, Throwable cause) {
+        if (primary == null) {
+            return (cause instanceof RuntimeException e) ? e : new IllegalStateException("Singleton destruction failed", cause);
+        }
+        primary.addSuppressed(cause);
+        return primary;
+    }
+
+    private static Throwable causeOf(CompletableFuture<Void> task) {
+        try {
+            task.join();
+            throw new IllegalStateException("Task did not fail");
+        } catch (CompletionException e) {
+            return (e.getCause() != null) ? e.getCause() : e;
+        }
+    }
+}
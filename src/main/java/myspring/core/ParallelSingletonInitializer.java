@@ -0,0 +1,127 @@
+package myspring.core;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 의존 그래프를 따라 싱글톤을 위상 순서로 미리 생성한다.
+ * 서로 의존하지 않는 싱글톤은 ForkJoinPool에서 동시에 만들어지고, 각 빈은 자신이 의존하는 싱글톤이 모두 끝난 뒤에만 시작한다.
+ * <p>
+ * 프로토타입은 그래프에서 건너뛴다: 싱글톤이 프로토타입을 거쳐 의존하는 싱글톤도 선행 작업으로 본다 (프로토타입은 생성 중에 즉석으로 만들어진다).
+ */
+final class ParallelSingletonInitializer {
+
+    private final BeanDependencyGraph graph;
+    private final Predicate<Class<?>> isSingleton;
+    private final Consumer<Class<?>> creator;
+    private final int parallelism;
+
+    // 빈 → 선행 싱글톤 (프로토타입을 거친 간접 의존 포함)
+    private final Map<Class<?>, Set<Class<?>>> singletonDeps = new HashMap<>();
+
+    ParallelSingletonInitializer(BeanDependencyGraph graph, Predicate<Class<?>> isSingleton,
+                                 Consumer<Class<?>> creator, int parallelism) {
+        this.graph = graph;
+        this.isSingleton = isSingleton;
+        this.creator = creator;
+        this.parallelism = parallelism;
+    }
+
+    /** 모든 싱글톤을 생성한다. 하나라도 실패하면 (독립적인 나머지가 끝나길 기다린 뒤) 첫 실패를 던지고 나머지 실패는 suppressed로 붙인다 */
+    SingletonInitReport run() {
+        long start = System.nanoTime();
+        Map<Class<?>, CompletableFuture<Long>> tasks = new LinkedHashMap<>(); // 빈 → 생성 시간(ns)
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Class<?> bean : graph.topologicalOrder()) {
+                if (!isSingleton.test(bean)) continue;
+                CompletableFuture<?>[] prerequisites = singletonDependenciesOf(bean).stream()
+                        .map(tasks::get)
+                        .toArray(CompletableFuture[]::new);
+                tasks.put(bean, CompletableFuture.allOf(prerequisites).thenApplyAsync(v -> {
+                    long t0 = System.nanoTime();
+                    creator.accept(bean);
+                    return System.nanoTime() - t0;
+                }, pool));
+            }
+            awaitAll(tasks.values());
+        } finally {
+            pool.shutdown();
+        }
+        return report(tasks, System.nanoTime() - start);
+    }
+
+    private Set<Class<?>> singletonDependenciesOf(Class<?> bean) {
+        Set<Class<?>> cached = singletonDeps.get(bean);
+        if (cached != null) return cached;
+        Set<Class<?>> result = new LinkedHashSet<>();
+        for (Class<?> dep : graph.dependenciesOf(bean)) {
+            if (isSingleton.test(dep)) result.add(dep);
+            else result.addAll(singletonDependenciesOf(dep)); // 그래프가 비순환이므로 재귀가 끝난다
+        }
+        singletonDeps.put(bean, result);
+        return result;
+    }
+
+    private static void awaitAll(Collection<CompletableFuture<Long>> tasks) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException ignored) {
+            // 실패 원인은 아래에서 위상 순서대로 모은다
+        }
+        // 의존 대상이 실패하면 의존하는 빈도 같은 원인으로 실패하므로 원인은 동일성 기준으로 한 번씩만
+        Set<Throwable> causes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Throwable primary = null;
+        for (CompletableFuture<Long> task : tasks) {
+            if (!task.isCompletedExceptionally()) continue;
+            Throwable cause = causeOf(task);
+            if (!causes.add(cause)) continue;
+            if (primary == null) primary = cause;
+            else primary.addSuppressed(cause);
+        }
+        if (primary instanceof RuntimeException e) throw e;
+        if (primary instanceof Error e) throw e;
+        if (primary != null) throw new IllegalStateException("Singleton initialization failed", primary);
+    }
+
+    private static Throwable causeOf(CompletableFuture<Long> task) {
+        try {
+            task.join();
+            throw new IllegalStateException("Task did not fail");
+        } catch (CompletionException e) {
+            return (e.getCause() != null) ? e.getCause() : e;
+        }
+    }
+
+    // 빈별 완료 시각 = 자기 생성 시간 + 선행 빈들 중 가장 늦은 완료 시각 → 최댓값을 찍은 경로가 임계 경로
+    private SingletonInitReport report(Map<Class<?>, CompletableFuture<Long>> tasks, long wallNanos) {
+        Map<Class<?>, Long> finish = new HashMap<>();
+        Map<Class<?>, Class<?>> slowestPrerequisite = new HashMap<>();
+        Class<?> last = null;
+        for (Map.Entry<Class<?>, CompletableFuture<Long>> e : tasks.entrySet()) { // 위상 순서
+            Class<?> bean = e.getKey();
+            long before = 0;
+            Class<?> slowest = null;
+            for (Class<?> dep : singletonDependenciesOf(bean)) {
+                long f = finish.get(dep);
+                if (slowest == null || f > before) {
+                    before = f;
+                    slowest = dep;
+                }
+            }
+            if (slowest != null) slowestPrerequisite.put(bean, slowest);
+            finish.put(bean, before + e.getValue().join());
+            if (last == null || finish.get(bean) > finish.get(last)) last = bean;
+        }
+        LinkedList<Class<?>> path = new LinkedList<>();
+        for (Class<?> c = last; c != null; c = slowestPrerequisite.get(c)) path.addFirst(c);
+        long critical = (last != null) ? finish.get(last) : 0;
+        return new SingletonInitReport(tasks.size(), parallelism, Duration.ofNanos(wallNanos),
+                Duration.ofNanos(critical), List.copyOf(path));
+    }
+}
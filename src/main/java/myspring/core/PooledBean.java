@@ -0,0 +1,37 @@
+package myspring.core;
+
+/**
+ * 풀에서 빌린 POOLED 빈. try-with-resources로 쓰면 블록이 끝날 때 풀에 반납된다.
+ * <pre>
+ * try (PooledBean&lt;Parser&gt; parser = ctx.borrow(Parser.class)) {
+ *     parser.get().parse(input);
+ * }
+ * </pre>
+ * 한 스레드 안에서 쓰는 것을 전제로 한다 (반납 후 get()은 예외).
+ */
+public final class PooledBean<T> implements AutoCloseable {
+
+    private final BeanPool pool;
+    private final BeanPool.Entry entry;
+    private final T bean;
+    private boolean released;
+
+    PooledBean(BeanPool pool, BeanPool.Entry entry, T bean) {
+        this.pool = pool;
+        this.entry = entry;
+        this.bean = bean;
+    }
+
+    public T get() {
+        if (released) throw new IllegalStateException("Already returned to pool: " + bean.getClass().getName());
+        return bean;
+    }
+
+    /** 풀에 반납한다 (두 번째 호출부터는 무시) */
+    @Override
+    public void close() {
+        if (released) return;
+        released = true;
+        pool.release(entry);
+    }
+}
@@ -0,0 +1,12 @@
+package myspring.core;
+
+/**
+ * PROTOTYPE 빈 클래스 하나의 인스턴스 추적 스냅샷 ({@code Builder.trackPrototypes(true)}일 때만).
+ *
+ * @param created   만든 인스턴스 수
+ * @param live      아직 GC되지 않은 인스턴스 수 (계속 늘기만 하면 어딘가 붙잡고 있는 누수)
+ * @param destroyed close() 때 @PreDestroy를 실행한 인스턴스 수
+ * @param collected @PreDestroy 없이 GC된 인스턴스 수 (자원 정리를 GC에 맡긴 인스턴스)
+ */
+public record PrototypeStats(long created, long live, long destroyed, long collected) {
+}
@@ -0,0 +1,132 @@
+package myspring.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * PROTOTYPE 인스턴스 추적 (opt-in). 인스턴스는 약한 참조로만 들고 있으므로 추적 때문에 GC가 막히지 않는다.
+ * <p>
+ * GC된 인스턴스는 참조 큐로 알게 되며, 큐는 추적/통계 조회 때 비운다 (별도 스레드 없음).
+ * 그래서 붙잡고 있는 항목 수는 살아 있는 인스턴스 수 + 마지막 조회 뒤 GC된 수에 비례한다.
+ * 컨텍스트는 종료 때 빈 클래스별로 {@link #close(Class)}를 의존 그래프 순서에 맞춰 부른다
+ * (인스턴스를 쥔 싱글톤보다 나중에, 인스턴스가 쓰는 싱글톤보다 먼저). 같은 클래스 안에서는 나중에 만든 것부터 @PreDestroy 한다.
+ * GC된 인스턴스의 @PreDestroy는 실행할 수 없으므로 (대상 객체가 이미 없다) collected로만 센다.
+ */
+final class PrototypeTracker {
+
+    private static final class Counters {
+        final LongAdder created = new LongAdder();
+        final LongAdder destroyed = new LongAdder();
+        final LongAdder collected = new LongAdder();
+    }
+
+    private static final class Tracked extends WeakReference<Object> {
+        final Class<?> type;
+        final Counters counters;
+        final long sequence; // 생성 순서 (close 때 역순으로 소멸)
+
+        Tracked(Object bean, ReferenceQueue<Object> queue, Class<?> type, Counters counters, long sequence) {
+            super(bean, queue);
+            this.type = type;
+            this.counters = counters;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Consumer<Object> destroyer;
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final Set<Tracked> tracked = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<Class<?>, Counters> countersByType = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    PrototypeTracker(Consumer<Object> destroyer) {
+        this.destroyer = destroyer;
+    }
+
+    /** 새로 만든 PROTOTYPE 인스턴스를 추적한다 (type: 빈 클래스, @Bean이면 반환 타입) */
+    void track(Class<?> type, Object bean) {
+        expungeCollected();
+        Counters counters = countersByType.computeIfAbsent(type, k -> new Counters());
+        counters.created.increment();
+        tracked.add(new Tracked(bean, queue, type, counters, sequence.incrementAndGet()));
+    }
+
+    /** 빈 클래스명 순 통계 */
+    Map<String, PrototypeStats> stats() {
+        expungeCollected();
+        Map<String, PrototypeStats> stats = new TreeMap<>();
+        countersByType.forEach((type, c) -> {
+            long created = c.created.sum();
+            long destroyed = c.destroyed.sum();
+            long collected = c.collected.sum();
+            stats.put(type.getName(), new PrototypeStats(created, created - destroyed - collected, destroyed, collected));
+        });
+        return stats;
+    }
+
+    /** 아직 살아 있는 인스턴스가 있는 빈 클래스들 */
+    Set<Class<?>> liveTypes() {
+        expungeCollected();
+        Set<Class<?>> types = new HashSet<>();
+        for (Tracked t : tracked) types.add(t.type);
+        return types;
+    }
+
+    /** type의 살아 있는 인스턴스를 나중에 만든 것부터 @PreDestroy 한다. 하나가 실패해도 나머지는 계속하고 첫 예외를 던진다 */
+    void close(Class<?> type) {
+        destroy(t -> t.type == type);
+    }
+
+    /** 남은 인스턴스를 모두 (나중에 만든 것부터) @PreDestroy 한다 */
+    void close() {
+        destroy(t -> true);
+    }
+
+    private void destroy(Predicate<Tracked> filter) {
+        expungeCollected();
+        List<Tracked> remaining = new ArrayList<>();
+        for (Tracked t : tracked) {
+            if (filter.test(t)) remaining.add(t);
+        }
+        remaining.sort(Comparator.comparingLong((Tracked t) -> t.sequence).reversed());
+        RuntimeException failure = null;
+        for (Tracked t : remaining) {
+            if (!tracked.remove(t)) continue;
+            Object bean = t.get();
+            if (bean == null) {
+                t.counters.collected.increment();
+                continue;
+            }
+            t.clear(); // 큐에 다시 들어와 collected로 세이지 않도록
+            t.counters.destroyed.increment();
+            try {
+                destroyer.accept(bean);
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    // GC된 인스턴스를 목록에서 빼고 센다 (close가 먼저 뺀 항목은 건너뜀)
+    private void expungeCollected() {
+        for (Object ref; (ref = queue.poll()) != null; ) {
+            Tracked t = (Tracked) ref;
+            if (tracked.remove(t)) t.counters.collected.increment();
+        }
+    }
+}
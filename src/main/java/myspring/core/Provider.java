@@ -0,0 +1,13 @@
+package myspring.core;
+
+/**
+ * {@code @Inject} 생성자/{@code @Bean} 메서드 파라미터로 받는 빈 공급자.
+ * get()을 부를 때마다 대상 빈의 스코프 규칙대로 꺼낸다 (PROTOTYPE이면 매번 새 인스턴스).
+ * <p>
+ * 후보 선택과 스코프 분기는 주입 시점에 한 번 끝내 두므로 get()은 타입 조회 없이 바로 생성/캐시로 간다.
+ * 생성 순서 그래프에서는 간선이 아니다 (get() 전에는 의존하지 않으므로 순환도 끊는다).
+ */
+@FunctionalInterface
+public interface Provider<T> {
+    T get();
+}
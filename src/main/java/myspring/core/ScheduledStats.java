@@ -0,0 +1,21 @@
+package myspring.core;
+
+/**
+ * {@code @Scheduled} 메서드 하나의 실행 통계 스냅샷. 지연(lateness)은 예정 시각부터 실제 시작까지의 시간이다.
+ *
+ * @param runs                실행을 시작한 수
+ * @param skipped             이전 실행이 끝나지 않아 (또는 컨텍스트가 닫혀서) 건너뛴 예정 실행 수
+ * @param failed              예외로 끝난 실행 수
+ * @param active              지금 실행 중인 수
+ * @param lastLatenessMillis  마지막 실행의 지연 (ms)
+ * @param maxLatenessMillis   가장 큰 지연 (ms)
+ * @param totalLatenessMillis 지연 합 (ms)
+ */
+public record ScheduledStats(long runs, long skipped, long failed, int active,
+                             long lastLatenessMillis, long maxLatenessMillis, long totalLatenessMillis) {
+
+    /** 평균 지연 (실행이 없었으면 0) */
+    public double meanLatenessMillis() {
+        return (runs == 0) ? 0 : (double) totalLatenessMillis / runs;
+    }
+}
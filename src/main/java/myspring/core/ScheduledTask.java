@@ -0,0 +1,129 @@
+package myspring.core;
+
+import myspring.core.annotation.Scheduled;
+import myspring.core.annotation.ScopeType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code @Scheduled} 메서드 하나: 계획 컴파일 때 애노테이션을 검증해 만들고, 실행 상태와 통계를 들고 있다.
+ * 언제 실행할지는 {@link TaskScheduler}가 정한다.
+ */
+final class ScheduledTask {
+
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    enum Kind { FIXED_RATE, FIXED_DELAY, CRON }
+
+    final String name;        // Bean#method
+    final Kind kind;
+    final long periodMillis;  // FIXED_RATE/FIXED_DELAY
+    final long initialDelayMillis;
+    final CronExpression cron; // CRON이 아니면 null
+    final Scheduled.Overrun overrun;
+    private final MethodHandle handle; // (Object bean) -> void, 반환값은 버린다
+    private final Provider<?> bean;
+
+    // 실행 상태: COALESCE로 밀린 실행의 예정 시각 (없으면 -1)
+    final AtomicInteger active = new AtomicInteger();
+    final AtomicLong coalescedDeadline = new AtomicLong(-1);
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLateness = new LongAdder();
+    private final AtomicLong maxLateness = new AtomicLong();
+    private volatile long lastLateness;
+
+    private ScheduledTask(String name, Scheduled config, Kind kind, CronExpression cron, MethodHandle handle, Provider<?> bean) {
+        this.name = name;
+        this.kind = kind;
+        this.periodMillis = (kind == Kind.FIXED_RATE) ? config.fixedRate() : config.fixedDelay();
+        this.initialDelayMillis = config.initialDelay();
+        this.cron = cron;
+        this.overrun = config.overrun();
+        this.handle = handle;
+        this.bean = bean;
+    }
+
+    /** beanType(과 상위 클래스)의 @Scheduled 메서드 (메서드명 순). 잘못된 선언은 IllegalStateException */
+    static List<ScheduledTask> tasksOf(Class<?> beanType, Provider<?> bean, ScopeType scope) {
+        List<ScheduledTask> result = new ArrayList<>();
+        for (Class<?> c = beanType; c != null && c != Object.class && !c.isInterface(); c = c.getSuperclass()) {
+            Method[] methods = c.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+            for (Method m : methods) {
+                Scheduled config = m.getAnnotation(Scheduled.class);
+                if (config != null) result.add(task(c, m, bean, scope, config));
+            }
+        }
+        return result;
+    }
+
+    private static ScheduledTask task(Class<?> declaring, Method m, Provider<?> bean, ScopeType scope, Scheduled config) {
+        String name = declaring.getName() + "#" + m.getName();
+        if (Modifier.isStatic(m.getModifiers()) || m.getParameterCount() != 0) {
+            throw new IllegalStateException("@Scheduled method must be an instance method without parameters: " + name);
+        }
+        if (scope != ScopeType.SINGLETON) {
+            throw new IllegalStateException("@Scheduled bean must be SINGLETON: " + name);
+        }
+        int kinds = (config.fixedRate() > 0 ? 1 : 0) + (config.fixedDelay() > 0 ? 1 : 0) + (config.cron().isEmpty() ? 0 : 1);
+        if (kinds != 1) {
+            throw new IllegalStateException("@Scheduled must set exactly one of positive fixedRate, positive fixedDelay or cron: " + name);
+        }
+        if (config.initialDelay() < 0 || (!config.cron().isEmpty() && config.initialDelay() > 0)) {
+            throw new IllegalStateException("@Scheduled initialDelay must be non-negative and cannot be used with cron: " + name);
+        }
+        Kind kind = (config.fixedRate() > 0) ? Kind.FIXED_RATE : (config.fixedDelay() > 0) ? Kind.FIXED_DELAY : Kind.CRON;
+        CronExpression cron = null;
+        if (kind == Kind.CRON) {
+            try {
+                cron = CronExpression.parse(config.cron());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(e.getMessage() + " (" + name + ")", e);
+            }
+        }
+        try {
+            m.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(m).asType(HANDLER_TYPE);
+            return new ScheduledTask(name, config, kind, cron, handle, bean);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access @Scheduled method: " + name, e);
+        }
+    }
+
+    /** 메서드를 한 번 실행한다. latenessMillis: 예정 시각부터 시작까지 */
+    void run(long latenessMillis) throws Throwable {
+        runs.increment();
+        totalLateness.add(latenessMillis);
+        lastLateness = latenessMillis;
+        maxLateness.accumulateAndGet(latenessMillis, Math::max);
+        try {
+            handle.invokeExact(InterceptingProxy.targetOf(bean.get()));
+        } catch (Throwable e) {
+            failed.increment();
+            throw e;
+        }
+    }
+
+    void skipped() {
+        skipped.increment();
+    }
+
+    ScheduledStats stats() {
+        return new ScheduledStats(runs.sum(), skipped.sum(), failed.sum(), active.get(),
+                lastLateness, maxLateness.get(), totalLateness.sum());
+    }
+}
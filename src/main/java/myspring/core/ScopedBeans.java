@@ -0,0 +1,43 @@
+package myspring.core;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * SCOPED 스코프 빈 묶음: {@code runInScope/callInScope} 블록 하나.
+ * 블록 동안만 현재 스레드에 바인딩되고 (중첩 블록은 새 묶음), 블록이 끝나면 생성 역순으로 @PreDestroy 된다.
+ * 바인딩은 블록을 나갈 때 이전 값으로 되돌리므로 ThreadLocal에 값이 남지 않는다.
+ */
+final class ScopedBeans {
+
+    private final Map<Class<?>, Object> beans = new LinkedHashMap<>(); // 바인딩된 스레드에서만 접근
+
+    Object get(Class<?> clazz, Supplier<Object> factory) {
+        Object bean = beans.get(clazz);
+        if (bean != null) return bean;
+        Object created = factory.get(); // 의존성 생성 중 재진입하므로 computeIfAbsent를 쓰지 않는다
+        beans.put(clazz, created);
+        return created;
+    }
+
+    void destroy(Consumer<Object> destroyer) {
+        List<Object> created = new ArrayList<>(beans.values());
+        beans.clear();
+        destroyInReverse(created, destroyer);
+    }
+
+    // 나중에 만들어진 빈(의존하는 쪽)부터 소멸. 하나가 실패해도 나머지는 계속하고 첫 예외를 던진다
+    static void destroyInReverse(List<Object> beans, Consumer<Object> destroyer) {
+        RuntimeException failure = null;
+        for (int i = beans.size() - 1; i >= 0; i--) {
+            try {
+                destroyer.accept(beans.get(i));
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+}
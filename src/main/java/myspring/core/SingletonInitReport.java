@@ -0,0 +1,17 @@
+package myspring.core;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 병렬 eager 초기화 결과.
+ *
+ * @param beanCount        미리 생성한 싱글톤 수
+ * @param parallelism      사용한 병렬도
+ * @param wallTime         초기화 전체에 걸린 시간
+ * @param criticalPathTime 의존 체인 중 가장 긴 경로의 생성 시간 합 (병렬도를 아무리 올려도 이보다 빨라질 수 없다)
+ * @param criticalPath     그 경로의 빈들 (의존 대상 → 의존하는 빈 순)
+ */
+public record SingletonInitReport(int beanCount, int parallelism, Duration wallTime,
+                                  Duration criticalPathTime, List<Class<?>> criticalPath) {
+}
@@ -0,0 +1,72 @@
+package myspring.core;
+
+import myspring.core.annotation.ScopeType;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 빈 생성 지표 스냅샷. {@link #toString()}은 self 시간(같으면 total 시간) 내림차순 표를 돌려준다.
+ */
+public final class StartupReport {
+
+    private static final Comparator<BeanCreationMetrics> BY_SELF_TIME =
+            Comparator.comparing(BeanCreationMetrics::selfTime)
+                    .thenComparing(BeanCreationMetrics::totalTime)
+                    .reversed()
+                    .thenComparing(m -> m.beanClass().getName());
+
+    private static final Comparator<BeanCreationMetrics> BY_TOTAL_TIME =
+            Comparator.comparing(BeanCreationMetrics::totalTime)
+                    .thenComparing(BeanCreationMetrics::selfTime)
+                    .reversed()
+                    .thenComparing(m -> m.beanClass().getName());
+
+    private final List<BeanCreationMetrics> bySelfTime;
+    private final List<BeanCreationMetrics> byTotalTime;
+
+    StartupReport(Collection<BeanCreationMetrics> metrics) {
+        List<BeanCreationMetrics> list = new ArrayList<>(metrics);
+        list.sort(BY_SELF_TIME);
+        this.bySelfTime = List.copyOf(list);
+        list.sort(BY_TOTAL_TIME);
+        this.byTotalTime = List.copyOf(list);
+    }
+
+    /** self 시간 내림차순 */
+    public List<BeanCreationMetrics> bySelfTime() {
+        return bySelfTime;
+    }
+
+    /** total 시간 내림차순 */
+    public List<BeanCreationMetrics> byTotalTime() {
+        return byTotalTime;
+    }
+
+    /** 스코프별 생성된 인스턴스 수 */
+    public Map<ScopeType, Long> instancesByScope() {
+        Map<ScopeType, Long> result = new EnumMap<>(ScopeType.class);
+        for (BeanCreationMetrics m : bySelfTime) {
+            result.merge(m.scope(), m.instances(), Long::sum);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Bean creation report (")
+                .append(bySelfTime.size()).append(" beans, instances ").append(instancesByScope()).append(")\n");
+        sb.append(String.format("%10s %10s %10s %6s %5s %-10s %s%n",
+                "self(ms)", "total(ms)", "init(ms)", "count", "depth", "scope", "bean"));
+        for (BeanCreationMetrics m : bySelfTime) {
+            sb.append(String.format("%10.3f %10.3f %10.3f %6d %5d %-10s %s%n",
+                    millis(m.selfTime()), millis(m.totalTime()), millis(m.postConstructTime()),
+                    m.instances(), m.maxDepth(), m.scope(), m.beanClass().getName()));
+        }
+        return sb.toString();
+    }
+
+    private static double millis(Duration d) {
+        return d.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,178 @@
+package myspring.core;
+
+import myspring.core.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨테이너가 소유하는 {@code @Scheduled} 스케줄러. 모든 작업의 다음 예정 시각을 해시 휠 타이머 하나에 넣고,
+ * 마감이 되면 타이머 스레드는 실행기(가상 스레드)로 넘기기만 한다. 작업이 수천 개여도 예약/틱 처리는 작업 수와 무관하다.
+ * <p>
+ * fixedRate/cron은 실행을 넘길 때 다음 예정 시각을 예약하고 (예정 시각 기준이라 실행이 늦어도 밀리지 않음),
+ * 이전 실행이 아직 돌고 있으면 {@code overrun} 정책을 따른다. fixedDelay는 실행이 끝난 뒤 다음을 예약한다.
+ * 시계가 {@link ManualClock}이면 타이머 스레드 없이 시계를 넘기는 스레드에서 틱을 처리한다.
+ * 타이머와 실행기는 첫 작업이 등록될 때 만든다.
+ */
+final class TaskScheduler {
+
+    private final Clock clock;
+    private final Duration tick;
+    private final int wheelSize;
+    private final Map<String, ScheduledTask> tasks = new ConcurrentHashMap<>();
+    private volatile HashedWheelTimer timer;
+    private volatile ExecutorService executor;
+    private Thread worker;          // 시스템 시계일 때만
+    private Runnable clockListener; // ManualClock일 때만
+    private volatile boolean closed;
+
+    TaskScheduler(Clock clock, Duration tick, int wheelSize) {
+        if (tick.toMillis() < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("Scheduler tick must be at least 1ms and wheel size positive: "
+                    + tick + ", " + wheelSize);
+        }
+        this.clock = clock;
+        this.tick = tick;
+        this.wheelSize = wheelSize;
+    }
+
+    /** 같은 설정의 새 스케줄러 (자식 컨텍스트용: 작업과 스레드는 따로) */
+    TaskScheduler withSameSettings() {
+        return new TaskScheduler(clock, tick, wheelSize);
+    }
+
+    /** 작업을 등록하고 첫 실행을 예약한다 (컨텍스트 시작/새로 고침으로 추가된 빈) */
+    synchronized void register(List<ScheduledTask> added) {
+        if (added.isEmpty()) return;
+        if (closed) throw new IllegalStateException("Context is closed, cannot schedule " + added.get(0).name);
+        if (timer == null) start();
+        long now = clock.millis();
+        for (ScheduledTask task : added) {
+            tasks.put(task.name, task);
+            schedule(task, (task.kind == ScheduledTask.Kind.CRON)
+                    ? task.cron.next(now, clock.getZone())
+                    : now + task.initialDelayMillis);
+        }
+    }
+
+    private void start() {
+        HashedWheelTimer wheel = new HashedWheelTimer(clock.millis(), tick.toMillis(), wheelSize);
+        timer = wheel;
+        executor = ManagedExecutors.virtualOrCached("myspring-scheduled");
+        if (clock instanceof ManualClock manual) {
+            clockListener = () -> wheel.advanceTo(manual.millis());
+            manual.addListener(clockListener);
+            return;
+        }
+        worker = new Thread(() -> runTimer(wheel), "myspring-scheduler-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 다음 틱 끝까지 자고 일어나 지난 틱을 처리한다. close()가 인터럽트로 깨운다
+    private void runTimer(HashedWheelTimer wheel) {
+        while (!closed) {
+            long wait = wheel.nextTickMillis() - clock.millis();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                continue;
+            }
+            wheel.advanceTo(clock.millis());
+        }
+    }
+
+    private void schedule(ScheduledTask task, long deadline) {
+        if (!closed) timer.schedule(deadline, d -> fire(task, d));
+    }
+
+    // 타이머 스레드: 다음 예약과 overrun 판단만 하고 실행은 실행기로 넘긴다
+    private void fire(ScheduledTask task, long deadline) {
+        if (closed) return;
+        if (task.kind == ScheduledTask.Kind.FIXED_DELAY) {
+            dispatch(task, deadline);
+            return;
+        }
+        schedule(task, (task.kind == ScheduledTask.Kind.CRON)
+                ? task.cron.next(deadline, clock.getZone())
+                : deadline + task.periodMillis);
+        if (task.active.get() == 0 || task.overrun == Scheduled.Overrun.CONCURRENT) {
+            dispatch(task, deadline);
+        } else if (task.overrun == Scheduled.Overrun.COALESCE) {
+            if (task.coalescedDeadline.getAndSet(deadline) >= 0) task.skipped(); // 이미 밀린 실행과 합친다
+            if (task.active.get() == 0) dispatchCoalesced(task); // 그사이 끝났으면 여기서 넘긴다
+        } else {
+            task.skipped();
+        }
+    }
+
+    // 밀린 실행이 있으면 (실행 완료 쪽과 타이머 쪽 중 먼저 가져간 쪽이) 한 번 넘긴다
+    private void dispatchCoalesced(ScheduledTask task) {
+        long deadline = task.coalescedDeadline.getAndSet(-1);
+        if (deadline >= 0) dispatch(task, deadline);
+    }
+
+    private void dispatch(ScheduledTask task, long deadline) {
+        task.active.incrementAndGet(); // 실행기 큐에서 기다리는 동안에도 실행 중으로 본다
+        try {
+            executor.execute(() -> execute(task, deadline));
+        } catch (RejectedExecutionException e) {
+            task.active.decrementAndGet(); // 닫히는 중
+            task.skipped();
+        }
+    }
+
+    private void execute(ScheduledTask task, long deadline) {
+        try {
+            task.run(Math.max(0, clock.millis() - deadline));
+        } catch (Throwable e) {
+            Thread t = Thread.currentThread();
+            t.getUncaughtExceptionHandler().uncaughtException(t,
+                    new IllegalStateException("Scheduled task failed: " + task.name, e));
+        } finally {
+            // 다음 예약을 마친 뒤에야 끝난 것으로 센다 (fixedDelay는 끝난 시각 기준)
+            if (task.kind == ScheduledTask.Kind.FIXED_DELAY) schedule(task, clock.millis() + task.periodMillis);
+            task.active.decrementAndGet();
+            if (task.overrun == Scheduled.Overrun.COALESCE) dispatchCoalesced(task);
+        }
+    }
+
+    /** 작업별 통계 (클래스명#메서드명 순) */
+    Map<String, ScheduledStats> stats() {
+        Map<String, ScheduledStats> stats = new TreeMap<>();
+        tasks.forEach((name, task) -> stats.put(name, task.stats()));
+        return stats;
+    }
+
+    /** 새 예약을 멈추고, 실행 중인 작업이 timeout 안에 끝나기를 기다린 뒤 실행기를 닫는다 */
+    void close(Duration timeout) {
+        synchronized (this) {
+            closed = true;
+        }
+        ExecutorService executor = this.executor;
+        if (executor == null) return;
+        if (worker != null) worker.interrupt();
+        if (clock instanceof ManualClock manual) manual.removeListener(clockListener);
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        int running = 0;
+        for (ScheduledTask task : tasks.values()) running += task.active.get();
+        throw new IllegalStateException("Scheduled tasks did not finish within " + timeout.toMillis()
+                + "ms, still running: " + running);
+    }
+}
@@ -0,0 +1,142 @@
+package myspring.core;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * THREAD 스코프 빈 저장소: 스레드마다 빈 묶음(Holder) 하나.
+ * <p>
+ * Holder는 ThreadLocal로 찾고, 소멸을 위해 등록 목록에도 넣는다. 목록은 스레드를 약하게 참조하며,
+ * 등록 수가 지난번 정리 후 살아 있던 수의 두 배가 될 때마다 끝난 스레드의 빈을 @PreDestroy 하고 버린다.
+ * 따라서 (가상 스레드가 수백만 개 지나가도) 붙잡고 있는 Holder는 살아 있는 스레드 수에 비례한다.
+ */
+final class ThreadScope {
+
+    private static final int MIN_REAP_THRESHOLD = 64;
+
+    private static final class Holder {
+        private final WeakReference<Thread> thread;
+        private final Map<Class<?>, Object> beans = new LinkedHashMap<>(); // 생성 순 → 역순으로 소멸
+        private boolean destroyed;
+
+        private Holder(Thread thread) {
+            this.thread = new WeakReference<>(thread);
+        }
+
+        private boolean threadEnded() {
+            Thread t = thread.get();
+            return t == null || !t.isAlive();
+        }
+    }
+
+    private final Consumer<Object> destroyer;
+    private final ThreadLocal<Holder> current = new ThreadLocal<>();
+    private final ConcurrentLinkedQueue<Holder> holders = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger registered = new AtomicInteger();
+    private final AtomicBoolean reaping = new AtomicBoolean();
+    private volatile int reapThreshold = MIN_REAP_THRESHOLD;
+
+    ThreadScope(Consumer<Object> destroyer) {
+        this.destroyer = destroyer;
+    }
+
+    /** 현재 스레드의 clazz 빈 (없으면 factory로 만든다. 의존성 생성 중 같은 스레드에서 재진입 가능) */
+    Object get(Class<?> clazz, Supplier<Object> factory) {
+        Holder holder = current.get();
+        if (holder == null) {
+            holder = new Holder(Thread.currentThread());
+            current.set(holder);
+            register(holder);
+        }
+        synchronized (holder) {
+            Object bean = holder.beans.get(clazz);
+            if (bean != null) return bean;
+        }
+        Object created = factory.get();
+        synchronized (holder) {
+            if (!holder.destroyed) {
+                holder.beans.put(clazz, created);
+                return created;
+            }
+        }
+        destroyer.accept(created); // 만드는 사이 컨텍스트가 닫혔다
+        throw new IllegalStateException("Thread scope already destroyed: " + clazz.getName());
+    }
+
+    /** 현재 스레드의 빈을 지금 소멸시킨다 (스레드 풀처럼 스레드가 끝나지 않는 환경에서 작업 단위로 호출) */
+    void endCurrentThread() {
+        Holder holder = current.get();
+        if (holder == null) return;
+        current.remove();
+        if (holders.remove(holder)) registered.decrementAndGet();
+        destroy(holder);
+    }
+
+    /** 끝난 스레드의 빈을 소멸시킨다. 다른 스레드가 정리 중이면 건너뛴다 */
+    void reapEndedThreads() {
+        if (!reaping.compareAndSet(false, true)) return;
+        try {
+            int alive = 0;
+            for (Iterator<Holder> it = holders.iterator(); it.hasNext(); ) {
+                Holder h = it.next();
+                if (!h.threadEnded()) {
+                    alive++;
+                    continue;
+                }
+                it.remove();
+                registered.decrementAndGet();
+                try {
+                    destroy(h);
+                } catch (RuntimeException ignored) {
+                    // 정리를 유발한 (관계없는) getBean 호출자에게 전파하지 않는다
+                }
+            }
+            reapThreshold = Math.max(MIN_REAP_THRESHOLD, alive * 2);
+        } finally {
+            reaping.set(false);
+        }
+    }
+
+    /** 모든 스레드의 빈을 소멸시킨다 (컨텍스트 종료) */
+    void close() {
+        RuntimeException failure = null;
+        Holder h;
+        while ((h = holders.poll()) != null) {
+            registered.decrementAndGet();
+            try {
+                destroy(h);
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        current.remove();
+        if (failure != null) throw failure;
+    }
+
+    /** 아직 소멸되지 않은 스레드 묶음 수 */
+    int size() {
+        return registered.get();
+    }
+
+    private void register(Holder holder) {
+        holders.add(holder);
+        if (registered.incrementAndGet() >= reapThreshold) reapEndedThreads();
+    }
+
+    private void destroy(Holder holder) {
+        List<Object> beans;
+        synchronized (holder) {
+            if (holder.destroyed) return;
+            holder.destroyed = true;
+            beans = new ArrayList<>(holder.beans.values());
+            holder.beans.clear();
+        }
+        ScopedBeans.destroyInReverse(beans, destroyer);
+    }
+}
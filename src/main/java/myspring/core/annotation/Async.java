@@ -0,0 +1,17 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 빈 메서드를 컨테이너 실행기에서 실행하고 호출자에게는 바로 CompletableFuture를 돌려준다.
+// 반환 타입은 CompletableFuture(또는 그 상위 타입)여야 하고, 메서드가 돌려준 future가 끝나면 호출자의 future도 같은 결과로 끝난다.
+// @Cacheable처럼 인터페이스 프록시로 감싸지므로 인터페이스가 선언한 메서드여야 하고, 빈도 인터페이스 타입으로 주입받아야 한다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Async {
+    String executor() default ""; // ApplicationContext.Builder.asyncExecutor로 등록한 실행기 이름. 비우면 기본 실행기(가상 스레드)
+    int maxConcurrency() default 0; // 이 메서드를 동시에 실행하는 최대 호출 수 (0이면 제한 없음). 넘는 호출은 메서드별 대기열에서 기다린다
+    int queueCapacity() default 10_000; // maxConcurrency 때문에 기다리는 호출의 최대 수. 넘으면 future가 RejectedExecutionException으로 끝난다
+}
@@ -0,0 +1,15 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 메서드가 정상 반환한 뒤 캐시에서 이 메서드의 인자(key를 주면 그 위치의 인자들)를 키로 하는 항목을 지운다 (allEntries면 전부)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheEvict {
+    String value(); // 대상 @Cacheable 캐시 이름
+    int[] key() default {}; // 키가 되는 인자 위치 (예: update(sku, price)에서 {0}). 비우면 인자 전체
+    boolean allEntries() default false;
+}
@@ -0,0 +1,23 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 빈 메서드 결과를 인자 기준으로 캐시한다 (인자 전체가 키, equals/hashCode 비교). 예외는 캐시하지 않는다.
+// 빈은 인터페이스 프록시로 감싸지므로 인터페이스가 선언한 메서드여야 하고, 빈도 인터페이스 타입으로 주입받아야 한다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cacheable {
+    String value() default ""; // 캐시 이름 (@CacheEvict가 가리킴). 비우면 클래스명#메서드명(파라미터 타입)
+    int maxSize() default 1_000; // 최대 항목 수. 넘치면 가장 오래 안 쓴 항목부터 제거
+    long maxWeight() default 0; // 0보다 크면 항목 수 대신 weigher로 잰 무게 합을 제한
+    Class<? extends Weigher> weigher() default Weigher.class; // maxWeight와 함께 사용 (public 기본 생성자 필요)
+    long ttlMillis() default 0; // 저장 후 이 시간이 지나면 만료 (0 이하면 만료 없음)
+
+    /** 항목 무게 (0 이상) */
+    interface Weigher {
+        int weigh(Object[] key, Object value);
+    }
+}
@@ -8,4 +8,13 @@ import java.lang.annotation.Target;
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @Component // 메타 애노테이션: 설정 클래스 자체도 컴포넌트 스캔 대상
-public @interface Configuration { }
+public @interface Configuration {
+
+    /**
+     * true(기본)면 애노테이션 프로세서가 만든 하위 클래스로 설정 인스턴스를 만들어, @Bean 메서드끼리의 직접 호출도
+     * 컨테이너의 스코프 처리를 거친다 (싱글톤은 몇 번 불러도 같은 인스턴스).
+     * false는 lite 모드: 하위 클래스 없이 원래 클래스를 쓰고, 직접 호출하면 메서드 본문이 그대로 다시 실행된다
+     * (@Bean 메서드가 서로 부르지 않고 파라미터로만 주입받는 설정이면 이쪽이 가볍다)
+     */
+    boolean proxyBeanMethods() default true;
+}
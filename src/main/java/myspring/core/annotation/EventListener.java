@@ -0,0 +1,16 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 빈 메서드를 ApplicationContext.publishEvent 리스너로 등록한다. 파라미터는 하나: 이벤트 타입(하위 타입 이벤트도 받음)
+// 또는 List<이벤트 타입>(여러 이벤트를 한 번에 받는 배치 리스너)
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EventListener {
+    boolean async() default false; // true면 리스너별 큐에 넣고 컨테이너 실행기에서 순서대로 전달 (발행 스레드는 기다리지 않음)
+    int batchSize() default 1; // async일 때 한 번에 꺼내는 최대 이벤트 수 (List 파라미터면 한 번의 호출로 전달)
+    int queueCapacity() default 10_000; // async 큐 크기. 가득 차면 발행 스레드가 자리가 날 때까지 기다린다
+}
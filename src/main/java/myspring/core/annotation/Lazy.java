@@ -0,0 +1,13 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컴포넌트 클래스 또는 @Bean 메서드에 붙인다: 주입 지점에는 프록시가 들어가고, 실제 빈은 첫 메서드 호출 때 생성
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+    boolean value() default true;
+}
@@ -0,0 +1,11 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD) // POOLED 빈이 풀에 반납될 때마다 호출 (버퍼 비우기 등)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PoolReset {
+}
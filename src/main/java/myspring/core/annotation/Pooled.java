@@ -0,0 +1,15 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// POOLED 스코프 빈의 풀 설정 (컴포넌트 클래스 또는 @Bean 메서드). 없으면 기본값 사용
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Pooled {
+    int maxSize() default 8; // 동시에 존재할 수 있는 최대 인스턴스 수
+    long idleTimeoutMillis() default 60_000; // 이보다 오래 반납 상태면 @PreDestroy 후 제거 (0 이하면 제거 안 함)
+    long maxWaitMillis() default 1_000; // 모두 대여 중일 때 기다리는 최대 시간
+}
@@ -0,0 +1,14 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컴포넌트 클래스/@Bean 메서드에 붙이면 빈에 한정자를 단다.
+// 생성자/@Bean 파라미터에 붙이면 한정자 또는 빈 이름이 value인 후보만 주입한다 (List/Map 파라미터면 원소를 거른다)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Qualifier {
+    String value();
+}
@@ -0,0 +1,24 @@
+package myspring.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 싱글톤 빈의 파라미터 없는 메서드를 컨테이너 스케줄러(해시 휠 타이머 + 가상 스레드)에서 주기적으로 실행한다.
+// fixedRate/fixedDelay/cron 중 정확히 하나를 지정한다. 컨텍스트가 시작될 때 등록되고 close() 때 멈춘다
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Scheduled {
+    long fixedRate() default -1; // 예정 시각 기준 주기(ms): 실행이 늦어도 다음 예정 시각은 밀리지 않는다
+    long fixedDelay() default -1; // 이전 실행이 끝난 뒤 다음 실행까지 간격(ms): 겹쳐 실행되는 일이 없다
+    String cron() default ""; // "초 분 시 일 월 요일" (예: "0 */5 * * * MON-FRI"), 스케줄러 시계의 시간대 기준
+    long initialDelay() default 0; // fixedRate/fixedDelay의 첫 실행까지 지연(ms)
+    Overrun overrun() default Overrun.SKIP; // fixedRate/cron 예정 시각에 이전 실행이 아직 끝나지 않았을 때
+
+    enum Overrun {
+        SKIP,       // 이번 실행을 건너뛴다 (skipped로 센다)
+        COALESCE,   // 밀린 실행을 하나로 합쳐 이전 실행이 끝나자마자 한 번 실행한다
+        CONCURRENT  // 끝나기를 기다리지 않고 겹쳐서 실행한다
+    }
+}
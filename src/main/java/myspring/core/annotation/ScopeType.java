@@ -2,5 +2,8 @@ package myspring.core.annotation;
 
 public enum ScopeType {
     SINGLETON, // 없으면 생성, 있으면 재사용
-    PROTOTYPE // 매번 새로 생성
+    PROTOTYPE, // 매번 새로 생성
+    POOLED, // 풀에서 빌려 쓰고 반납 (ApplicationContext.borrow, 크기/유휴 제거는 @Pooled)
+    THREAD, // 스레드마다 하나 (스레드가 끝나거나 endThreadScope 때 소멸)
+    SCOPED // ApplicationContext.runInScope/callInScope 블록마다 하나 (블록이 끝나면 소멸)
 }
@@ -0,0 +1,21 @@
+package fixtures.async;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+import java.util.concurrent.CompletableFuture;
+
+// 호출하는 쪽은 @Async 여부를 모른다 (인터페이스로 주입받아 그대로 호출)
+@Component
+public class Dashboard {
+    private final Downstream downstream;
+
+    @Inject
+    public Dashboard(Downstream downstream) {
+        this.downstream = downstream;
+    }
+
+    public CompletableFuture<String> workerName() {
+        return downstream.threadName();
+    }
+}
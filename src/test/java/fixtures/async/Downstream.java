@@ -0,0 +1,16 @@
+package fixtures.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+public interface Downstream {
+    CompletableFuture<String> fetch(String key, CountDownLatch gate);
+
+    CompletableFuture<String> fetch(String key);
+
+    CompletableFuture<String> threadName();
+
+    CompletableFuture<Void> fail();
+
+    int maxInFlight();
+}
@@ -0,0 +1,52 @@
+package fixtures.async;
+
+import myspring.core.annotation.Async;
+import myspring.core.annotation.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// fetch는 gate가 열릴 때까지 붙잡혀 있는 느린 하위 호출: 동시에 진행 중인 호출 수의 최댓값을 기록한다
+@Component
+public class SlowDownstream implements Downstream {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @Override
+    @Async(maxConcurrency = 2, queueCapacity = 3)
+    public CompletableFuture<String> fetch(String key, CountDownLatch gate) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        return CompletableFuture.completedFuture("value-" + key);
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<String> fetch(String key) {
+        return CompletableFuture.completedFuture("value-" + key);
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<String> threadName() {
+        return CompletableFuture.completedFuture(Thread.currentThread().getName());
+    }
+
+    @Override
+    @Async
+    public CompletableFuture<Void> fail() {
+        throw new IllegalArgumentException("downstream failed");
+    }
+
+    @Override
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+}
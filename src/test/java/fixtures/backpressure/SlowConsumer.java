@@ -0,0 +1,21 @@
+package fixtures.backpressure;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+// 큐 크기 2: gate가 열릴 때까지 첫 이벤트에서 멈춰 있으므로 발행자가 곧 막힌다
+@Component
+public class SlowConsumer {
+    public final CountDownLatch gate = new CountDownLatch(1);
+    public final List<Integer> received = new CopyOnWriteArrayList<>();
+
+    @EventListener(async = true, queueCapacity = 2)
+    void on(Tick tick) throws InterruptedException {
+        gate.await();
+        received.add(tick.n());
+    }
+}
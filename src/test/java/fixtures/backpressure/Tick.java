@@ -0,0 +1,4 @@
+package fixtures.backpressure;
+
+public record Tick(int n) {
+}
@@ -0,0 +1,12 @@
+package fixtures.badschedule;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+// 주기를 두 가지 지정 → 컨텍스트 생성 시 실패
+@Component
+public class BadJobs {
+    @Scheduled(fixedRate = 100, cron = "0 * * * * *")
+    void twoTriggers() {
+    }
+}
@@ -0,0 +1,12 @@
+package fixtures.badschedule;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+// 파라미터가 있다 → 컨텍스트 생성 시 실패 (BadJobs와 함께 보고)
+@Component
+public class ParameterJob {
+    @Scheduled(fixedDelay = 100)
+    void poll(int retries) {
+    }
+}
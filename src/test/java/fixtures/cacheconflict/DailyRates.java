@@ -0,0 +1,14 @@
+package fixtures.cacheconflict;
+
+import myspring.core.annotation.Cacheable;
+import myspring.core.annotation.Component;
+
+// SpotRates와 같은 캐시 이름에 다른 설정 → 한쪽 설정이 조용히 무시되지 않도록 시작 시 실패
+@Component
+public class DailyRates implements RateService {
+    @Override
+    @Cacheable(value = "rates", ttlMillis = 86_400_000)
+    public double rate(String currency) {
+        return 1.0;
+    }
+}
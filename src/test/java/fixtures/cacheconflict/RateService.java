@@ -0,0 +1,5 @@
+package fixtures.cacheconflict;
+
+public interface RateService {
+    double rate(String currency);
+}
@@ -0,0 +1,13 @@
+package fixtures.cacheconflict;
+
+import myspring.core.annotation.Cacheable;
+import myspring.core.annotation.Component;
+
+@Component
+public class SpotRates implements RateService {
+    @Override
+    @Cacheable(value = "rates", maxSize = 10)
+    public double rate(String currency) {
+        return 1.0;
+    }
+}
@@ -0,0 +1,69 @@
+package fixtures.caching;
+
+import myspring.core.annotation.CacheEvict;
+import myspring.core.annotation.Cacheable;
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PostConstruct;
+import myspring.core.annotation.PreDestroy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 조회할 때마다 lookups가 늘어난다: 캐시 적중이면 늘지 않는다
+@Component
+public class PriceCatalog implements PriceService {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    private final Map<String, Long> prices = new ConcurrentHashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @PostConstruct
+    void load() {
+        prices.put("apple", 100L);
+        prices.put("pear", 200L);
+    }
+
+    @Override
+    @Cacheable("prices")
+    public Long price(String sku) {
+        lookups.incrementAndGet();
+        return prices.get(sku); // 없는 상품이면 null (null도 캐시된다)
+    }
+
+    @Override
+    @Cacheable(maxSize = 2)
+    public long discounted(String sku, int percent) {
+        lookups.incrementAndGet();
+        return prices.get(sku) * (100 - percent) / 100;
+    }
+
+    @Override
+    @Cacheable(maxSize = 2) // 위 오버로드와는 다른 캐시 (이름에 파라미터 타입이 들어간다)
+    public long discounted(String sku) {
+        lookups.incrementAndGet();
+        return prices.get(sku);
+    }
+
+    @Override
+    @CacheEvict(value = "prices", key = 0)
+    public void update(String sku, long price) {
+        prices.put(sku, price);
+    }
+
+    @Override
+    @CacheEvict(value = "prices", allEntries = true)
+    public void reset() {
+        prices.replaceAll((sku, price) -> 0L);
+    }
+
+    @Override
+    public int lookups() {
+        return lookups.get();
+    }
+
+    @PreDestroy
+    void close() {
+        destroyed.incrementAndGet();
+    }
+}
@@ -0,0 +1,15 @@
+package fixtures.caching;
+
+public interface PriceService {
+    Long price(String sku);
+
+    long discounted(String sku, int percent);
+
+    long discounted(String sku);
+
+    void update(String sku, long price);
+
+    void reset();
+
+    int lookups();
+}
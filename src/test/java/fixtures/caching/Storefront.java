@@ -0,0 +1,14 @@
+package fixtures.caching;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class Storefront {
+    public final PriceService prices;
+
+    @Inject
+    public Storefront(PriceService prices) {
+        this.prices = prices;
+    }
+}
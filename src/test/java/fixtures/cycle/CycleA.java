@@ -0,0 +1,11 @@
+package fixtures.cycle;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// 의도적인 순환 참조 픽스처 (A → B → A). 다른 테스트의 스캔 범위(myspring.*) 밖에 둔다
+@Component
+public class CycleA {
+    @Inject
+    public CycleA(CycleB b) {}
+}
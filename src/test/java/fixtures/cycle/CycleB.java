@@ -0,0 +1,10 @@
+package fixtures.cycle;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class CycleB {
+    @Inject
+    public CycleB(CycleA a) {}
+}
@@ -0,0 +1,7 @@
+package fixtures.duplicatename;
+
+import myspring.core.annotation.Component;
+
+@Component("sender")
+public class SmsSender {
+}
@@ -0,0 +1,14 @@
+package fixtures.dynamiccycle;
+
+import myspring.core.Provider;
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// 정의상으로는 순환이 아니지만(Provider 간선) 생성자에서 get()을 불러 실행 중에 A → B → A가 되는 픽스처
+@Component
+public class LoopA {
+    @Inject
+    public LoopA(Provider<LoopB> b) {
+        b.get();
+    }
+}
@@ -0,0 +1,10 @@
+package fixtures.dynamiccycle;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class LoopB {
+    @Inject
+    public LoopB(LoopA a) {}
+}
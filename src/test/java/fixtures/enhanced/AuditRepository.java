@@ -0,0 +1,9 @@
+package fixtures.enhanced;
+
+public class AuditRepository {
+    public final ConnectionPool pool;
+
+    public AuditRepository(ConnectionPool pool) {
+        this.pool = pool;
+    }
+}
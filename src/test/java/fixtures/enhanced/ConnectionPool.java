@@ -0,0 +1,29 @@
+package fixtures.enhanced;
+
+import myspring.core.annotation.PreDestroy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비싼 자원 흉내: 만들어진 횟수를 세고, 닫히면 shutdownLog에 남긴다 (@Bean 메서드로만 등록된다)
+public class ConnectionPool {
+    public static final AtomicInteger created = new AtomicInteger();
+    public static final List<String> shutdownLog = new CopyOnWriteArrayList<>();
+
+    private volatile boolean open = true;
+
+    public ConnectionPool() {
+        created.incrementAndGet();
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    @PreDestroy
+    void close() {
+        open = false;
+        shutdownLog.add("pool");
+    }
+}
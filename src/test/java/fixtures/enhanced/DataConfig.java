@@ -0,0 +1,30 @@
+package fixtures.enhanced;
+
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+import myspring.core.annotation.ScopeType;
+
+// @Bean 메서드가 파라미터 주입 대신 서로를 직접 부른다
+@Configuration
+public class DataConfig {
+
+    @Bean
+    public ConnectionPool connectionPool() {
+        return new ConnectionPool();
+    }
+
+    @Bean
+    public OrderRepository orderRepository() {
+        return new OrderRepository(connectionPool());
+    }
+
+    @Bean
+    public AuditRepository auditRepository() {
+        return new AuditRepository(connectionPool());
+    }
+
+    @Bean(scope = ScopeType.PROTOTYPE)
+    public Session session() {
+        return new Session(connectionPool());
+    }
+}
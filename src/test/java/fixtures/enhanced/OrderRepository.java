@@ -0,0 +1,22 @@
+package fixtures.enhanced;
+
+import myspring.core.annotation.PreDestroy;
+
+public class OrderRepository {
+    public final ConnectionPool pool;
+
+    public OrderRepository(ConnectionPool pool) {
+        this.pool = pool;
+    }
+
+    // 느린 정리: 풀이 먼저 닫혔다면 그대로 기록된다
+    @PreDestroy
+    void flush() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ConnectionPool.shutdownLog.add(pool.isOpen() ? "orders" : "orders (pool already closed)");
+    }
+}
@@ -0,0 +1,10 @@
+package fixtures.enhanced;
+
+// PROTOTYPE @Bean: 부를 때마다 새 세션
+public class Session {
+    public final ConnectionPool pool;
+
+    public Session(ConnectionPool pool) {
+        this.pool = pool;
+    }
+}
@@ -0,0 +1,18 @@
+package fixtures.events;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 상위 타입 리스너: 모든 주문 이벤트를 받는다 (동기)
+@Component
+public class AuditLog {
+    public final List<OrderEvent> events = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    void record(OrderEvent event) {
+        events.add(event);
+    }
+}
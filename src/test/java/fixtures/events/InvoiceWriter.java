@@ -0,0 +1,18 @@
+package fixtures.events;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+public class InvoiceWriter {
+    public final List<Long> invoiced = new CopyOnWriteArrayList<>();
+
+    @EventListener
+    void onPlaced(OrderPlaced event) {
+        if (event.orderId() < 0) throw new IllegalArgumentException("invalid order " + event.orderId());
+        invoiced.add(event.orderId());
+    }
+}
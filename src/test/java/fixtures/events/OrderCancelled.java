@@ -0,0 +1,4 @@
+package fixtures.events;
+
+public record OrderCancelled(long orderId) implements OrderEvent {
+}
@@ -0,0 +1,5 @@
+package fixtures.events;
+
+public interface OrderEvent {
+    long orderId();
+}
@@ -0,0 +1,22 @@
+package fixtures.events;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.EventListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 비동기 배치 리스너: 최대 50개씩 묶어서 받는다
+@Component
+public class OrderExporter {
+    public final List<Long> exported = new CopyOnWriteArrayList<>();
+    public final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    public final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    @EventListener(async = true, batchSize = 50)
+    void export(List<OrderPlaced> batch) {
+        threads.add(Thread.currentThread());
+        batchSizes.add(batch.size());
+        for (OrderPlaced event : batch) exported.add(event.orderId());
+    }
+}
@@ -0,0 +1,4 @@
+package fixtures.events;
+
+public record OrderPlaced(long orderId) implements OrderEvent {
+}
@@ -0,0 +1,11 @@
+package fixtures.failing;
+
+import myspring.core.annotation.Component;
+
+// eager 초기화 실패 전파 픽스처
+@Component
+public class BrokenBean {
+    public BrokenBean() {
+        throw new IllegalStateException("broken");
+    }
+}
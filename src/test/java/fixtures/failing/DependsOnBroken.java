@@ -0,0 +1,16 @@
+package fixtures.failing;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class DependsOnBroken {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    @Inject
+    public DependsOnBroken(BrokenBean broken) {
+        created.incrementAndGet();
+    }
+}
@@ -0,0 +1,16 @@
+package fixtures.failing;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class HealthyBean {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    @PreDestroy
+    void close() {
+        destroyed.incrementAndGet();
+    }
+}
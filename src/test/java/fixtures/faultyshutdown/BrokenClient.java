@@ -0,0 +1,16 @@
+package fixtures.faultyshutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+
+@Component
+public class BrokenClient {
+    @Inject
+    public BrokenClient(Storage storage) {}
+
+    @PreDestroy
+    void close() {
+        throw new IllegalStateException("flush failed");
+    }
+}
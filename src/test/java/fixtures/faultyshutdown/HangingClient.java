@@ -0,0 +1,25 @@
+package fixtures.faultyshutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 인터럽트될 때까지 끝나지 않는 @PreDestroy
+@Component
+public class HangingClient {
+    public static final AtomicBoolean interrupted = new AtomicBoolean();
+
+    @Inject
+    public HangingClient(Storage storage) {}
+
+    @PreDestroy
+    void close() {
+        try {
+            Thread.sleep(60_000);
+        } catch (InterruptedException e) {
+            interrupted.set(true);
+        }
+    }
+}
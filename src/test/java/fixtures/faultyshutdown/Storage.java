@@ -0,0 +1,17 @@
+package fixtures.faultyshutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 실패/멈춘 클라이언트가 의존하는 빈: 그래도 정리되어야 한다
+@Component
+public class Storage {
+    public static final AtomicBoolean destroyed = new AtomicBoolean();
+
+    @PreDestroy
+    void close() {
+        destroyed.set(true);
+    }
+}
@@ -0,0 +1,4 @@
+package fixtures.invalid;
+
+public interface Channel {
+}
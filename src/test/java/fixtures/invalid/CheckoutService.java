@@ -0,0 +1,14 @@
+package fixtures.invalid;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+// 한 번도 요청되지 않을 PROTOTYPE이어도 미충족 의존성은 시작 시점에 보고된다
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class CheckoutService {
+    @Inject
+    public CheckoutService(PaymentGateway gateway) {}
+}
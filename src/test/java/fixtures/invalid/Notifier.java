@@ -0,0 +1,11 @@
+package fixtures.invalid;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// 후보가 둘인 인터페이스를 주입받는다 (모호한 의존성)
+@Component
+public class Notifier {
+    @Inject
+    public Notifier(Channel channel) {}
+}
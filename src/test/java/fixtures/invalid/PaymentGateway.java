@@ -0,0 +1,5 @@
+package fixtures.invalid;
+
+// 구현 빈이 없는 인터페이스
+public interface PaymentGateway {
+}
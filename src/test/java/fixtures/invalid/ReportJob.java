@@ -0,0 +1,13 @@
+package fixtures.invalid;
+
+import myspring.core.annotation.Component;
+
+// @Inject도 기본 생성자도 없다
+@Component
+public class ReportJob {
+    public static int created;
+
+    public ReportJob(String name) {
+        created++;
+    }
+}
@@ -0,0 +1,7 @@
+package fixtures.invalid;
+
+import myspring.core.annotation.Component;
+
+@Component
+public class SmsChannel implements Channel {
+}
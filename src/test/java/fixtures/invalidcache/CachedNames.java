@@ -0,0 +1,13 @@
+package fixtures.invalidcache;
+
+import myspring.core.annotation.Cacheable;
+import myspring.core.annotation.Component;
+
+@Component
+public class CachedNames implements Names {
+    @Override
+    @Cacheable
+    public String name(int id) {
+        return "name-" + id;
+    }
+}
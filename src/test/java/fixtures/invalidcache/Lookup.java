@@ -0,0 +1,5 @@
+package fixtures.invalidcache;
+
+public interface Lookup {
+    String find(String key);
+}
@@ -0,0 +1,12 @@
+package fixtures.invalidcache;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// 프록시된 빈을 구체 클래스로 주입받는다 → 인터페이스(Names)로 받아야 함
+@Component
+public class NameClient {
+    @Inject
+    public NameClient(CachedNames names) {
+    }
+}
@@ -0,0 +1,5 @@
+package fixtures.invalidcache;
+
+public interface Names {
+    String name(int id);
+}
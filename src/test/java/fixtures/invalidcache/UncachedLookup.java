@@ -0,0 +1,18 @@
+package fixtures.invalidcache;
+
+import myspring.core.annotation.Cacheable;
+import myspring.core.annotation.Component;
+
+// @Cacheable 메서드가 인터페이스에 없다 → 프록시가 가로챌 수 없음
+@Component
+public class UncachedLookup implements Lookup {
+    @Override
+    public String find(String key) {
+        return key;
+    }
+
+    @Cacheable
+    public String findAll() {
+        return "";
+    }
+}
@@ -0,0 +1,12 @@
+package fixtures.invalidlistener;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.EventListener;
+
+// 파라미터가 두 개 → 컨텍스트 생성 시 실패
+@Component
+public class BadListener {
+    @EventListener
+    void on(String event, int retries) {
+    }
+}
@@ -0,0 +1,9 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Inject;
+
+// 하위 클래스가 없는 @Lazy 빈을 구체 클래스로 주입받는 잘못된 사용
+public class ArchiveClient {
+    @Inject
+    public ArchiveClient(ArchiveStore store) {}
+}
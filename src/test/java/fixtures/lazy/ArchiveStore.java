@@ -0,0 +1,8 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Lazy;
+
+// final이라 $$Lazy 하위 클래스를 만들 수 없는 @Lazy 빈 (자식 컨텍스트로만 등록)
+@Lazy
+public final class ArchiveStore {
+}
@@ -0,0 +1,13 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Inject;
+
+// 구체 클래스로 @Lazy 빈을 주입받는다 (스캔 대상이 아니라 자식 컨텍스트로 등록)
+public class AuditClient {
+    public final AuditLog log;
+
+    @Inject
+    public AuditClient(AuditLog log) {
+        this.log = log;
+    }
+}
@@ -0,0 +1,30 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 구체 클래스로 주입받는 @Lazy 픽스처 (생성된 AuditLog$$Lazy가 주입 지점에 들어간다)
+@Component
+@Lazy
+public class AuditLog {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    private final List<String> entries = new ArrayList<>();
+
+    public AuditLog() {
+        created.incrementAndGet();
+    }
+
+    public synchronized int record(String entry) {
+        entries.add(entry);
+        return entries.size();
+    }
+
+    public synchronized List<String> entries() {
+        return List.copyOf(entries);
+    }
+}
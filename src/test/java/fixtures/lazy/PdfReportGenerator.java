@@ -0,0 +1,24 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// @Lazy 픽스처: 비싼 빈이라 첫 사용 전까지 생성되면 안 된다
+@Component
+@Lazy
+public class PdfReportGenerator implements ReportGenerator {
+    public static final AtomicInteger created = new AtomicInteger();
+
+    public PdfReportGenerator() throws InterruptedException {
+        created.incrementAndGet();
+        Thread.sleep(20); // 동시 첫 호출 경쟁 구간을 넓힌다
+    }
+
+    @Override
+    public String generate(String title) {
+        if (title.isEmpty()) throw new IllegalArgumentException("empty title");
+        return "pdf:" + title;
+    }
+}
@@ -0,0 +1,12 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Inject;
+
+public class RateClient {
+    public final RateTable table;
+
+    @Inject
+    public RateClient(RateTable table) {
+        this.table = table;
+    }
+}
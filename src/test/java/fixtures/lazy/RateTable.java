@@ -0,0 +1,27 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Lazy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 필드 초기화식에 기대는 @Lazy 빈 (자식 컨텍스트로만 등록, 구체 클래스로 주입받는다)
+@Lazy
+public class RateTable {
+    private final Map<String, Integer> rates = new HashMap<>(Map.of("KRW", 1300, "JPY", 150));
+    private final String base = "USD";
+    private int lookups;
+
+    public int rate(String currency) {
+        lookups++;
+        return rates.get(currency);
+    }
+
+    public String base() {
+        return base;
+    }
+
+    public int lookups() {
+        return lookups;
+    }
+}
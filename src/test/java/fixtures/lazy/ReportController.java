@@ -0,0 +1,14 @@
+package fixtures.lazy;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class ReportController {
+    public final ReportGenerator generator;
+
+    @Inject
+    public ReportController(ReportGenerator generator) {
+        this.generator = generator;
+    }
+}
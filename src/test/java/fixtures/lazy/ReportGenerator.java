@@ -0,0 +1,5 @@
+package fixtures.lazy;
+
+public interface ReportGenerator {
+    String generate(String title);
+}
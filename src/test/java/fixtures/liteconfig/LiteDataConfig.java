@@ -0,0 +1,27 @@
+package fixtures.liteconfig;
+
+import fixtures.enhanced.AuditRepository;
+import fixtures.enhanced.ConnectionPool;
+import fixtures.enhanced.OrderRepository;
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+
+// lite 모드: 직접 호출은 평범한 메서드 호출이라 connectionPool()이 부를 때마다 새 풀을 만든다
+@Configuration(proxyBeanMethods = false)
+public class LiteDataConfig {
+
+    @Bean
+    public ConnectionPool connectionPool() {
+        return new ConnectionPool();
+    }
+
+    @Bean
+    public OrderRepository orderRepository() {
+        return new OrderRepository(connectionPool());
+    }
+
+    @Bean
+    public AuditRepository auditRepository(ConnectionPool pool) {
+        return new AuditRepository(pool); // 파라미터 주입은 lite 모드에서도 싱글톤
+    }
+}
@@ -0,0 +1,10 @@
+package fixtures.metrics;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class ReportingService {
+    @Inject
+    public ReportingService(SlowRepository repository, RequestContext context) {}
+}
@@ -0,0 +1,10 @@
+package fixtures.metrics;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class RequestContext {
+}
@@ -0,0 +1,13 @@
+package fixtures.metrics;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PostConstruct;
+
+// 생성 지표 픽스처: @PostConstruct가 눈에 띄게 오래 걸리는 의존 대상
+@Component
+public class SlowRepository {
+    @PostConstruct
+    void warmUp() throws InterruptedException {
+        Thread.sleep(30);
+    }
+}
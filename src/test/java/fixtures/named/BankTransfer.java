@@ -0,0 +1,14 @@
+package fixtures.named;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Qualifier;
+
+// 기본 이름 bankTransfer
+@Component
+@Qualifier("online")
+public class BankTransfer implements PaymentMethod {
+    @Override
+    public String pay(int amount) {
+        return "bank:" + amount;
+    }
+}
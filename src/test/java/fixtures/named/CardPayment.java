@@ -0,0 +1,14 @@
+package fixtures.named;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Qualifier;
+
+// 이름을 직접 지정한 빈
+@Component("card")
+@Qualifier("online")
+public class CardPayment implements PaymentMethod {
+    @Override
+    public String pay(int amount) {
+        return "card:" + amount;
+    }
+}
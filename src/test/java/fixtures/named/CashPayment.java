@@ -0,0 +1,11 @@
+package fixtures.named;
+
+import myspring.core.annotation.Component;
+
+@Component
+public class CashPayment implements PaymentMethod {
+    @Override
+    public String pay(int amount) {
+        return "cash:" + amount;
+    }
+}
@@ -0,0 +1,23 @@
+package fixtures.named;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.Qualifier;
+
+import java.util.Map;
+
+@Component
+public class Checkout {
+    public final PaymentMethod preferred;
+    public final PaymentMethod fallback;
+    public final Map<String, PaymentMethod> methods;
+
+    // 컴포넌트 이름(card)으로도, @Bean 이름(gift)으로도 고른다
+    @Inject
+    public Checkout(@Qualifier("card") PaymentMethod preferred, @Qualifier("gift") PaymentMethod fallback,
+                    Map<String, PaymentMethod> methods) {
+        this.preferred = preferred;
+        this.fallback = fallback;
+        this.methods = methods;
+    }
+}
@@ -0,0 +1,9 @@
+package fixtures.named;
+
+// PaymentConfig의 @Bean으로 등록된다
+public class GiftCardPayment implements PaymentMethod {
+    @Override
+    public String pay(int amount) {
+        return "gift:" + amount;
+    }
+}
@@ -0,0 +1,15 @@
+package fixtures.named;
+
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+import myspring.core.annotation.Qualifier;
+
+@Configuration
+public class PaymentConfig {
+
+    @Bean(name = "gift")
+    @Qualifier("online")
+    GiftCardPayment giftCardPayment() {
+        return new GiftCardPayment();
+    }
+}
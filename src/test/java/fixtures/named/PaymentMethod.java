@@ -0,0 +1,5 @@
+package fixtures.named;
+
+public interface PaymentMethod {
+    String pay(int amount);
+}
@@ -0,0 +1,24 @@
+package fixtures.named;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.Qualifier;
+
+import java.util.List;
+import java.util.Map;
+
+// 전략 레지스트리: 구현 전체를 목록/이름별로 받는다
+@Component
+public class PaymentRegistry {
+    public final List<PaymentMethod> all;
+    public final Map<String, PaymentMethod> byName;
+    public final List<PaymentMethod> online;
+
+    @Inject
+    public PaymentRegistry(List<PaymentMethod> all, Map<String, PaymentMethod> byName,
+                           @Qualifier("online") List<PaymentMethod> online) {
+        this.all = all;
+        this.byName = byName;
+        this.online = online;
+    }
+}
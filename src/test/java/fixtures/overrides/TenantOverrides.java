@@ -0,0 +1,15 @@
+package fixtures.overrides;
+
+import fixtures.tenant.Greeting;
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+
+// 자식 컨텍스트나 새로 고침에 설정 클래스로 넘기는 재정의 (스캔 대상 아님)
+@Configuration
+public class TenantOverrides {
+
+    @Bean
+    public Greeting formalGreeting() {
+        return name -> "Dear " + name;
+    }
+}
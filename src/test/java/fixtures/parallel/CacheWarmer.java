@@ -0,0 +1,13 @@
+package fixtures.parallel;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PostConstruct;
+
+// 병렬 eager 초기화 픽스처: ConnectionPool과 동시에 초기화되어야만 배리어를 통과한다
+@Component
+public class CacheWarmer {
+    @PostConstruct
+    void warmUp() throws Exception {
+        ParallelFixtures.await();
+    }
+}
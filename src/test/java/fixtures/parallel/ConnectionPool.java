@@ -0,0 +1,12 @@
+package fixtures.parallel;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PostConstruct;
+
+@Component
+public class ConnectionPool {
+    @PostConstruct
+    void open() throws Exception {
+        ParallelFixtures.await();
+    }
+}
@@ -0,0 +1,16 @@
+package fixtures.parallel;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class OrderService {
+    public final CacheWarmer cache;
+    public final ConnectionPool pool;
+
+    @Inject
+    public OrderService(CacheWarmer cache, ConnectionPool pool) {
+        this.cache = cache;
+        this.pool = pool;
+    }
+}
@@ -0,0 +1,15 @@
+package fixtures.parallel;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+public final class ParallelFixtures {
+    // 독립적인 두 빈이 서로를 기다린다 → 순차 생성이면 타임아웃
+    public static volatile CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private ParallelFixtures() {}
+
+    static void await() throws Exception {
+        barrier.await(5, TimeUnit.SECONDS);
+    }
+}
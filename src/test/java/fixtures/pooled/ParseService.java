@@ -0,0 +1,8 @@
+package fixtures.pooled;
+
+import myspring.core.annotation.Component;
+
+// POOLED가 아닌 빈 (borrow 대상이 아님)
+@Component
+public class ParseService {
+}
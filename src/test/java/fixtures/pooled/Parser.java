@@ -0,0 +1,35 @@
+package fixtures.pooled;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PoolReset;
+import myspring.core.annotation.Pooled;
+import myspring.core.annotation.PreDestroy;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// POOLED 픽스처: 상태(buffer)를 가진 비싼 객체
+@Component
+@Scope(ScopeType.POOLED)
+@Pooled(maxSize = 2, maxWaitMillis = 100, idleTimeoutMillis = 0)
+public class Parser {
+    public static final AtomicInteger created = new AtomicInteger();
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    public final StringBuilder buffer = new StringBuilder();
+
+    public Parser() {
+        created.incrementAndGet();
+    }
+
+    @PoolReset
+    void clear() {
+        buffer.setLength(0);
+    }
+
+    @PreDestroy
+    void close() {
+        destroyed.incrementAndGet();
+    }
+}
@@ -0,0 +1,9 @@
+package fixtures.pooled;
+
+import myspring.core.annotation.Inject;
+
+// POOLED 빈을 생성자로 주입받는 잘못된 사용 (스캔되면 컨텍스트 생성이 실패하므로 자식 컨텍스트로만 등록)
+public class ParserClient {
+    @Inject
+    public ParserClient(Parser parser) {}
+}
@@ -0,0 +1,26 @@
+package fixtures.prototypes;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 싱글톤이 PROTOTYPE 하나를 계속 붙잡고 있다 → close() 때까지 살아 있고, 자신의 @PreDestroy에서 그 버퍼로 flush 한다
+@Component
+public class Exporter {
+    public static final AtomicInteger flushed = new AtomicInteger();
+
+    public final ScratchBuffer buffer;
+
+    @Inject
+    public Exporter(ScratchBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @PreDestroy
+    void flush() {
+        buffer.write("footer"); // 버퍼가 먼저 소멸했으면 실패
+        flushed.incrementAndGet();
+    }
+}
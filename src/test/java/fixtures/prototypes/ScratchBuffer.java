@@ -0,0 +1,28 @@
+package fixtures.prototypes;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 자원을 쥔 PROTOTYPE 빈: @PreDestroy가 몇 번 실행됐는지 센다
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class ScratchBuffer {
+    public static final AtomicInteger released = new AtomicInteger();
+
+    final byte[] data = new byte[4096];
+    private volatile boolean open = true;
+
+    public void write(String line) {
+        if (!open) throw new IllegalStateException("buffer already released");
+    }
+
+    @PreDestroy
+    void release() {
+        open = false;
+        released.incrementAndGet();
+    }
+}
@@ -0,0 +1,7 @@
+package fixtures.provider;
+
+import myspring.core.annotation.Component;
+
+@Component
+public class Clock {
+}
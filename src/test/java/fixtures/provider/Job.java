@@ -0,0 +1,18 @@
+package fixtures.provider;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+// 호출마다 새로 필요한 상태 객체
+@Component
+@Scope(ScopeType.PROTOTYPE)
+public class Job {
+    public final Clock clock;
+
+    @Inject
+    public Job(Clock clock) {
+        this.clock = clock;
+    }
+}
@@ -0,0 +1,18 @@
+package fixtures.provider;
+
+import myspring.core.Provider;
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// 싱글톤이 PROTOTYPE을 Provider로 받아 호출마다 새 인스턴스를 꺼낸다
+@Component
+public class JobRunner {
+    public final Provider<Job> jobs;
+    public final Provider<Clock> clock;
+
+    @Inject
+    public JobRunner(Provider<Job> jobs, Provider<Clock> clock) {
+        this.jobs = jobs;
+        this.clock = clock;
+    }
+}
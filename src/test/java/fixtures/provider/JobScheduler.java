@@ -0,0 +1,12 @@
+package fixtures.provider;
+
+import myspring.core.Provider;
+
+// @Bean 메서드 파라미터로 Provider를 받는 빈
+public class JobScheduler {
+    public final Provider<Job> jobs;
+
+    public JobScheduler(Provider<Job> jobs) {
+        this.jobs = jobs;
+    }
+}
@@ -0,0 +1,16 @@
+package fixtures.provider;
+
+import myspring.core.Provider;
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// Node ↔ Parent: 한쪽이 Provider로 받으면 생성 순서 순환이 아니다
+@Component
+public class Node {
+    public final Provider<Parent> parent;
+
+    @Inject
+    public Node(Provider<Parent> parent) {
+        this.parent = parent;
+    }
+}
@@ -0,0 +1,14 @@
+package fixtures.provider;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+@Component
+public class Parent {
+    public final Node child;
+
+    @Inject
+    public Parent(Node child) {
+        this.child = child;
+    }
+}
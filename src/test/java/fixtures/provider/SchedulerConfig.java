@@ -0,0 +1,13 @@
+package fixtures.provider;
+
+import myspring.core.Provider;
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+
+@Configuration
+public class SchedulerConfig {
+    @Bean
+    JobScheduler jobScheduler(Provider<Job> jobs) {
+        return new JobScheduler(jobs);
+    }
+}
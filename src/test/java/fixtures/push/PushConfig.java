@@ -0,0 +1,14 @@
+package fixtures.push;
+
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+
+// 새로 고침으로 추가하는 설정 클래스 (스캔 대상 아님): @Bean 메서드로 Notifier를 하나 더 등록한다
+@Configuration
+public class PushConfig {
+
+    @Bean
+    PushNotifier pushNotifier() {
+        return new PushNotifier();
+    }
+}
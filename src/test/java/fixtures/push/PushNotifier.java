@@ -0,0 +1,10 @@
+package fixtures.push;
+
+import fixtures.refresh.Notifier;
+
+public class PushNotifier implements Notifier {
+    @Override
+    public String channel() {
+        return "push";
+    }
+}
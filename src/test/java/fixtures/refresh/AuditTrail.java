@@ -0,0 +1,15 @@
+package fixtures.refresh;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+
+// 아무것에도 의존하지 않는 빈: 새로 고침의 영향을 받지 않는다
+@Component
+public class AuditTrail {
+    public boolean destroyed;
+
+    @PreDestroy
+    void destroy() {
+        destroyed = true;
+    }
+}
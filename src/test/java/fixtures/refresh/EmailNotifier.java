@@ -0,0 +1,11 @@
+package fixtures.refresh;
+
+import myspring.core.annotation.Component;
+
+@Component
+public class EmailNotifier implements Notifier {
+    @Override
+    public String channel() {
+        return "email";
+    }
+}
@@ -0,0 +1,15 @@
+package fixtures.refresh;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// Settings에 Greeter를 거쳐 간접 의존
+@Component
+public class FrontDesk {
+    public final Greeter greeter;
+
+    @Inject
+    public FrontDesk(Greeter greeter) {
+        this.greeter = greeter;
+    }
+}
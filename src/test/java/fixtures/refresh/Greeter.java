@@ -0,0 +1,32 @@
+package fixtures.refresh;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PostConstruct;
+import myspring.core.annotation.PreDestroy;
+
+@Component
+public class Greeter {
+    public final Settings settings;
+    public boolean initialized;
+    public boolean destroyed;
+
+    @Inject
+    public Greeter(Settings settings) {
+        this.settings = settings;
+    }
+
+    @PostConstruct
+    void init() {
+        initialized = true;
+    }
+
+    @PreDestroy
+    void destroy() {
+        destroyed = true;
+    }
+
+    public String greet(String name) {
+        return settings.greeting() + ", " + name;
+    }
+}
@@ -0,0 +1,16 @@
+package fixtures.refresh;
+
+import myspring.core.Provider;
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// Provider로 받으므로 새로 고침 때 다시 만들지 않아도 다음 get()부터 새 Greeter를 본다
+@Component
+public class GreeterClient {
+    public final Provider<Greeter> greeter;
+
+    @Inject
+    public GreeterClient(Provider<Greeter> greeter) {
+        this.greeter = greeter;
+    }
+}
@@ -0,0 +1,5 @@
+package fixtures.refresh;
+
+public interface Notifier {
+    String channel();
+}
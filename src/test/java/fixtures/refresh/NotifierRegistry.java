@@ -0,0 +1,16 @@
+package fixtures.refresh;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+import java.util.List;
+
+@Component
+public class NotifierRegistry {
+    public final List<Notifier> notifiers;
+
+    @Inject
+    public NotifierRegistry(List<Notifier> notifiers) {
+        this.notifiers = notifiers;
+    }
+}
@@ -0,0 +1,5 @@
+package fixtures.refresh;
+
+// 설정 파일에서 읽은 값이라고 가정한다
+public record Settings(String greeting) {
+}
@@ -0,0 +1,17 @@
+package fixtures.refresh;
+
+import myspring.core.annotation.Bean;
+import myspring.core.annotation.Configuration;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// 설정 원본: settings()를 다시 호출하면 바뀐 값을 읽는다
+@Configuration
+public class SettingsConfig {
+    public static final AtomicReference<String> source = new AtomicReference<>("hello");
+
+    @Bean
+    Settings settings() {
+        return new Settings(source.get());
+    }
+}
@@ -0,0 +1,23 @@
+package fixtures.reports;
+
+import myspring.core.annotation.Async;
+import myspring.core.annotation.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+// "reports" 실행기는 Builder.asyncExecutor로 등록해야 한다
+@Component
+public class PdfReportWriter implements ReportWriter {
+
+    @Override
+    @Async(executor = "reports")
+    public CompletableFuture<String> write(CountDownLatch gate) {
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return CompletableFuture.completedFuture(Thread.currentThread().getName());
+    }
+}
@@ -0,0 +1,8 @@
+package fixtures.reports;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+public interface ReportWriter {
+    CompletableFuture<String> write(CountDownLatch gate);
+}
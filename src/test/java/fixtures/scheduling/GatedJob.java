@@ -0,0 +1,23 @@
+package fixtures.scheduling;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// hold()하면 release()할 때까지 실행이 끝나지 않는 작업 (overrun 테스트용)
+public abstract class GatedJob {
+    public final AtomicInteger finished = new AtomicInteger();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    public void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    public void release() {
+        gate.countDown();
+    }
+
+    protected void work() throws InterruptedException {
+        gate.await();
+        finished.incrementAndGet();
+    }
+}
@@ -0,0 +1,17 @@
+package fixtures.scheduling;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 100ms마다 (첫 실행은 100ms 뒤) 뛰는 빈
+@Component
+public class Heartbeat {
+    public final AtomicInteger beats = new AtomicInteger();
+
+    @Scheduled(fixedRate = 100, initialDelay = 100)
+    void beat() {
+        beats.incrementAndGet();
+    }
+}
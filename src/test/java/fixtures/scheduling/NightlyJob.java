@@ -0,0 +1,17 @@
+package fixtures.scheduling;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 매일 03:00:00 (스케줄러 시계의 시간대 기준)
+@Component
+public class NightlyJob {
+    public final AtomicInteger runs = new AtomicInteger();
+
+    @Scheduled(cron = "0 0 3 * * *")
+    void run() {
+        runs.incrementAndGet();
+    }
+}
@@ -0,0 +1,17 @@
+package fixtures.scheduling;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 이전 실행이 끝나고 50ms 뒤에 다시 도는 빈
+@Component
+public class Poller {
+    public final AtomicInteger polls = new AtomicInteger();
+
+    @Scheduled(fixedDelay = 50, initialDelay = 20)
+    void poll() {
+        polls.incrementAndGet();
+    }
+}
@@ -0,0 +1,13 @@
+package fixtures.scheduling;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+// COALESCE: 밀린 회차는 하나로 합쳐 이전 실행이 끝나자마자 한 번 돈다
+@Component
+public class SlowDigest extends GatedJob {
+    @Scheduled(fixedRate = 100, initialDelay = 100, overrun = Scheduled.Overrun.COALESCE)
+    void digest() throws InterruptedException {
+        work();
+    }
+}
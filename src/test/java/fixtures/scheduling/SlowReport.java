@@ -0,0 +1,13 @@
+package fixtures.scheduling;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+// 기본 overrun(SKIP): 이전 실행이 돌고 있으면 그 회차는 건너뛴다
+@Component
+public class SlowReport extends GatedJob {
+    @Scheduled(fixedRate = 100, initialDelay = 100)
+    void report() throws InterruptedException {
+        work();
+    }
+}
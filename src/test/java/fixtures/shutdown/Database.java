@@ -0,0 +1,12 @@
+package fixtures.shutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+
+@Component
+public class Database {
+    @PreDestroy
+    void close() {
+        ShutdownLog.destroyed.add("Database");
+    }
+}
@@ -0,0 +1,18 @@
+package fixtures.shutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+
+// 가지 2의 끝: MetricsReporter → MetricsSink (가지 1과 독립)
+@Component
+public class MetricsReporter {
+    @Inject
+    public MetricsReporter(MetricsSink sink) {}
+
+    @PreDestroy
+    void stop() throws Exception {
+        ShutdownLog.await();
+        ShutdownLog.destroyed.add("MetricsReporter");
+    }
+}
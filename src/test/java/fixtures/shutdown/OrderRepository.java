@@ -0,0 +1,16 @@
+package fixtures.shutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+
+@Component
+public class OrderRepository {
+    @Inject
+    public OrderRepository(Database database) {}
+
+    @PreDestroy
+    void flush() {
+        ShutdownLog.destroyed.add("OrderRepository");
+    }
+}
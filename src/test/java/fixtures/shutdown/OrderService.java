@@ -0,0 +1,18 @@
+package fixtures.shutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+
+// 가지 1의 끝: OrderService → OrderRepository → Database
+@Component
+public class OrderService {
+    @Inject
+    public OrderService(OrderRepository repository) {}
+
+    @PreDestroy
+    void stop() throws Exception {
+        ShutdownLog.await();
+        ShutdownLog.destroyed.add("OrderService");
+    }
+}
@@ -0,0 +1,23 @@
+package fixtures.shutdown;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+public final class ShutdownLog {
+    public static final List<String> destroyed = new CopyOnWriteArrayList<>();
+    // 서로 독립인 두 가지의 끝(OrderService, MetricsReporter)이 서로를 기다린다 → 순차 소멸이면 타임아웃
+    public static volatile CyclicBarrier barrier = new CyclicBarrier(2);
+
+    private ShutdownLog() {}
+
+    public static void reset() {
+        destroyed.clear();
+        barrier = new CyclicBarrier(2);
+    }
+
+    static void await() throws Exception {
+        barrier.await(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,16 @@
+package fixtures.slowshutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+
+// 인터럽트될 때까지 끝나지 않는 @PreDestroy
+@Component
+public class StuckConnection {
+    @PreDestroy
+    void close() {
+        try {
+            Thread.sleep(60_000);
+        } catch (InterruptedException ignored) {
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package fixtures.slowshutdown;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+import java.util.concurrent.CountDownLatch;
+
+// 인터럽트될 때까지 끝나지 않는 @Scheduled 작업
+@Component
+public class StuckExport {
+    public final CountDownLatch started = new CountDownLatch(1);
+
+    @Scheduled(fixedRate = 60_000)
+    void export() throws InterruptedException {
+        started.countDown();
+        Thread.sleep(60_000);
+    }
+}
@@ -0,0 +1,17 @@
+package fixtures.subtick;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Scheduled;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 타이머 틱(10ms)보다 짧은 2ms 주기로 도는 빈
+@Component
+public class FastSampler {
+    public final AtomicInteger samples = new AtomicInteger();
+
+    @Scheduled(fixedRate = 2, overrun = Scheduled.Overrun.CONCURRENT)
+    void sample() {
+        samples.incrementAndGet();
+    }
+}
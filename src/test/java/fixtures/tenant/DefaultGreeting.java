@@ -0,0 +1,12 @@
+package fixtures.tenant;
+
+import myspring.core.annotation.Component;
+
+// 부모 컨텍스트의 기본 구현 (자식에서 재정의 대상)
+@Component
+public class DefaultGreeting implements Greeting {
+    @Override
+    public String greet(String name) {
+        return "Hello, " + name;
+    }
+}
@@ -0,0 +1,19 @@
+package fixtures.tenant;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+
+// Greeting을 주입받는 부모 빈: 부모는 자식의 재정의를 보지 않는다
+@Component
+public class Greeter {
+    private final Greeting greeting;
+
+    @Inject
+    public Greeter(Greeting greeting) {
+        this.greeting = greeting;
+    }
+
+    public Greeting greeting() {
+        return greeting;
+    }
+}
@@ -0,0 +1,5 @@
+package fixtures.tenant;
+
+public interface Greeting {
+    String greet(String name);
+}
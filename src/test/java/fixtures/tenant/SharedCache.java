@@ -0,0 +1,17 @@
+package fixtures.tenant;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 부모가 소유하고 자식들이 공유하는 싱글톤 (자식 close()로 소멸되면 안 됨)
+@Component
+public class SharedCache {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    @PreDestroy
+    void close() {
+        destroyed.incrementAndGet();
+    }
+}
@@ -0,0 +1,20 @@
+package fixtures.threadscope;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// THREAD 스코프 픽스처: 스레드마다 하나 (MessageDigest 같은 스레드 비안전 객체)
+@Component
+@Scope(ScopeType.THREAD)
+public class Digest {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    @PreDestroy
+    void close() {
+        destroyed.incrementAndGet();
+    }
+}
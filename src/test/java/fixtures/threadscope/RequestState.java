@@ -0,0 +1,20 @@
+package fixtures.threadscope;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.PreDestroy;
+import myspring.core.annotation.Scope;
+import myspring.core.annotation.ScopeType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// SCOPED 스코프 픽스처: runInScope 블록마다 하나
+@Component
+@Scope(ScopeType.SCOPED)
+public class RequestState {
+    public static final AtomicInteger destroyed = new AtomicInteger();
+
+    @PreDestroy
+    void close() {
+        destroyed.incrementAndGet();
+    }
+}
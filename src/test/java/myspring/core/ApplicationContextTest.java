@@ -22,4 +22,22 @@ class ApplicationContextTest {
         assertNotNull(helloService);
         assertEquals("Hello, Junyoung", helloService.say("Junyoung"));
     }
+
+    interface Greeter {}
+
+    @Component
+    static class KoreanGreeter implements Greeter {}
+
+    @Component
+    static class EnglishGreeter implements Greeter {}
+
+    @Test
+    @DisplayName("인터페이스 조회에 후보가 여럿이면 클래스명 순으로 정렬된 후보와 함께 예외가 발생한다")
+    void ambiguous_interface_lookup_reports_sorted_candidates() {
+        ApplicationContext ctx = ApplicationContext.of("myspring.core");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ctx.getBean(Greeter.class));
+        assertTrue(e.getMessage().endsWith("candidates=[" + EnglishGreeter.class + ", " + KoreanGreeter.class + "]"),
+                e.getMessage());
+    }
 }
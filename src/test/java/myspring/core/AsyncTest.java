@@ -0,0 +1,154 @@
+package myspring.core;
+
+import fixtures.async.Dashboard;
+import fixtures.async.Downstream;
+import fixtures.reports.ReportWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("@Async 메서드 테스트")
+class AsyncTest {
+
+    private static final String FETCH = "fixtures.async.SlowDownstream#fetch(java.lang.String,java.util.concurrent.CountDownLatch)";
+
+    @Test
+    @DisplayName("호출자는 바로 future를 받고, 메서드는 컨테이너 실행기 스레드에서 실행된다")
+    void runs_on_container_executor() throws Exception {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.async");
+
+        String worker = ctx.getBean(Dashboard.class).workerName().get(5, TimeUnit.SECONDS);
+
+        assertNotEquals(Thread.currentThread().getName(), worker);
+        assertTrue(worker.startsWith("myspring-async"), worker);
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("메서드가 던진 예외는 future의 실패 원인이 되고 실패 수에 잡힌다")
+    void failure_completes_future_exceptionally() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.async");
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> ctx.getBean(Downstream.class).fail().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals(1, ctx.getAsyncStats().get("fixtures.async.SlowDownstream#fail()").failed());
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("오버로드된 @Async 메서드는 시그니처별로 따로 제한하고 따로 센다")
+    void overloads_have_separate_dispatchers() throws Exception {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.async");
+        Downstream downstream = ctx.getBean(Downstream.class);
+
+        assertEquals("value-a", downstream.fetch("a").get(5, TimeUnit.SECONDS));
+        assertEquals("value-b", downstream.fetch("b", new CountDownLatch(0)).get(5, TimeUnit.SECONDS));
+
+        assertEquals(new AsyncStats(0, 0, 1, 0, 0), ctx.getAsyncStats().get("fixtures.async.SlowDownstream#fetch(java.lang.String)"));
+        assertEquals(new AsyncStats(0, 0, 1, 0, 0), ctx.getAsyncStats().get(FETCH));
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("maxConcurrency를 넘는 호출은 대기열에서 기다리고, 대기열이 가득 차면 거부된다")
+    void limits_concurrency_and_queue_depth() throws Exception {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.async");
+        Downstream downstream = ctx.getBean(Downstream.class);
+        CountDownLatch gate = new CountDownLatch(1);
+
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) calls.add(downstream.fetch("k" + i, gate));
+        assertTrue(eventually(() -> ctx.getAsyncStats().get(FETCH).active() == 2));
+        CompletableFuture<String> overflow = downstream.fetch("k5", gate);
+
+        assertEquals(new AsyncStats(3, 2, 0, 0, 1), ctx.getAsyncStats().get(FETCH));
+        ExecutionException e = assertThrows(ExecutionException.class, overflow::get);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+
+        gate.countDown();
+        for (int i = 0; i < 5; i++) assertEquals("value-k" + i, calls.get(i).get(5, TimeUnit.SECONDS));
+        assertEquals(2, downstream.maxInFlight());
+        assertEquals(new AsyncStats(0, 0, 5, 0, 1), ctx.getAsyncStats().get(FETCH));
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("close()는 진행 중인 호출이 끝나기를 기다리고, 그 뒤의 호출은 거부한다")
+    void close_drains_in_flight_calls() throws Exception {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.async");
+        Downstream downstream = ctx.getBean(Downstream.class);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<CompletableFuture<String>> calls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) calls.add(downstream.fetch("k" + i, gate));
+
+        Thread opener = new Thread(() -> {
+            sleep(100);
+            gate.countDown();
+        });
+        opener.start();
+        ctx.close();
+
+        assertTrue(calls.stream().allMatch(f -> f.isDone() && !f.isCompletedExceptionally()));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> downstream.fetch("late", gate).get());
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("Builder로 등록한 크기 제한 플랫폼 풀에서 실행하고, 풀 큐가 가득 차면 거부한다")
+    void bounded_platform_pool() throws Exception {
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.reports")
+                .asyncExecutor("reports", 1, 1)
+                .build();
+        ReportWriter writer = ctx.getBean(ReportWriter.class);
+        CountDownLatch gate = new CountDownLatch(1);
+
+        CompletableFuture<String> running = writer.write(gate);
+        CompletableFuture<String> queued = writer.write(gate);
+        CompletableFuture<String> rejected = writer.write(gate);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        gate.countDown();
+        assertEquals("myspring-async-reports-1", running.get(5, TimeUnit.SECONDS));
+        assertEquals("myspring-async-reports-1", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(1, ctx.getAsyncStats().get("fixtures.reports.PdfReportWriter#write(java.util.concurrent.CountDownLatch)").rejected());
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 실행기 이름은 컨텍스트 생성 시 실패한다")
+    void unknown_executor_fails_fast() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.reports"));
+
+        assertTrue(e.getMessage().startsWith("Unknown @Async executor 'reports'"), e.getMessage());
+    }
+
+    private static boolean eventually(BooleanSupplier condition) {
+        for (int i = 0; i < 500; i++) {
+            if (condition.getAsBoolean()) return true;
+            sleep(10);
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
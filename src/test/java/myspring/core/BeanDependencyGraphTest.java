@@ -0,0 +1,53 @@
+package myspring.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanDependencyGraphTest {
+
+    static class Repo {}
+    static class Cache {}
+    static class Service {}
+    static class Controller {}
+
+    @Test
+    @DisplayName("의존 대상이 항상 먼저 오는 위상 순서를 계산한다")
+    void topological_order_puts_dependencies_first() {
+        BeanDependencyGraph graph = new BeanDependencyGraph(Map.of(
+                Controller.class, List.of(Service.class),
+                Service.class, List.of(Repo.class, Cache.class),
+                Repo.class, List.of(),
+                Cache.class, List.of()));
+
+        List<Class<?>> order = graph.topologicalOrder();
+        assertEquals(4, order.size());
+        assertTrue(order.indexOf(Repo.class) < order.indexOf(Service.class));
+        assertTrue(order.indexOf(Cache.class) < order.indexOf(Service.class));
+        assertTrue(order.indexOf(Service.class) < order.indexOf(Controller.class));
+        assertEquals(List.of(Service.class), graph.dependenciesOf(Controller.class));
+    }
+
+    @Test
+    @DisplayName("순환이 있으면 순환 경로를 담아 예외를 던진다")
+    void cycle_is_reported_with_path() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> new BeanDependencyGraph(Map.of(
+                Controller.class, List.of(Service.class),
+                Service.class, List.of(Repo.class),
+                Repo.class, List.of(Service.class))));
+
+        assertEquals("Circular dependency detected: " + Service.class.getName() + " -> " + Repo.class.getName()
+                + " -> " + Service.class.getName(), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("그래프에 없는 빈을 가리키는 간선은 거부한다")
+    void unknown_dependency_is_rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BeanDependencyGraph(Map.of(Service.class, List.of(Repo.class))));
+    }
+}
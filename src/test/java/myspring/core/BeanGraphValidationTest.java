@@ -0,0 +1,37 @@
+package myspring.core;
+
+import fixtures.invalid.CheckoutService;
+import fixtures.invalid.Notifier;
+import fixtures.invalid.ReportJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("빈 그래프 검증 테스트")
+class BeanGraphValidationTest {
+
+    @Test
+    @DisplayName("컨텍스트 생성 시점에 모든 정의를 검증하고 오류를 한 번에 보고한다")
+    void reports_all_errors_up_front() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.invalid"));
+
+        String message = e.getMessage();
+        assertTrue(message.startsWith("Invalid bean definitions (3):"), message);
+        assertTrue(message.contains("Unsatisfied dependency: fixtures.invalid.PaymentGateway (required by "
+                + CheckoutService.class.getName() + "#<init>)"), message);
+        assertTrue(message.contains("Ambiguous dependency: fixtures.invalid.Channel"), message);
+        assertTrue(message.contains(Notifier.class.getName() + "#<init>"), message);
+        assertTrue(message.contains("No default constructor: " + ReportJob.class.getName()), message);
+        assertEquals(0, ReportJob.created);
+    }
+
+    @Test
+    @DisplayName("오류가 하나면 원래 메시지 그대로 던진다")
+    void single_error_keeps_its_message() {
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ApplicationContext.of("fixtures.cycle"));
+        assertEquals("Circular dependency detected: fixtures.cycle.CycleA -> fixtures.cycle.CycleB -> fixtures.cycle.CycleA",
+                e.getMessage());
+    }
+}
@@ -0,0 +1,85 @@
+package myspring.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanPoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger destroyed = new AtomicInteger();
+
+    private BeanPool pool(int maxSize, long idleTimeoutMillis) {
+        return new BeanPool(Object.class, () -> {
+            created.incrementAndGet();
+            return new Object();
+        }, bean -> {}, bean -> destroyed.incrementAndGet(), maxSize, idleTimeoutMillis, 5_000);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 빌려도 동시에 쓰는 인스턴스는 maxSize를 넘지 않고 서로 겹치지 않는다")
+    void never_exceeds_max_size_under_contention() throws Exception {
+        BeanPool pool = pool(3, 0);
+        Set<Object> inUse = ConcurrentHashMap.newKeySet();
+        AtomicInteger overlaps = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(threads.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        BeanPool.Entry e = pool.borrow();
+                        if (!inUse.add(e.bean)) overlaps.incrementAndGet();
+                        inUse.remove(e.bean);
+                        pool.release(e);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(0, overlaps.get());
+        assertTrue(created.get() <= 3, "created=" + created.get());
+        assertEquals(created.get(), pool.size());
+    }
+
+    @Test
+    @DisplayName("idleTimeout보다 오래 쉰 인스턴스는 다음 대여/반납 때 제거된다")
+    void evicts_idle_instances() throws Exception {
+        BeanPool pool = pool(2, 20);
+        BeanPool.Entry a = pool.borrow();
+        BeanPool.Entry b = pool.borrow();
+        pool.release(a);
+        pool.release(b);
+        assertEquals(2, pool.size());
+
+        Thread.sleep(50);
+        pool.release(pool.borrow());
+
+        assertEquals(1, pool.size()); // 방금 빌렸다 반납한 하나만 남는다
+        assertEquals(1, destroyed.get());
+    }
+
+    @Test
+    @DisplayName("reset이 실패한 인스턴스는 풀에 돌아가지 않고 폐기된다")
+    void failed_reset_discards_instance() {
+        BeanPool pool = new BeanPool(Object.class, Object::new,
+                bean -> { throw new IllegalStateException("reset failed"); },
+                bean -> destroyed.incrementAndGet(), 1, 0, 100);
+        BeanPool.Entry e = pool.borrow();
+
+        assertThrows(IllegalStateException.class, () -> pool.release(e));
+        assertEquals(0, pool.size());
+        assertEquals(1, destroyed.get());
+        assertNotSame(e.bean, pool.borrow().bean); // 허가는 반환되었으므로 새로 만든다
+    }
+}
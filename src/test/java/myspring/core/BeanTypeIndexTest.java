@@ -0,0 +1,53 @@
+package myspring.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeanTypeIndexTest {
+
+    interface Animal {}
+    interface Pet extends Animal {}
+    static class Dog implements Pet, Serializable {}
+    static class Cat implements Pet {}
+    static class Puppy extends Dog {}
+
+    @Test
+    @DisplayName("상위 클래스와 (상위) 인터페이스로 후보를 찾고, 후보는 클래스명 순으로 정렬된다")
+    void indexes_all_super_types_in_name_order() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(Puppy.class, Cat.class));
+
+        assertEquals(List.of(Cat.class, Puppy.class), index.candidatesFor(Pet.class));
+        assertEquals(List.of(Cat.class, Puppy.class), index.candidatesFor(Animal.class));
+        assertEquals(List.of(Puppy.class), index.candidatesFor(Dog.class));
+        assertEquals(List.of(Puppy.class), index.candidatesFor(Serializable.class));
+        assertTrue(index.candidatesFor(String.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("정의에 정확히 등록된 타입은 하위 타입 후보가 있어도 자기 자신만 반환한다")
+    void exact_match_wins() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(Dog.class, Puppy.class));
+
+        assertEquals(List.of(Dog.class), index.candidatesFor(Dog.class));
+        assertEquals(List.of(Dog.class, Puppy.class), index.candidatesFor(Pet.class));
+    }
+
+    @Test
+    @DisplayName("한정자 조회는 (타입, 한정자)로 색인되어 이름/@Qualifier가 일치하는 후보만 준다")
+    void qualified_lookup() {
+        BeanTypeIndex index = new BeanTypeIndex(List.of(Dog.class, Cat.class),
+                Map.of(Dog.class, Set.of("dog", "loud"), Cat.class, Set.of("cat", "loud")));
+
+        assertEquals(List.of(Dog.class), index.candidatesFor(Pet.class, "dog"));
+        assertEquals(List.of(Cat.class, Dog.class), index.candidatesFor(Animal.class, "loud"));
+        assertTrue(index.candidatesFor(Cat.class, "dog").isEmpty());
+        assertEquals(index.candidatesFor(Pet.class), index.candidatesFor(Pet.class, null));
+    }
+}
@@ -0,0 +1,127 @@
+package myspring.core;
+
+import fixtures.caching.PriceCatalog;
+import fixtures.caching.PriceService;
+import fixtures.caching.Storefront;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("@Cacheable/@CacheEvict 프록시 테스트")
+class CacheableTest {
+
+    @Test
+    @DisplayName("같은 인자로 다시 부르면 대상 메서드를 호출하지 않고, null 결과도 캐시한다")
+    void caches_by_arguments() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.caching");
+        PriceService prices = ctx.getBean(PriceService.class);
+
+        assertEquals(Long.valueOf(100), prices.price("apple"));
+        assertEquals(Long.valueOf(100), prices.price("apple"));
+        assertNull(prices.price("kiwi"));
+        assertNull(prices.price("kiwi"));
+        assertEquals(2, prices.lookups());
+
+        assertEquals(90L, prices.discounted("apple", 10));
+        assertEquals(80L, prices.discounted("apple", 20));
+        assertEquals(90L, prices.discounted("apple", 10));
+        assertEquals(4, prices.lookups());
+    }
+
+    @Test
+    @DisplayName("이름 없는 오버로드는 캐시를 따로 쓴다")
+    void overloads_use_separate_caches() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.caching");
+        PriceService prices = ctx.getBean(PriceService.class);
+
+        assertEquals(100L, prices.discounted("apple"));
+        assertEquals(90L, prices.discounted("apple", 10));
+        assertEquals(100L, prices.discounted("apple"));
+
+        assertEquals(2, prices.lookups());
+        assertEquals(1, ctx.getCacheStats().get(PriceCatalog.class.getName() + "#discounted(java.lang.String)").hits());
+        assertEquals(0, ctx.getCacheStats().get(PriceCatalog.class.getName() + "#discounted(java.lang.String,int)").hits());
+    }
+
+    @Test
+    @DisplayName("같은 캐시 이름을 다른 설정으로 선언하면 컨텍스트 생성 시 실패한다")
+    void conflicting_cache_settings_fail_fast() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.cacheconflict"));
+
+        assertTrue(e.getMessage().startsWith("Cache 'rates' is already declared with different"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("@CacheEvict는 같은 인자의 항목만, allEntries면 캐시 전체를 지운다")
+    void evicts_entries() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.caching");
+        PriceService prices = ctx.getBean(PriceService.class);
+        prices.price("apple");
+        prices.price("pear");
+
+        prices.update("apple", 150);
+        assertEquals(Long.valueOf(150), prices.price("apple"));
+        assertEquals(Long.valueOf(200), prices.price("pear"));
+        assertEquals(3, prices.lookups());
+
+        prices.reset();
+        assertEquals(Long.valueOf(0), prices.price("pear"));
+        assertEquals(4, prices.lookups());
+    }
+
+    @Test
+    @DisplayName("적중/실패/제거 통계를 캐시 이름별로 보여준다 (이름이 없으면 클래스명#메서드명(파라미터 타입))")
+    void reports_stats() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.caching");
+        PriceService prices = ctx.getBean(PriceService.class);
+        prices.price("apple");
+        prices.price("apple");
+        prices.discounted("apple", 10);
+        prices.discounted("apple", 20);
+        prices.discounted("pear", 10); // maxSize=2 → 가장 오래 안 쓴 (apple, 10) 제거
+
+        CacheStats priceStats = ctx.getCacheStats().get("prices");
+        assertEquals(1, priceStats.hits());
+        assertEquals(1, priceStats.misses());
+        assertEquals(0.5, priceStats.hitRate());
+
+        CacheStats discounted = ctx.getCacheStats().get(PriceCatalog.class.getName() + "#discounted(java.lang.String,int)");
+        assertEquals(3, discounted.misses());
+        assertEquals(1, discounted.evictions());
+        assertEquals(2, discounted.size());
+    }
+
+    @Test
+    @DisplayName("주입 지점에도 같은 프록시가 들어가고, @PostConstruct/@PreDestroy는 원래 빈에서 돈다")
+    void proxy_is_injected_and_lifecycle_targets_bean() {
+        int before = PriceCatalog.destroyed.get();
+        ApplicationContext ctx = ApplicationContext.of("fixtures.caching");
+        PriceService prices = ctx.getBean(PriceService.class);
+
+        assertSame(prices, ctx.getBean(Storefront.class).prices);
+        assertSame(prices, ctx.getBean("priceCatalog", PriceService.class));
+        ctx.close();
+        assertEquals(before + 1, PriceCatalog.destroyed.get());
+    }
+
+    @Test
+    @DisplayName("프록시된 빈은 구체 클래스로 꺼낼 수 없다")
+    void proxied_bean_requires_interface_lookup() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.caching");
+
+        assertThrows(IllegalArgumentException.class, () -> ctx.getBean(PriceCatalog.class));
+    }
+
+    @Test
+    @DisplayName("인터페이스에 없는 @Cacheable 메서드와 구체 클래스 주입은 시작 시점에 함께 보고한다")
+    void invalid_cache_definitions_fail_fast() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.invalidcache"));
+
+        assertTrue(e.getMessage().startsWith("Invalid bean definitions (2):"), e.getMessage());
+        assertTrue(e.getMessage().contains("must implement an interface method"), e.getMessage());
+        assertTrue(e.getMessage().contains("must be injected through an interface"), e.getMessage());
+    }
+}
@@ -0,0 +1,54 @@
+package myspring.core;
+
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandidateComponentsIndexTest {
+
+    @Component
+    static class IndexedBean {}
+
+    @Configuration
+    static class IndexedConfig {}
+
+    private static CandidateComponentsIndex indexOf(String... entries) {
+        Properties props = new Properties();
+        for (int i = 0; i < entries.length; i += 2) props.setProperty(entries[i], entries[i + 1]);
+        return new CandidateComponentsIndex(List.of(props));
+    }
+
+    @Test
+    @DisplayName("스테레오타입과 basePackage로 후보를 거른다")
+    void filters_by_stereotype_and_package() {
+        CandidateComponentsIndex index = indexOf(
+                IndexedBean.class.getName(), "Component",
+                IndexedConfig.class.getName(), "Component,Configuration",
+                "myspring.sample.InMemoryRepo", "Component");
+        ClassLoader cl = getClass().getClassLoader();
+
+        Set<Class<?>> components = index.getCandidateTypes("myspring.core", "Component", cl);
+        assertEquals(Set.of(IndexedBean.class, IndexedConfig.class), components);
+
+        Set<Class<?>> configs = index.getCandidateTypes("myspring.core", "Configuration", cl);
+        assertEquals(Set.of(IndexedConfig.class), configs);
+
+        // "myspring.co" 같은 접두사만 일치하는 패키지는 제외
+        assertTrue(index.getCandidateTypes("myspring.co", "Component", cl).isEmpty());
+    }
+
+    @Test
+    @DisplayName("인덱스에 있으나 로드할 수 없는 클래스는 명확한 예외로 보고한다")
+    void missing_indexed_class_fails_fast() {
+        CandidateComponentsIndex index = indexOf("myspring.core.DoesNotExist", "Component");
+        assertThrows(IllegalStateException.class,
+                () -> index.getCandidateTypes("myspring", "Component", getClass().getClassLoader()));
+    }
+}
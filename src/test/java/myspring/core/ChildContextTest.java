@@ -0,0 +1,127 @@
+package myspring.core;
+
+import fixtures.overrides.TenantOverrides;
+import fixtures.tenant.DefaultGreeting;
+import fixtures.tenant.Greeter;
+import fixtures.tenant.Greeting;
+import fixtures.tenant.SharedCache;
+import myspring.core.annotation.Inject;
+import myspring.core.annotation.PreDestroy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("자식 컨텍스트 테스트")
+class ChildContextTest {
+
+    // 자식에서만 등록하는 재정의 (스캔 대상 아님)
+    public static class TenantGreeting implements Greeting {
+        static final AtomicInteger destroyed = new AtomicInteger();
+
+        @Override
+        public String greet(String name) {
+            return "Welcome, " + name;
+        }
+
+        @PreDestroy
+        void close() {
+            destroyed.incrementAndGet();
+        }
+    }
+
+    // 자식 빈: 재정의(자식)와 공유 싱글톤(부모)을 함께 주입받는다
+    public static class TenantService {
+        final Greeting greeting;
+        final SharedCache cache;
+
+        @Inject
+        public TenantService(Greeting greeting, SharedCache cache) {
+            this.greeting = greeting;
+            this.cache = cache;
+        }
+    }
+
+    public record TenantConfig(String tenantId) {}
+
+    @Test
+    @DisplayName("@Configuration 클래스를 넘기면 그 @Bean 메서드도 자식 빈으로 등록된다")
+    void configuration_class_registers_bean_methods() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.tenant");
+        ApplicationContext child = parent.newChild().bean(TenantOverrides.class).build();
+
+        assertEquals("Dear Kim", child.getBean(Greeting.class).greet("Kim"));
+        assertSame(child.getBean(Greeting.class), child.getBean("formalGreeting", Greeting.class));
+        assertEquals("Hello, Kim", parent.getBean(Greeting.class).greet("Kim"));
+    }
+
+    @Test
+    @DisplayName("재정의하지 않은 싱글톤은 부모 인스턴스를 그대로 공유한다")
+    void shares_parent_singletons() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.tenant");
+        ApplicationContext child = parent.newChild().bean(TenantGreeting.class).build();
+
+        assertSame(parent.getBean(SharedCache.class), child.getBean(SharedCache.class));
+        assertSame(parent.getBean(Greeter.class), child.getBean(Greeter.class));
+    }
+
+    @Test
+    @DisplayName("자식에서 재정의한 빈이 이기고, 부모는 영향을 받지 않는다")
+    void child_overrides_win() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.tenant");
+        ApplicationContext child = parent.newChild()
+                .bean(TenantGreeting.class)
+                .bean(TenantService.class)
+                .instance(new TenantConfig("acme"))
+                .build();
+
+        assertInstanceOf(TenantGreeting.class, child.getBean(Greeting.class));
+        assertInstanceOf(DefaultGreeting.class, parent.getBean(Greeting.class));
+        assertEquals("acme", child.getBean(TenantConfig.class).tenantId());
+
+        TenantService service = child.getBean(TenantService.class);
+        assertSame(child.getBean(Greeting.class), service.greeting);
+        assertSame(parent.getBean(SharedCache.class), service.cache);
+        // 부모 빈은 자식의 재정의를 보지 않는다
+        assertInstanceOf(DefaultGreeting.class, child.getBean(Greeter.class).greeting());
+
+        assertThrows(IllegalArgumentException.class, () -> parent.getBean(TenantService.class));
+    }
+
+    @Test
+    @DisplayName("자식 close()는 자식이 만든 빈만 소멸시킨다")
+    void closing_child_destroys_only_its_own_beans() {
+        SharedCache.destroyed.set(0);
+        TenantGreeting.destroyed.set(0);
+        ApplicationContext parent = ApplicationContext.of("fixtures.tenant");
+        parent.getBean(SharedCache.class);
+        TenantGreeting external = new TenantGreeting();
+
+        ApplicationContext first = parent.newChild().bean(TenantGreeting.class).build();
+        first.getBean(Greeting.class);
+        first.getBean(SharedCache.class);
+        first.close();
+        assertEquals(1, TenantGreeting.destroyed.get());
+        assertEquals(0, SharedCache.destroyed.get());
+
+        ApplicationContext second = parent.newChild().instance(external).build();
+        assertSame(external, second.getBean(Greeting.class));
+        second.close(); // 밖에서 넘긴 인스턴스는 소멸시키지 않는다
+        assertEquals(1, TenantGreeting.destroyed.get());
+
+        parent.close();
+        assertEquals(1, SharedCache.destroyed.get());
+    }
+
+    @Test
+    @DisplayName("같은 타입의 인스턴스를 두 번 등록하면 실패한다")
+    void duplicate_instance_fails() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.tenant");
+        ApplicationContext.ChildBuilder builder = parent.newChild()
+                .instance(new TenantConfig("a"))
+                .instance(new TenantConfig("b"));
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
@@ -0,0 +1,111 @@
+package myspring.core;
+
+import fixtures.dynamiccycle.LoopA;
+import fixtures.dynamiccycle.LoopB;
+import myspring.core.annotation.Component;
+import myspring.core.annotation.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("동시 getBean 테스트")
+class ConcurrentGetBeanTest {
+
+    static final AtomicInteger slowCreated = new AtomicInteger();
+    static final AtomicInteger dependentCreated = new AtomicInteger();
+
+    @Component
+    static class SlowSingleton {
+        SlowSingleton() throws InterruptedException {
+            slowCreated.incrementAndGet();
+            Thread.sleep(20); // 경쟁 구간을 넓힌다
+        }
+    }
+
+    @Component
+    static class DependentSingleton {
+        final SlowSingleton slow;
+
+        @Inject
+        DependentSingleton(SlowSingleton slow) {
+            dependentCreated.incrementAndGet();
+            this.slow = slow;
+        }
+    }
+
+    private static <T> List<T> runConcurrently(int threads, Callable<T> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new java.util.ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new java.util.ArrayList<>();
+            for (Future<T> f : futures) results.add(f.get(10, TimeUnit.SECONDS));
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 싱글톤은 정확히 한 번만 생성된다")
+    void singleton_created_exactly_once_under_contention() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            slowCreated.set(0);
+            dependentCreated.set(0);
+            ApplicationContext ctx = ApplicationContext.of("myspring.core");
+
+            List<Object[]> results = runConcurrently(32, () -> new Object[]{
+                    ctx.getBean(DependentSingleton.class), ctx.getBean(SlowSingleton.class)});
+
+            assertEquals(1, slowCreated.get(), "SlowSingleton 생성 횟수");
+            assertEquals(1, dependentCreated.get(), "DependentSingleton 생성 횟수");
+            Set<Object> dependents = ConcurrentHashMap.newKeySet();
+            Set<Object> slows = ConcurrentHashMap.newKeySet();
+            for (Object[] r : results) {
+                dependents.add(r[0]);
+                slows.add(r[1]);
+            }
+            assertEquals(1, dependents.size());
+            assertEquals(1, slows.size());
+            assertSame(slows.iterator().next(), ((DependentSingleton) dependents.iterator().next()).slow);
+        }
+    }
+
+    @Test
+    @DisplayName("실행 중에 생기는 스레드 간 순환 참조는 교착 없이 순환 예외로 끝난다")
+    void cross_thread_cycle_does_not_deadlock() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            ApplicationContext ctx = ApplicationContext.of("fixtures.dynamiccycle");
+            AtomicInteger next = new AtomicInteger();
+            List<Throwable> errors = runConcurrently(2, () -> {
+                Class<?> type = (next.getAndIncrement() == 0) ? LoopA.class : LoopB.class;
+                try {
+                    ctx.getBean(type);
+                    return null;
+                } catch (Throwable t) {
+                    return t;
+                }
+            });
+            for (Throwable t : errors) {
+                // 생성자 안(Provider.get())에서 감지되므로 생성 실패 예외로 감싸져 올 수 있다
+                Throwable cause = t;
+                while (!(cause instanceof IllegalStateException) && cause.getCause() != null) cause = cause.getCause();
+                assertInstanceOf(IllegalStateException.class, cause, t.toString());
+                assertTrue(cause.getMessage().startsWith("Circular dependency detected"), cause.getMessage());
+            }
+        }
+    }
+}
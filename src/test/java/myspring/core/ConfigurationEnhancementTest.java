@@ -0,0 +1,88 @@
+package myspring.core;
+
+import fixtures.enhanced.AuditRepository;
+import fixtures.enhanced.ConnectionPool;
+import fixtures.enhanced.DataConfig;
+import fixtures.enhanced.OrderRepository;
+import fixtures.enhanced.Session;
+import fixtures.liteconfig.LiteDataConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("@Configuration 하위 클래스(@Bean 메서드 간 호출) 테스트")
+class ConfigurationEnhancementTest {
+
+    @Test
+    @DisplayName("@Bean 메서드끼리 직접 불러도 싱글톤은 한 번만 만들어지고 캐시된 빈이 돌아온다")
+    void inter_bean_calls_return_cached_singleton() {
+        ConnectionPool.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.enhanced");
+
+        OrderRepository orders = ctx.getBean(OrderRepository.class);
+        AuditRepository audits = ctx.getBean(AuditRepository.class);
+        assertSame(ctx.getBean(ConnectionPool.class), orders.pool);
+        assertSame(orders.pool, audits.pool);
+        assertEquals(1, ConnectionPool.created.get());
+        assertInstanceOf(BeanMethodCalls.Enhanced.class, ctx.getBean(DataConfig.class));
+    }
+
+    @Test
+    @DisplayName("설정 인스턴스를 밖에서 불러도 스코프 규칙을 따른다: 싱글톤은 같은 빈, PROTOTYPE은 매번 새 빈")
+    void direct_calls_follow_bean_scope() {
+        ConnectionPool.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.enhanced");
+        DataConfig config = ctx.getBean(DataConfig.class);
+
+        assertSame(ctx.getBean(ConnectionPool.class), config.connectionPool());
+        Session first = config.session();
+        Session second = config.session();
+        assertNotSame(first, second);
+        assertSame(first.pool, second.pool);
+        assertEquals(1, ConnectionPool.created.get());
+    }
+
+    @Test
+    @DisplayName("@Bean 본문에서 부른 빈은 의존으로 기록된다: 부른 쪽이 먼저 소멸한다")
+    void inter_bean_call_orders_shutdown() {
+        ConnectionPool.shutdownLog.clear();
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.enhanced").shutdownParallelism(4).build();
+        ctx.getBean(OrderRepository.class);
+
+        ctx.close();
+
+        assertEquals(List.of("orders", "pool"), ConnectionPool.shutdownLog);
+    }
+
+    @Test
+    @DisplayName("@Bean 본문에서 부른 빈을 다시 만들면 부른 쪽도 새 빈으로 다시 만든다")
+    void reloading_called_bean_rebuilds_caller() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.enhanced");
+        ConnectionPool oldPool = ctx.getBean(ConnectionPool.class);
+        ctx.getBean(OrderRepository.class);
+
+        List<Class<?>> replaced = ctx.refresh().reload(ConnectionPool.class).apply();
+
+        assertEquals(List.of(ConnectionPool.class, OrderRepository.class), replaced);
+        ConnectionPool newPool = ctx.getBean(ConnectionPool.class);
+        assertNotSame(oldPool, newPool);
+        assertFalse(oldPool.isOpen());
+        assertSame(newPool, ctx.getBean(OrderRepository.class).pool);
+    }
+
+    @Test
+    @DisplayName("lite 모드(proxyBeanMethods = false)는 하위 클래스 없이 직접 호출마다 본문을 다시 실행한다")
+    void lite_mode_skips_enhancement() {
+        ConnectionPool.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.liteconfig");
+
+        assertSame(LiteDataConfig.class, ctx.getBean(LiteDataConfig.class).getClass());
+        ConnectionPool singleton = ctx.getBean(ConnectionPool.class);
+        assertNotSame(singleton, ctx.getBean(OrderRepository.class).pool);
+        assertSame(singleton, ctx.getBean(AuditRepository.class).pool); // 파라미터 주입은 그대로 싱글톤
+        assertEquals(2, ConnectionPool.created.get());
+    }
+}
@@ -0,0 +1,44 @@
+package myspring.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("cron 식 테스트")
+class CronExpressionTest {
+
+    private static String next(String expression, String after, ZoneId zone) {
+        long millis = CronExpression.parse(expression).next(Instant.parse(after).toEpochMilli(), zone);
+        return Instant.ofEpochMilli(millis).toString();
+    }
+
+    @Test
+    @DisplayName("범위/간격/목록/이름을 풀고, 같은 초는 건너뛴다")
+    void next_matching_time() {
+        assertEquals("2026-01-01T00:05:00Z", next("0 */5 * * * *", "2026-01-01T00:00:00Z", ZoneOffset.UTC));
+        assertEquals("2026-01-05T09:00:00Z", next("0 0 9 * * MON-FRI", "2026-01-02T09:00:00Z", ZoneOffset.UTC)); // 금요일 9시 → 월요일
+        assertEquals("2026-03-01T00:00:30Z", next("15,30 0 0 1 MAR ?", "2026-03-01T00:00:15Z", ZoneOffset.UTC));
+        assertEquals("2026-01-04T00:00:00Z", next("0 0 0 * * 7", "2026-01-01T00:00:00Z", ZoneOffset.UTC)); // 7도 일요일
+    }
+
+    @Test
+    @DisplayName("시간대 기준으로 계산한다")
+    void uses_zone() {
+        assertEquals("2026-01-01T18:00:00Z", next("0 0 3 * * *", "2026-01-01T00:00:00Z", ZoneId.of("Asia/Seoul")));
+    }
+
+    @Test
+    @DisplayName("잘못된 식은 IllegalArgumentException, 오지 않는 날짜는 IllegalStateException")
+    void invalid_expressions() {
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("0 0 * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("60 * * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("0 0 10-2 * * *"));
+        CronExpression never = CronExpression.parse("0 0 0 30 FEB *");
+        assertThrows(IllegalStateException.class, () -> never.next(0, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,112 @@
+package myspring.core;
+
+import fixtures.lazy.PdfReportGenerator;
+import fixtures.lazy.ReportController;
+import myspring.sample.Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DefinitionSnapshotTest {
+
+    private static final ClassLoader CL = DefinitionSnapshotTest.class.getClassLoader();
+
+    @Test
+    @DisplayName("첫 시작에 스냅샷을 쓰고, 같은 클래스패스면 다음 시작에 스캔 결과와 같은 정의를 읽는다")
+    void writes_then_reads_same_definitions() throws Exception {
+        Path file = Files.createTempDirectory("snapshot").resolve("beans.bin");
+        ApplicationContext.builder("myspring").snapshot(file).build();
+        assertTrue(Files.isRegularFile(file));
+
+        DefinitionSnapshot loaded = DefinitionSnapshot.read(file, DefinitionSnapshot.classpathFingerprint("myspring"), CL);
+        assertNotNull(loaded);
+        assertTrue(loaded.beanMethods().stream().anyMatch(m -> m.method().getName().equals("service")));
+        // Service는 @Bean 반환 타입이기도 하므로 생성자를 미리 고르지 않는다
+        assertNull(loaded.components().stream().filter(c -> c.type() == Service.class).findFirst().orElseThrow().ctor());
+
+        // 스냅샷으로 시작한 컨텍스트도 @Bean DI/스코프가 그대로 동작
+        ApplicationContext ctx = ApplicationContext.builder("myspring").snapshot(file).build();
+        assertEquals("x:data", ctx.getBean(Service.class).call("x:"));
+        assertNotSame(ctx.getBean(String.class), ctx.getBean(String.class));
+    }
+
+    @Test
+    @DisplayName("선택된 생성자와 @Lazy 여부도 스냅샷에 남는다")
+    void keeps_constructors_and_lazy_flags() throws Exception {
+        Path file = Files.createTempDirectory("snapshot").resolve("beans.bin");
+        ApplicationContext.builder("fixtures.lazy").snapshot(file).build();
+
+        DefinitionSnapshot loaded = DefinitionSnapshot.read(file, DefinitionSnapshot.classpathFingerprint("fixtures.lazy"), CL);
+        DefinitionSnapshot.ComponentDefinition controller = loaded.components().stream()
+                .filter(c -> c.type() == ReportController.class).findFirst().orElseThrow();
+        DefinitionSnapshot.ComponentDefinition generator = loaded.components().stream()
+                .filter(c -> c.type() == PdfReportGenerator.class).findFirst().orElseThrow();
+        assertEquals(1, controller.ctor().getParameterCount());
+        assertFalse(controller.lazy());
+        assertTrue(generator.lazy());
+    }
+
+    @Test
+    @DisplayName("지문이 다르거나 손상된 스냅샷은 버리고, 컨텍스트는 다시 스캔해서 덮어쓴다")
+    void stale_or_corrupt_snapshot_is_rebuilt() throws Exception {
+        Path file = Files.createTempDirectory("snapshot").resolve("beans.bin");
+        ApplicationContext.builder("fixtures.lazy").snapshot(file).build();
+        assertNull(DefinitionSnapshot.read(file, "other-classpath", CL));
+        assertNull(DefinitionSnapshot.read(file, DefinitionSnapshot.classpathFingerprint("myspring"), CL));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertNull(DefinitionSnapshot.read(file, DefinitionSnapshot.classpathFingerprint("fixtures.lazy"), CL));
+
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.lazy").snapshot(file).build();
+        assertNotNull(ctx.getBean(ReportController.class));
+        assertNotNull(DefinitionSnapshot.read(file, DefinitionSnapshot.classpathFingerprint("fixtures.lazy"), CL));
+    }
+
+    @Test
+    @DisplayName("헤더는 맞지만 본문의 개수가 음수이거나 터무니없이 크면 버리고, 컨텍스트는 다시 스캔한다")
+    void corrupt_counts_in_body_are_rejected() throws Exception {
+        Path file = Files.createTempDirectory("snapshot").resolve("beans.bin");
+        String fingerprint = DefinitionSnapshot.classpathFingerprint("fixtures.lazy");
+
+        writeCorrupt(file, fingerprint, out -> out.writeInt(-1)); // @Bean 메서드 수
+        assertNull(DefinitionSnapshot.read(file, fingerprint, CL));
+
+        writeCorrupt(file, fingerprint, out -> out.writeInt(Integer.MAX_VALUE));
+        assertNull(DefinitionSnapshot.read(file, fingerprint, CL));
+
+        writeCorrupt(file, fingerprint, out -> { // 컴포넌트 하나의 생성자 파라미터 수가 음수
+            out.writeInt(0);
+            out.writeInt(1);
+            out.writeUTF(ReportController.class.getName());
+            out.writeUTF("SINGLETON");
+            out.writeBoolean(false);
+            out.writeBoolean(true);
+            out.writeInt(-5);
+        });
+        assertNull(DefinitionSnapshot.read(file, fingerprint, CL));
+
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.lazy").snapshot(file).build();
+        assertNotNull(ctx.getBean(ReportController.class));
+        assertNotNull(DefinitionSnapshot.read(file, fingerprint, CL));
+    }
+
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    // 올바른 헤더(매직, 버전, 지문) 뒤에 body를 쓴다
+    private static void writeCorrupt(Path file, String fingerprint, Body body) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x4D59534E);
+            out.writeInt(1);
+            out.writeUTF(fingerprint);
+            body.write(out);
+        }
+    }
+}
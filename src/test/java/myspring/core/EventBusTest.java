@@ -0,0 +1,125 @@
+package myspring.core;
+
+import fixtures.backpressure.SlowConsumer;
+import fixtures.backpressure.Tick;
+import fixtures.events.AuditLog;
+import fixtures.events.InvoiceWriter;
+import fixtures.events.OrderCancelled;
+import fixtures.events.OrderEvent;
+import fixtures.events.OrderExporter;
+import fixtures.events.OrderPlaced;
+import myspring.core.annotation.EventListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("이벤트 발행 테스트")
+class EventBusTest {
+
+    // 자식에서만 등록하는 리스너
+    public static class TenantAudit {
+        final List<OrderEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(OrderEvent event) {
+            events.add(event);
+        }
+    }
+
+    @Test
+    @DisplayName("동기 리스너는 파라미터 타입에 할당 가능한 이벤트를 발행 스레드에서 바로 받는다")
+    void sync_listeners_match_by_assignable_type() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.events");
+        ctx.publishEvent(new OrderPlaced(1));
+        ctx.publishEvent(new OrderCancelled(1));
+        ctx.publishEvent("not an order");
+
+        assertEquals(List.of(new OrderPlaced(1), new OrderCancelled(1)), ctx.getBean(AuditLog.class).events);
+        assertEquals(List.of(1L), ctx.getBean(InvoiceWriter.class).invoiced);
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("동기 리스너의 예외는 발행자에게 그대로 전달된다")
+    void sync_listener_failure_propagates() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.events");
+
+        assertThrows(IllegalArgumentException.class, () -> ctx.publishEvent(new OrderPlaced(-1)));
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("비동기 배치 리스너는 다른 스레드에서 batchSize 이하 묶음으로 순서대로 받고, close()는 남은 이벤트를 전달한 뒤 끝난다")
+    void async_batches_in_order_and_drain_on_close() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.events");
+        OrderExporter exporter = ctx.getBean(OrderExporter.class);
+        for (long id = 0; id < 1_000; id++) ctx.publishEvent(new OrderPlaced(id));
+        ctx.close();
+
+        assertEquals(LongStream.range(0, 1_000).boxed().toList(), exporter.exported);
+        assertTrue(exporter.batchSizes.stream().allMatch(size -> size <= 50), exporter.batchSizes.toString());
+        assertFalse(exporter.threads.contains(Thread.currentThread()));
+        assertThrows(IllegalStateException.class, () -> ctx.publishEvent(new OrderPlaced(1)));
+    }
+
+    @Test
+    @DisplayName("비동기 큐가 가득 차면 발행자가 자리가 날 때까지 기다린다")
+    void full_queue_blocks_publisher() throws Exception {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.backpressure");
+        SlowConsumer consumer = ctx.getBean(SlowConsumer.class);
+        Thread publisher = new Thread(() -> {
+            for (int i = 0; i < 5; i++) ctx.publishEvent(new Tick(i));
+        });
+        publisher.start();
+
+        // 하나는 리스너가 붙잡고 있고 큐에 2개 → 나머지 발행은 막힌다
+        publisher.join(200);
+        assertTrue(publisher.isAlive());
+        awaitState(publisher, Thread.State.WAITING);
+
+        consumer.gate.countDown();
+        publisher.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(publisher.isAlive());
+        ctx.close();
+        assertEquals(List.of(0, 1, 2, 3, 4), consumer.received);
+    }
+
+    @Test
+    @DisplayName("자식 컨텍스트에서 발행한 이벤트는 부모 리스너에게도 간다")
+    void child_events_reach_parent() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.events");
+        ApplicationContext child = parent.newChild().bean(TenantAudit.class).build();
+
+        child.publishEvent(new OrderCancelled(7));
+        parent.publishEvent(new OrderCancelled(8));
+
+        assertEquals(List.of(new OrderCancelled(7)), child.getBean(TenantAudit.class).events);
+        assertEquals(List.of(new OrderCancelled(7), new OrderCancelled(8)), parent.getBean(AuditLog.class).events);
+        parent.close();
+    }
+
+    @Test
+    @DisplayName("잘못된 리스너 선언은 컨텍스트 생성 시 실패한다")
+    void invalid_listener_fails_fast() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.invalidlistener"));
+
+        assertTrue(e.getMessage().startsWith("@EventListener method must be an instance method with one parameter"),
+                e.getMessage());
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (thread.getState() == state) return;
+            Thread.sleep(10);
+        }
+        fail(thread.getName() + " did not reach " + state + " within 1s, still " + thread.getState());
+    }
+}
@@ -0,0 +1,65 @@
+package myspring.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstanceFactoryTest {
+
+    static class Target {
+        final String name;
+        final int length;
+
+        private Target(String name, Integer length) {
+            this.name = name;
+            this.length = length;
+        }
+    }
+
+    static class Factories {
+        String prefix = "cfg:";
+
+        String instanceMethod(String s) { return prefix + s; }
+
+        static String staticMethod(String s) { return "static:" + s; }
+
+        String failing() { throw new IllegalStateException("boom"); }
+    }
+
+    @Test
+    @DisplayName("private 생성자도 핸들로 호출하고, 의존성 타입을 순서대로 노출한다")
+    void constructor_factory() throws Throwable {
+        InstanceFactory f = InstanceFactory.forConstructor(
+                Target.class.getDeclaredConstructor(String.class, Integer.class));
+
+        assertArrayEquals(new Class<?>[]{String.class, Integer.class}, f.dependencyTypes());
+        Target t = (Target) f.create(null, new Object[]{"a", 3});
+        assertEquals("a", t.name);
+        assertEquals(3, t.length);
+        assertNotSame(t, f.create(null, new Object[]{"a", 3}));
+    }
+
+    @Test
+    @DisplayName("@Bean 메서드는 인스턴스/static 모두 같은 형태로 호출된다")
+    void bean_method_factory() throws Throwable {
+        Factories cfg = new Factories();
+        InstanceFactory instance = InstanceFactory.forBeanMethod(
+                Factories.class.getDeclaredMethod("instanceMethod", String.class));
+        InstanceFactory statik = InstanceFactory.forBeanMethod(
+                Factories.class.getDeclaredMethod("staticMethod", String.class));
+
+        assertEquals("cfg:x", instance.create(cfg, new Object[]{"x"}));
+        assertEquals("static:x", statik.create(cfg, new Object[]{"x"}));
+        assertEquals(Factories.class.getName() + "#instanceMethod", instance.description());
+    }
+
+    @Test
+    @DisplayName("대상이 던진 예외는 감싸지 않고 그대로 전파된다")
+    void target_exception_propagates_unwrapped() throws Exception {
+        InstanceFactory f = InstanceFactory.forBeanMethod(Factories.class.getDeclaredMethod("failing"));
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> f.create(new Factories(), new Object[0]));
+        assertEquals("boom", e.getMessage());
+    }
+}
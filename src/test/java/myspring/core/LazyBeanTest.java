@@ -0,0 +1,138 @@
+package myspring.core;
+
+import fixtures.lazy.ArchiveClient;
+import fixtures.lazy.ArchiveStore;
+import fixtures.lazy.AuditClient;
+import fixtures.lazy.AuditLog;
+import fixtures.lazy.PdfReportGenerator;
+import fixtures.lazy.RateClient;
+import fixtures.lazy.RateTable;
+import fixtures.lazy.ReportController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("@Lazy 빈 테스트")
+class LazyBeanTest {
+
+    @Test
+    @DisplayName("주입 지점에는 프록시가 들어가고, 실제 빈은 첫 메서드 호출 때 한 번만 생성된다")
+    void lazy_bean_is_created_on_first_use() {
+        PdfReportGenerator.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy");
+
+        ReportController controller = ctx.getBean(ReportController.class);
+        assertEquals(0, PdfReportGenerator.created.get());
+        assertTrue(controller.generator.toString().startsWith("LazyProxy["));
+
+        assertEquals("pdf:q3", controller.generator.generate("q3"));
+        assertEquals("pdf:q4", controller.generator.generate("q4"));
+        assertEquals(1, PdfReportGenerator.created.get());
+        assertNotNull(ctx.getBean(PdfReportGenerator.class)); // 싱글톤 캐시의 같은 빈
+        assertEquals(1, PdfReportGenerator.created.get());
+    }
+
+    @Test
+    @DisplayName("대상 메서드의 예외는 감싸지 않고 그대로 전달된다")
+    void target_exception_is_rethrown_as_is() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy");
+        ReportController controller = ctx.getBean(ReportController.class);
+
+        assertThrows(IllegalArgumentException.class, () -> controller.generator.generate(""));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 첫 호출을 해도 실제 빈은 한 번만 생성된다")
+    void concurrent_first_use_creates_once() throws Exception {
+        PdfReportGenerator.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy");
+        ReportController controller = ctx.getBean(ReportController.class);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return controller.generator.generate("x");
+                }));
+            }
+            start.countDown();
+            for (Future<String> f : results) assertEquals("pdf:x", f.get(10, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, PdfReportGenerator.created.get());
+    }
+
+    @Test
+    @DisplayName("eager 초기화는 @Lazy 빈을 건너뛴다")
+    void eager_init_skips_lazy_beans() {
+        PdfReportGenerator.created.set(0);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.lazy").eagerInit(2).build();
+
+        assertEquals(0, PdfReportGenerator.created.get());
+        assertEquals(1, ctx.getSingletonInitReport().orElseThrow().beanCount()); // ReportController
+    }
+
+    @Test
+    @DisplayName("학습 실행(trainingRun)은 @Lazy 빈까지 모든 싱글톤을 만든다")
+    void training_run_creates_lazy_singletons_too() {
+        PdfReportGenerator.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy");
+
+        assertEquals(3, ctx.trainingRun()); // ReportController, PdfReportGenerator, AuditLog
+        assertEquals(1, PdfReportGenerator.created.get());
+        assertEquals(3, ctx.trainingRun()); // 이미 있는 싱글톤은 다시 만들지 않는다
+        assertEquals(1, PdfReportGenerator.created.get());
+    }
+
+    @Test
+    @DisplayName("구체 클래스 주입 지점에는 생성된 하위 클래스가 들어가고, 실제 빈은 첫 호출 때 만들어진다")
+    void concrete_injection_point_uses_generated_subclass() {
+        AuditLog.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy");
+        AuditClient client = ctx.newChild().bean(AuditClient.class).build().getBean(AuditClient.class);
+
+        assertEquals(AuditLog.class.getName() + "$$Lazy", client.log.getClass().getName());
+        assertEquals(0, AuditLog.created.get()); // 프록시를 만들 때 원래 생성자는 실행되지 않는다
+        assertEquals("LazyProxy[" + AuditLog.class.getName() + "]", client.log.toString());
+        assertEquals(client.log, client.log);
+
+        assertEquals(1, client.log.record("login"));
+        assertEquals(2, client.log.record("logout"));
+        assertEquals(1, AuditLog.created.get());
+        assertEquals(List.of("login", "logout"), ctx.getBean(AuditLog.class).entries()); // 싱글톤 캐시의 같은 빈
+    }
+
+    @Test
+    @DisplayName("하위 클래스 프록시의 메서드는 필드 초기화가 끝난 실제 빈에서 실행된다")
+    void generated_subclass_delegates_to_initialized_bean() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy").newChild()
+                .bean(RateTable.class).bean(RateClient.class).build();
+        RateTable table = ctx.getBean(RateClient.class).table;
+
+        assertEquals(1300, table.rate("KRW"));
+        assertEquals(150, table.rate("JPY"));
+        assertEquals("USD", table.base());
+        assertEquals(2, table.lookups());
+        assertEquals(2, ctx.getBean(RateTable.class).lookups()); // 상태는 실제 빈에 쌓인다
+    }
+
+    @Test
+    @DisplayName("하위 클래스를 만들 수 없는 @Lazy 빈을 구체 클래스로 주입받으면 컨텍스트 생성 시점에 예외가 발생한다")
+    void lazy_bean_without_subclass_requires_interface_injection_point() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.lazy");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ctx.newChild().bean(ArchiveStore.class).bean(ArchiveClient.class).build());
+        assertTrue(e.getMessage().startsWith("@Lazy bean must be injected through an interface or have a generated $$Lazy subclass"),
+                e.getMessage());
+    }
+}
@@ -6,6 +6,9 @@ import myspring.core.annotation.PreDestroy;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("LifecycleProcessor 테스트")
@@ -47,4 +50,56 @@ class LifecycleProcessorTest {
         lp.invokePostConstruct(w);
         assertTrue(w.inited);
     }
+
+    static class Base {
+        final List<String> calls = new ArrayList<>();
+
+        @PostConstruct void baseInit() { calls.add("base-init"); }
+        @PreDestroy void baseDestroy() { calls.add("base-destroy"); }
+        @PostConstruct void overriddenInit() { calls.add("base-overridden"); }
+    }
+
+    static class Child extends Base {
+        @PostConstruct void childInit() { calls.add("child-init"); }
+        @PreDestroy void childDestroy() { calls.add("child-destroy"); }
+        @Override @PostConstruct void overriddenInit() { calls.add("child-overridden"); }
+    }
+
+    @Test
+    @DisplayName("상위 클래스 콜백도 호출: PostConstruct는 상위→하위, PreDestroy는 하위→상위, 재정의 메서드는 한 번만")
+    void inherited_callbacks_in_defined_order() {
+        LifecycleProcessor lp = new LifecycleProcessor();
+        Child c = new Child();
+
+        lp.invokePostConstruct(c);
+        assertEquals(List.of("base-init", "child-init", "child-overridden"), c.calls);
+
+        c.calls.clear();
+        lp.invokePreDestroy(c);
+        assertEquals(List.of("child-destroy", "base-destroy"), c.calls);
+    }
+
+    static class WithArgs {
+        @PostConstruct void init(String s) {}
+    }
+
+    @Test
+    @DisplayName("파라미터가 있는 콜백은 명확한 예외로 거부한다")
+    void rejects_callback_with_parameters() {
+        LifecycleProcessor lp = new LifecycleProcessor();
+        assertThrows(IllegalStateException.class, () -> lp.invokePostConstruct(new WithArgs()));
+    }
+
+    static class Failing {
+        @PostConstruct void init() { throw new IllegalArgumentException("boom"); }
+    }
+
+    @Test
+    @DisplayName("콜백 예외는 메서드 이름과 함께 감싸서 던진다")
+    void wraps_callback_failure() {
+        LifecycleProcessor lp = new LifecycleProcessor();
+        RuntimeException e = assertThrows(RuntimeException.class, () -> lp.invokePostConstruct(new Failing()));
+        assertEquals("Lifecycle method failed: " + Failing.class.getName() + "#init", e.getMessage());
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
 }
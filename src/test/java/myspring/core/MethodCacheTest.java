@@ -0,0 +1,84 @@
+package myspring.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodCacheTest {
+
+    private static Object[] key(Object... args) {
+        return args;
+    }
+
+    @Test
+    @DisplayName("용량을 넘기면 가장 오래 안 쓴 항목부터 제거한다 (조회도 사용으로 친다)")
+    void evicts_least_recently_used() {
+        MethodCache cache = new MethodCache("lru", 2, null, 0, 1);
+        cache.put(key("a"), 1);
+        cache.put(key("b"), 2);
+        cache.get(key("a"));
+        cache.put(key("c"), 3);
+
+        assertEquals(1, cache.get(key("a")));
+        assertSame(MethodCache.MISS, cache.get(key("b")));
+        assertEquals(3, cache.get(key("c")));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("키는 인자 배열의 원소별 equals로 비교하고, 인자 수가 다르면 다른 키다")
+    void compares_arguments_elementwise() {
+        MethodCache cache = new MethodCache("args", 10, null, 0, 1);
+        cache.put(key("a", 1), "x");
+        cache.put(key(), "none");
+
+        assertEquals("x", cache.get(key(new String("a"), 1)));
+        assertSame(MethodCache.MISS, cache.get(key("a")));
+        assertSame(MethodCache.MISS, cache.get(key("a", 2)));
+        assertEquals("none", cache.get(key()));
+    }
+
+    @Test
+    @DisplayName("weigher가 있으면 무게 합으로 제한하고, 한 항목이 용량보다 무거우면 저장하지 않는다")
+    void limits_by_weight() {
+        MethodCache cache = new MethodCache("weight", 10, (k, v) -> ((String) v).length(), 0, 1);
+        cache.put(key(1), "aaaa");
+        cache.put(key(2), "bbbb");
+        cache.put(key(3), "cccc");
+        cache.put(key(4), "x".repeat(11));
+
+        assertSame(MethodCache.MISS, cache.get(key(1)));
+        assertEquals(8, cache.stats().weight());
+        assertSame(MethodCache.MISS, cache.get(key(4)));
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 항목은 실패로 처리하고 지운다")
+    void expires_after_ttl() throws InterruptedException {
+        MethodCache cache = new MethodCache("ttl", 10, null, 20, 1);
+        cache.put(key("a"), 1);
+        assertEquals(1, cache.get(key("a")));
+
+        Thread.sleep(40);
+        assertSame(MethodCache.MISS, cache.get(key("a")));
+        assertEquals(0, cache.stats().size());
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("여러 세그먼트로 나눠도 각 키는 한 세그먼트에만 있고 evict/clear가 동작한다")
+    void segmented_evict_and_clear() {
+        MethodCache cache = new MethodCache("segments", 1_000, null, 0, 8);
+        for (int i = 0; i < 100; i++) cache.put(key(i), i);
+        assertEquals(100, cache.stats().size());
+
+        cache.evict(key(7));
+        assertSame(MethodCache.MISS, cache.get(key(7)));
+        assertEquals(8, cache.get(key(8)));
+
+        cache.clear();
+        assertEquals(0, cache.stats().size());
+    }
+}
@@ -0,0 +1,109 @@
+package myspring.core;
+
+import fixtures.named.BankTransfer;
+import fixtures.named.CardPayment;
+import fixtures.named.CashPayment;
+import fixtures.named.Checkout;
+import fixtures.named.GiftCardPayment;
+import fixtures.named.PaymentMethod;
+import fixtures.named.PaymentRegistry;
+import myspring.core.annotation.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("빈 이름/@Qualifier/컬렉션 주입 테스트")
+class NamedBeanTest {
+
+    // 자식에서만 등록하는 빈: 원소 후보가 자식에 없으므로 부모의 컬렉션을 받는다
+    public static class PaymentAudit {
+        final List<PaymentMethod> methods;
+
+        @Inject
+        public PaymentAudit(List<PaymentMethod> methods) {
+            this.methods = methods;
+        }
+    }
+
+    @Test
+    @DisplayName("@Component value/@Bean name, 없으면 클래스명/메서드명으로 찾는다")
+    void get_bean_by_name() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.named");
+
+        assertSame(ctx.getBean(CardPayment.class), ctx.getBean("card", PaymentMethod.class));
+        assertSame(ctx.getBean(BankTransfer.class), ctx.getBean("bankTransfer", BankTransfer.class));
+        assertSame(ctx.getBean(GiftCardPayment.class), ctx.getBean("gift", PaymentMethod.class));
+
+        assertThrows(IllegalArgumentException.class, () -> ctx.getBean("missing", PaymentMethod.class));
+        IllegalArgumentException wrongType =
+                assertThrows(IllegalArgumentException.class, () -> ctx.getBean("card", CashPayment.class));
+        assertTrue(wrongType.getMessage().contains("not " + CashPayment.class.getName()));
+    }
+
+    @Test
+    @DisplayName("@Qualifier 파라미터는 이름 또는 한정자가 일치하는 후보를 고르고, 타입만으로는 여전히 모호하다")
+    void qualifier_selects_candidate() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.named");
+        Checkout checkout = ctx.getBean(Checkout.class);
+
+        assertSame(ctx.getBean(CardPayment.class), checkout.preferred);
+        assertSame(ctx.getBean(GiftCardPayment.class), checkout.fallback);
+        assertThrows(IllegalArgumentException.class, () -> ctx.getBean(PaymentMethod.class));
+    }
+
+    @Test
+    @DisplayName("List/Map에는 모든 구현이 클래스명 순으로 들어가고, Map 키는 빈 이름이다")
+    void injects_collections() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.named");
+        PaymentRegistry registry = ctx.getBean(PaymentRegistry.class);
+
+        assertEquals(List.of(ctx.getBean(BankTransfer.class), ctx.getBean(CardPayment.class),
+                ctx.getBean(CashPayment.class), ctx.getBean(GiftCardPayment.class)), registry.all);
+        assertEquals(List.of("bankTransfer", "card", "cashPayment", "gift"), List.copyOf(registry.byName.keySet()));
+        assertSame(ctx.getBean(CashPayment.class), registry.byName.get("cashPayment"));
+        assertEquals(List.of(ctx.getBean(BankTransfer.class), ctx.getBean(CardPayment.class),
+                ctx.getBean(GiftCardPayment.class)), registry.online);
+        assertThrows(UnsupportedOperationException.class, () -> registry.all.add(null));
+        assertThrows(UnsupportedOperationException.class, () -> registry.byName.remove("card"));
+    }
+
+    @Test
+    @DisplayName("원소가 모두 싱글톤인 컬렉션은 한 번 만들어 주입 지점끼리 공유한다")
+    void singleton_collections_are_shared() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.named");
+
+        assertSame(ctx.getBean(PaymentRegistry.class).byName, ctx.getBean(Checkout.class).methods);
+    }
+
+    @Test
+    @DisplayName("컬렉션 원소는 생성 순서 간선이 되어 eager 초기화에서도 먼저 만들어진다")
+    void collection_elements_are_creation_edges() {
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.named").eagerInit(4).build();
+
+        assertEquals(4, ctx.getBean(PaymentRegistry.class).all.size());
+    }
+
+    @Test
+    @DisplayName("이름이 겹치면 컨텍스트 생성 시 실패한다")
+    void duplicate_names_fail_fast() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.duplicatename"));
+
+        assertTrue(e.getMessage().startsWith("Duplicate bean name 'sender'"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("자식 컨텍스트는 이름 조회와 컬렉션 주입을 부모에게 위임한다 (중첩 클래스 기본 이름은 outer.Inner)")
+    void child_delegates_names_and_collections() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.named");
+        ApplicationContext child = parent.newChild().bean(PaymentAudit.class).build();
+
+        assertSame(parent.getBean("card", PaymentMethod.class), child.getBean("card", PaymentMethod.class));
+        assertSame(parent.getBean(PaymentRegistry.class).all, child.getBean(PaymentAudit.class).methods);
+        assertSame(child.getBean(PaymentAudit.class), child.getBean("namedBeanTest.PaymentAudit", PaymentAudit.class));
+    }
+}
@@ -0,0 +1,66 @@
+package myspring.core;
+
+import fixtures.failing.DependsOnBroken;
+import fixtures.failing.HealthyBean;
+import fixtures.parallel.CacheWarmer;
+import fixtures.parallel.ConnectionPool;
+import fixtures.parallel.OrderService;
+import fixtures.parallel.ParallelFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("병렬 eager 초기화 테스트")
+class ParallelEagerInitTest {
+
+    @Test
+    @DisplayName("서로 독립적인 싱글톤은 동시에 생성되고, 의존하는 빈은 그 뒤에 생성된다")
+    void independent_singletons_are_created_concurrently() {
+        ParallelFixtures.barrier = new CyclicBarrier(2);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.parallel").eagerInit(2).build();
+
+        SingletonInitReport report = ctx.getSingletonInitReport().orElseThrow();
+        assertEquals(3, report.beanCount());
+        assertEquals(2, report.parallelism());
+        assertEquals(OrderService.class, report.criticalPath().get(report.criticalPath().size() - 1));
+        assertTrue(report.criticalPathTime().compareTo(report.wallTime()) <= 0);
+
+        OrderService service = ctx.getBean(OrderService.class);
+        assertSame(ctx.getBean(CacheWarmer.class), service.cache);
+        assertSame(ctx.getBean(ConnectionPool.class), service.pool);
+    }
+
+    @Test
+    @DisplayName("순환 의존은 아무것도 생성하기 전에 전체 경로와 함께 보고된다")
+    void cycle_is_reported_up_front() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.builder("fixtures.cycle").eagerInit(2).build());
+        assertEquals("Circular dependency detected: fixtures.cycle.CycleA -> fixtures.cycle.CycleB -> fixtures.cycle.CycleA",
+                e.getMessage());
+    }
+
+    @Test
+    @DisplayName("생성 실패는 원래 예외로 전파되고, 의존하는 빈은 만들지 않으며, 이미 만든 빈은 정리한다")
+    void failure_propagates_and_created_singletons_are_destroyed() {
+        DependsOnBroken.created.set(0);
+        HealthyBean.destroyed.set(0);
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> ApplicationContext.builder("fixtures.failing").eagerInit(2).build());
+
+        assertEquals("Failed to instantiate: fixtures.failing.BrokenBean", e.getMessage());
+        assertEquals("broken", e.getCause().getMessage());
+        assertEquals(0, DependsOnBroken.created.get());
+        assertEquals(1, HealthyBean.destroyed.get());
+    }
+
+    @Test
+    @DisplayName("eagerInit을 켜지 않으면 보고서가 없다")
+    void lazy_by_default() {
+        assertTrue(ApplicationContext.of("fixtures.parallel").getSingletonInitReport().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ApplicationContext.builder("fixtures.parallel").eagerInit(0));
+    }
+}
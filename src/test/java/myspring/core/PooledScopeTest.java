@@ -0,0 +1,76 @@
+package myspring.core;
+
+import fixtures.pooled.Parser;
+import fixtures.pooled.ParseService;
+import fixtures.pooled.ParserClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("POOLED 스코프 테스트")
+class PooledScopeTest {
+
+    @Test
+    @DisplayName("반납된 인스턴스는 @PoolReset 후 재사용된다")
+    void returned_instance_is_reset_and_reused() {
+        Parser.created.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.pooled");
+
+        Parser first;
+        try (PooledBean<Parser> parser = ctx.borrow(Parser.class)) {
+            first = parser.get();
+            first.buffer.append("dirty");
+        }
+        try (PooledBean<Parser> parser = ctx.borrow(Parser.class)) {
+            assertSame(first, parser.get());
+            assertEquals("", parser.get().buffer.toString());
+        }
+        assertEquals(1, Parser.created.get());
+    }
+
+    @Test
+    @DisplayName("maxSize만큼 대여 중이면 maxWait 후 예외, 반납하면 다시 빌릴 수 있다")
+    void pool_is_bounded() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.pooled");
+        PooledBean<Parser> a = ctx.borrow(Parser.class);
+        PooledBean<Parser> b = ctx.borrow(Parser.class);
+        assertNotSame(a.get(), b.get());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ctx.borrow(Parser.class));
+        assertTrue(e.getMessage().startsWith("Pool exhausted"), e.getMessage());
+
+        a.close();
+        a.close(); // 두 번 반납해도 무시
+        assertThrows(IllegalStateException.class, a::get);
+        try (PooledBean<Parser> c = ctx.borrow(Parser.class)) {
+            assertNotNull(c.get());
+        }
+        b.close();
+    }
+
+    @Test
+    @DisplayName("POOLED 빈은 getBean/주입으로 얻을 수 없고, 다른 스코프는 borrow할 수 없다")
+    void pooled_bean_is_only_borrowable() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.pooled");
+
+        assertThrows(IllegalStateException.class, () -> ctx.getBean(Parser.class));
+        assertThrows(IllegalStateException.class, () -> ctx.newChild().bean(ParserClient.class).build());
+        assertThrows(IllegalArgumentException.class, () -> ctx.borrow(ParseService.class));
+    }
+
+    @Test
+    @DisplayName("close()는 유휴 인스턴스를 즉시, 대여 중인 인스턴스는 반납될 때 @PreDestroy 한다")
+    void close_destroys_pooled_instances() {
+        Parser.destroyed.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.pooled");
+        PooledBean<Parser> borrowed = ctx.borrow(Parser.class);
+        ctx.borrow(Parser.class).close();
+
+        ctx.close();
+        assertEquals(1, Parser.destroyed.get());
+        borrowed.close();
+        assertEquals(2, Parser.destroyed.get());
+        assertThrows(IllegalStateException.class, () -> ctx.borrow(Parser.class));
+    }
+}
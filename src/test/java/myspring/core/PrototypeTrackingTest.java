@@ -0,0 +1,77 @@
+package myspring.core;
+
+import fixtures.prototypes.Exporter;
+import fixtures.prototypes.ScratchBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PROTOTYPE 인스턴스 추적 테스트")
+class PrototypeTrackingTest {
+
+    private static final String BUFFER = ScratchBuffer.class.getName();
+
+    @Test
+    @DisplayName("close()는 아직 살아 있는 PROTOTYPE 인스턴스를 @PreDestroy 한다 (주입된 것과 getBean으로 받은 것 모두)")
+    void close_destroys_live_prototypes() {
+        ScratchBuffer.released.set(0);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.prototypes").trackPrototypes(true).build();
+        Exporter exporter = ctx.getBean(Exporter.class);
+        ScratchBuffer direct = ctx.getBean(ScratchBuffer.class);
+
+        assertEquals(new PrototypeStats(2, 2, 0, 0), ctx.getPrototypeStats().get(BUFFER));
+        ctx.close();
+
+        assertEquals(2, ScratchBuffer.released.get());
+        assertEquals(new PrototypeStats(2, 0, 2, 0), ctx.getPrototypeStats().get(BUFFER));
+        assertNotSame(exporter.buffer, direct); // 여기까지 두 인스턴스를 붙잡아 둔다
+    }
+
+    @Test
+    @DisplayName("싱글톤이 쥔 PROTOTYPE은 그 싱글톤의 @PreDestroy가 끝난 뒤에 소멸한다")
+    void prototypes_outlive_singletons_that_hold_them() {
+        ScratchBuffer.released.set(0);
+        Exporter.flushed.set(0);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.prototypes")
+                .trackPrototypes(true).shutdownParallelism(4).build();
+        ctx.getBean(Exporter.class);
+
+        ctx.close(); // 버퍼가 먼저 소멸하면 Exporter의 flush가 실패해 close()가 던진다
+
+        assertEquals(1, Exporter.flushed.get());
+        assertEquals(1, ScratchBuffer.released.get());
+    }
+
+    @Test
+    @DisplayName("버려진 인스턴스는 추적 때문에 GC가 막히지 않고, collected로 세며 close() 때 다시 소멸하지 않는다")
+    void unreachable_prototypes_are_collected() throws InterruptedException {
+        ScratchBuffer.released.set(0);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.prototypes").trackPrototypes(true).build();
+        for (int i = 0; i < 100; i++) ctx.getBean(ScratchBuffer.class);
+
+        PrototypeStats stats = ctx.getPrototypeStats().get(BUFFER);
+        for (int i = 0; i < 200 && stats.collected() < 100; i++) {
+            System.gc();
+            Thread.sleep(10); // 참조 큐에 들어갈 때까지
+            stats = ctx.getPrototypeStats().get(BUFFER);
+        }
+        assertEquals(new PrototypeStats(100, 0, 0, 100), stats);
+
+        ctx.close();
+        assertEquals(0, ScratchBuffer.released.get());
+    }
+
+    @Test
+    @DisplayName("추적을 켜지 않으면 통계가 비어 있고 PROTOTYPE은 close() 때 소멸하지 않는다")
+    void tracking_is_opt_in() {
+        ScratchBuffer.released.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.prototypes");
+        ScratchBuffer buffer = ctx.getBean(ScratchBuffer.class);
+
+        assertTrue(ctx.getPrototypeStats().isEmpty());
+        ctx.close();
+        assertEquals(0, ScratchBuffer.released.get());
+        assertNotNull(buffer);
+    }
+}
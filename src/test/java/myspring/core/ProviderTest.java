@@ -0,0 +1,67 @@
+package myspring.core;
+
+import fixtures.provider.Clock;
+import fixtures.provider.Job;
+import fixtures.provider.JobRunner;
+import fixtures.provider.JobScheduler;
+import fixtures.provider.Node;
+import fixtures.provider.Parent;
+import myspring.core.annotation.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Provider 주입 테스트")
+class ProviderTest {
+
+    @Test
+    @DisplayName("PROTOTYPE Provider는 get()마다 새 인스턴스, 싱글톤 Provider는 같은 인스턴스를 준다")
+    void provider_follows_target_scope() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.provider");
+        JobRunner runner = ctx.getBean(JobRunner.class);
+
+        Job first = runner.jobs.get();
+        Job second = runner.jobs.get();
+        assertNotSame(first, second);
+        assertSame(ctx.getBean(Clock.class), first.clock);
+        assertSame(ctx.getBean(Clock.class), runner.clock.get());
+    }
+
+    @Test
+    @DisplayName("@Bean 메서드 파라미터로도 받고, 같은 타입의 Provider는 주입 지점끼리 공유된다")
+    void provider_in_bean_method_is_shared() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.provider");
+        JobScheduler scheduler = ctx.getBean(JobScheduler.class);
+
+        assertNotNull(scheduler.jobs.get());
+        assertSame(ctx.getBean(JobRunner.class).jobs, scheduler.jobs);
+    }
+
+    @Test
+    @DisplayName("Provider 간선은 생성 순서에 들어가지 않아 순환을 끊는다")
+    void provider_breaks_cycle() {
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.provider").eagerInit(2).build();
+        Parent parent = ctx.getBean(Parent.class);
+
+        assertSame(parent, parent.child.parent.get());
+        assertSame(parent.child, ctx.getBean(Node.class));
+    }
+
+    public static class MissingClient {
+        @Inject
+        public MissingClient(Provider<List<String>> missing) {}
+    }
+
+    @Test
+    @DisplayName("대상 빈이 없으면 컨텍스트 생성 시점에 실패한다 (get()까지 미루지 않음)")
+    void unsatisfied_provider_fails_at_build() {
+        ApplicationContext parent = ApplicationContext.of("fixtures.provider");
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> parent.newChild().bean(MissingClient.class).build());
+        assertTrue(e.getMessage().contains("Unsatisfied dependency: java.util.List"), e.getMessage());
+    }
+}
@@ -0,0 +1,161 @@
+package myspring.core;
+
+import fixtures.push.PushConfig;
+import fixtures.push.PushNotifier;
+import fixtures.refresh.AuditTrail;
+import fixtures.refresh.FrontDesk;
+import fixtures.refresh.Greeter;
+import fixtures.refresh.GreeterClient;
+import fixtures.refresh.Notifier;
+import fixtures.refresh.NotifierRegistry;
+import fixtures.refresh.Settings;
+import fixtures.refresh.SettingsConfig;
+import myspring.core.annotation.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("부분 새로 고침 테스트")
+class RefreshTest {
+
+    public static class SmsNotifier implements Notifier {
+        @Override
+        public String channel() {
+            return "sms";
+        }
+    }
+
+    // 정의되지 않은 타입에 의존 → 새로 고침 검증 실패
+    public static class BrokenComponent {
+        @Inject
+        public BrokenComponent(Runnable missing) {
+        }
+    }
+
+    @AfterEach
+    void resetSource() {
+        SettingsConfig.source.set("hello");
+    }
+
+    @Test
+    @DisplayName("reload는 그 빈과 전이적으로 의존하는 싱글톤만 소멸 후 다시 만들고, 나머지는 그대로 둔다")
+    void reload_rebuilds_only_dependents() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+        Greeter oldGreeter = ctx.getBean(Greeter.class);
+        FrontDesk oldDesk = ctx.getBean(FrontDesk.class);
+        AuditTrail audit = ctx.getBean(AuditTrail.class);
+        NotifierRegistry registry = ctx.getBean(NotifierRegistry.class);
+        SettingsConfig config = ctx.getBean(SettingsConfig.class);
+        GreeterClient client = ctx.getBean(GreeterClient.class);
+
+        SettingsConfig.source.set("안녕");
+        List<Class<?>> replaced = ctx.refresh().reload(Settings.class).apply();
+
+        assertEquals(List.of(Settings.class, Greeter.class, FrontDesk.class), replaced);
+        assertTrue(oldGreeter.destroyed);
+        Greeter greeter = ctx.getBean(Greeter.class);
+        assertNotSame(oldGreeter, greeter);
+        assertTrue(greeter.initialized);
+        assertEquals("안녕, kim", greeter.greet("kim"));
+        assertNotSame(oldDesk, ctx.getBean(FrontDesk.class));
+        assertSame(greeter, ctx.getBean(FrontDesk.class).greeter);
+
+        assertSame(audit, ctx.getBean(AuditTrail.class));
+        assertFalse(audit.destroyed);
+        assertSame(registry, ctx.getBean(NotifierRegistry.class));
+        assertSame(config, ctx.getBean(SettingsConfig.class));
+        assertSame(client, ctx.getBean(GreeterClient.class));
+        assertSame(greeter, client.greeter.get()); // Provider는 다음 get()부터 새 빈
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("아직 만들어지지 않은 의존 빈은 새로 고침 때 만들지 않는다")
+    void does_not_create_untouched_beans() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+        ctx.getBean(Greeter.class);
+
+        assertEquals(List.of(Settings.class, Greeter.class), ctx.refresh().reload(Settings.class).apply());
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("instance는 @Bean 결과를 주어진 인스턴스로 바꾸고 의존 빈을 다시 만든다")
+    void replaces_bean_method_result_with_instance() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+        Greeter oldGreeter = ctx.getBean(Greeter.class);
+        Settings settings = new Settings("hi");
+
+        List<Class<?>> replaced = ctx.refresh().instance(Settings.class, settings).apply();
+
+        assertEquals(List.of(Settings.class, Greeter.class), replaced);
+        assertSame(settings, ctx.getBean(Settings.class));
+        assertSame(settings, ctx.getBean(Greeter.class).settings);
+        assertTrue(oldGreeter.destroyed);
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("새 컴포넌트를 추가하면 그 타입을 List로 받는 빈만 다시 만든다")
+    void new_component_rebuilds_collection_consumers() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+        NotifierRegistry oldRegistry = ctx.getBean(NotifierRegistry.class);
+        Greeter greeter = ctx.getBean(Greeter.class);
+
+        List<Class<?>> replaced = ctx.refresh().bean(SmsNotifier.class).apply();
+
+        assertEquals(List.of(NotifierRegistry.class), replaced);
+        NotifierRegistry registry = ctx.getBean(NotifierRegistry.class);
+        assertNotSame(oldRegistry, registry);
+        assertEquals(List.of("email", "sms"), registry.notifiers.stream().map(Notifier::channel).toList());
+        assertSame(registry.notifiers.get(1), ctx.getBean(SmsNotifier.class));
+        assertSame(greeter, ctx.getBean(Greeter.class));
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("@Configuration 클래스를 추가하면 그 @Bean 메서드도 새 빈으로 등록된다")
+    void new_configuration_registers_bean_methods() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+        ctx.getBean(NotifierRegistry.class);
+
+        List<Class<?>> replaced = ctx.refresh().bean(PushConfig.class).apply();
+
+        assertEquals(List.of(NotifierRegistry.class), replaced);
+        assertEquals(List.of("email", "push"),
+                ctx.getBean(NotifierRegistry.class).notifiers.stream().map(Notifier::channel).sorted().toList());
+        assertSame(ctx.getBean(PushNotifier.class), ctx.getBean("pushNotifier", Notifier.class));
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("잘못된 새 정의는 실패하고 컨텍스트는 그대로 남는다")
+    void invalid_refresh_leaves_context_unchanged() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+        Greeter greeter = ctx.getBean(Greeter.class);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ctx.refresh().bean(BrokenComponent.class).reload(Settings.class).apply());
+
+        assertTrue(e.getMessage().startsWith("Unsatisfied dependency: java.lang.Runnable"), e.getMessage());
+        assertSame(greeter, ctx.getBean(Greeter.class));
+        assertFalse(greeter.destroyed);
+        assertThrows(IllegalArgumentException.class, () -> ctx.getBean(BrokenComponent.class));
+        assertEquals(List.of(Settings.class, Greeter.class), ctx.refresh().reload(Settings.class).apply());
+        ctx.close();
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 빈을 reload하거나 이미 있는 클래스를 bean으로 추가하면 IllegalArgumentException")
+    void rejects_unknown_or_duplicate_definitions() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.refresh");
+
+        assertThrows(IllegalArgumentException.class, () -> ctx.refresh().reload(SmsNotifier.class).apply());
+        assertThrows(IllegalArgumentException.class, () -> ctx.refresh().bean(Greeter.class).apply());
+        ctx.close();
+    }
+}
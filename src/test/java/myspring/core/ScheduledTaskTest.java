@@ -0,0 +1,205 @@
+package myspring.core;
+
+import fixtures.scheduling.Heartbeat;
+import fixtures.scheduling.NightlyJob;
+import fixtures.scheduling.Poller;
+import fixtures.scheduling.SlowDigest;
+import fixtures.scheduling.SlowReport;
+import fixtures.subtick.FastSampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("@Scheduled 테스트")
+class ScheduledTaskTest {
+
+    private static final String HEARTBEAT = Heartbeat.class.getName() + "#beat";
+    private static final String REPORT = SlowReport.class.getName() + "#report";
+    private static final String DIGEST = SlowDigest.class.getName() + "#digest";
+    private static final String SAMPLER = FastSampler.class.getName() + "#sample";
+
+    private ManualClock clock;
+    private ApplicationContext ctx;
+    private boolean closed;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualClock(Instant.parse("2026-01-01T02:59:00Z"), ZoneOffset.UTC);
+        ctx = ApplicationContext.builder("fixtures.scheduling").schedulerClock(clock).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (closed) return;
+        ctx.getBean(SlowReport.class).release();
+        ctx.getBean(SlowDigest.class).release();
+        ctx.close();
+    }
+
+    // 틱(10ms)씩 시계를 넘기고, 넘긴 틱에서 시작된 실행이 끝날 때까지 기다린다 (held: 붙잡아 둔 실행 수)
+    private void step(long millis, int held) {
+        for (long t = 0; t < millis; t += 10) {
+            clock.advance(Duration.ofMillis(10));
+            awaitUntil(() -> activeCount() == held);
+        }
+    }
+
+    private int activeCount() {
+        return ctx.getScheduledStats().values().stream().mapToInt(ScheduledStats::active).sum();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) fail("condition not met within 5s");
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("fixedRate: 예정 시각마다 한 번씩 실행되고, 틱 경계의 예정은 늦지 않는다")
+    void fixed_rate_runs_on_schedule() {
+        step(1000, 0);
+
+        assertEquals(10, ctx.getBean(Heartbeat.class).beats.get());
+        ScheduledStats stats = ctx.getScheduledStats().get(HEARTBEAT);
+        assertEquals(10, stats.runs());
+        assertEquals(0, stats.skipped());
+        assertEquals(0, stats.maxLatenessMillis());
+    }
+
+    @Test
+    @DisplayName("타이머가 예정 시각을 지나서 돌면 그만큼이 lateness로 기록된다")
+    void lateness_is_measured_from_the_scheduled_time() {
+        step(60, 0);
+        clock.advance(Duration.ofMillis(70)); // 예정 100ms를 130ms에 처리
+        awaitUntil(() -> ctx.getScheduledStats().get(HEARTBEAT).runs() == 1 && activeCount() == 0);
+        step(100, 0); // 200ms 실행은 제때
+
+        ScheduledStats stats = ctx.getScheduledStats().get(HEARTBEAT);
+        assertEquals(2, stats.runs());
+        assertEquals(0, stats.lastLatenessMillis());
+        assertEquals(30, stats.maxLatenessMillis());
+        assertEquals(15.0, stats.meanLatenessMillis());
+    }
+
+    @Test
+    @DisplayName("SKIP: 이전 실행이 돌고 있는 동안의 예정 회차는 건너뛴다")
+    void skip_overrun_drops_runs() {
+        SlowReport report = ctx.getBean(SlowReport.class);
+        report.hold();
+        step(90, 0);
+        step(210, 1); // 100ms 실행이 붙잡힌 채 200ms, 300ms 예정
+
+        ScheduledStats stats = ctx.getScheduledStats().get(REPORT);
+        assertEquals(1, stats.runs());
+        assertEquals(2, stats.skipped());
+        assertEquals(1, stats.active());
+
+        report.release();
+        awaitUntil(() -> activeCount() == 0);
+        step(100, 0);
+        assertEquals(2, report.finished.get());
+        assertEquals(2, ctx.getScheduledStats().get(REPORT).runs());
+    }
+
+    @Test
+    @DisplayName("COALESCE: 밀린 회차를 하나로 합쳐 이전 실행이 끝나자마자 한 번 실행한다")
+    void coalesce_overrun_runs_once_after_completion() {
+        SlowDigest digest = ctx.getBean(SlowDigest.class);
+        digest.hold();
+        step(90, 0);
+        step(210, 1);
+
+        ScheduledStats stats = ctx.getScheduledStats().get(DIGEST);
+        assertEquals(1, stats.runs());
+        assertEquals(1, stats.skipped()); // 200ms와 300ms가 합쳐짐
+
+        digest.release();
+        awaitUntil(() -> digest.finished.get() == 2 && activeCount() == 0);
+        assertEquals(2, ctx.getScheduledStats().get(DIGEST).runs());
+    }
+
+    @Test
+    @DisplayName("fixedRate가 틱보다 짧아도 틱마다 밀린 회차를 모두 실행해 뒤처지지 않는다")
+    void sub_tick_fixed_rate_keeps_up() {
+        ApplicationContext fast = ApplicationContext.builder("fixtures.subtick").schedulerClock(clock).build();
+        try {
+            for (int t = 0; t < 1000; t += 10) {
+                clock.advance(Duration.ofMillis(10));
+                awaitUntil(() -> fast.getScheduledStats().get(SAMPLER).active() == 0);
+            }
+
+            ScheduledStats stats = fast.getScheduledStats().get(SAMPLER);
+            assertEquals(501, fast.getBean(FastSampler.class).samples.get()); // 0, 2, ..., 1000ms
+            assertEquals(501, stats.runs());
+            assertTrue(stats.maxLatenessMillis() <= 10, "lateness " + stats.maxLatenessMillis()); // 틱 하나 이내
+        } finally {
+            fast.close();
+        }
+    }
+
+    @Test
+    @DisplayName("fixedDelay: 이전 실행이 끝난 시각부터 간격을 잰다")
+    void fixed_delay_waits_after_completion() {
+        step(200, 0); // 20, 70, 120, 170ms
+
+        assertEquals(4, ctx.getBean(Poller.class).polls.get());
+    }
+
+    @Test
+    @DisplayName("cron: 스케줄러 시계의 시간대로 다음 시각을 계산한다")
+    void cron_fires_at_matching_time() {
+        NightlyJob job = ctx.getBean(NightlyJob.class);
+        step(59_990, 0);
+        assertEquals(0, job.runs.get());
+
+        step(10, 0); // 03:00:00
+        assertEquals(1, job.runs.get());
+        assertEquals(0, ctx.getScheduledStats().get(NightlyJob.class.getName() + "#run").lastLatenessMillis());
+    }
+
+    @Test
+    @DisplayName("close()는 실행 중인 작업이 끝나기를 기다리고, 이후에는 시계를 넘겨도 실행하지 않는다")
+    void close_waits_for_running_tasks_and_stops_scheduling() throws InterruptedException {
+        SlowReport report = ctx.getBean(SlowReport.class);
+        Heartbeat heartbeat = ctx.getBean(Heartbeat.class);
+        report.hold();
+        step(90, 0);
+        step(10, 1);
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException ignored) {
+            }
+            report.release();
+        });
+        releaser.start();
+
+        ctx.close();
+        closed = true;
+        releaser.join();
+        assertEquals(1, report.finished.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(1, heartbeat.beats.get());
+    }
+
+    @Test
+    @DisplayName("잘못된 @Scheduled 선언은 컨텍스트 생성 시 모아서 보고한다")
+    void invalid_declarations_fail_at_startup() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> ApplicationContext.of("fixtures.badschedule"));
+
+        assertTrue(e.getMessage().contains("exactly one of positive fixedRate, positive fixedDelay or cron"), e.getMessage());
+        assertTrue(e.getMessage().contains("instance method without parameters"), e.getMessage());
+    }
+}
@@ -0,0 +1,110 @@
+package myspring.core;
+
+import fixtures.faultyshutdown.BrokenClient;
+import fixtures.faultyshutdown.HangingClient;
+import fixtures.faultyshutdown.Storage;
+import fixtures.shutdown.MetricsReporter;
+import fixtures.shutdown.OrderService;
+import fixtures.shutdown.ShutdownLog;
+import fixtures.slowshutdown.StuckConnection;
+import fixtures.slowshutdown.StuckExport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("컨텍스트 종료 테스트")
+class ShutdownTest {
+
+    @Test
+    @DisplayName("의존하는 빈이 먼저 소멸하고, 독립적인 가지는 동시에 소멸한다")
+    void destroys_in_reverse_dependency_order_in_parallel() {
+        ShutdownLog.reset();
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.shutdown").shutdownParallelism(2).build();
+        ctx.getBean(OrderService.class);
+        ctx.getBean(MetricsReporter.class);
+
+        ctx.close(); // 두 가지의 끝이 서로를 기다리므로 순차 소멸이면 배리어 타임아웃으로 실패
+
+        List<String> order = ShutdownLog.destroyed;
+        assertEquals(5, order.size(), order.toString());
+        assertTrue(order.indexOf("OrderService") < order.indexOf("OrderRepository"), order.toString());
+        assertTrue(order.indexOf("OrderRepository") < order.indexOf("Database"), order.toString());
+        assertTrue(order.indexOf("MetricsReporter") < order.indexOf("MetricsSink"), order.toString());
+    }
+
+    @Test
+    @DisplayName("실패하거나 제한 시간을 넘긴 빈이 있어도 나머지는 정리하고 모든 오류를 모아 던진다")
+    void collects_failures_and_times_out_slow_beans() {
+        Storage.destroyed.set(false);
+        HangingClient.interrupted.set(false);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.faultyshutdown")
+                .shutdownTimeout(Duration.ofMillis(200), Duration.ofSeconds(10))
+                .build();
+        ctx.getBean(BrokenClient.class);
+        ctx.getBean(HangingClient.class);
+
+        long start = System.nanoTime();
+        RuntimeException e = assertThrows(RuntimeException.class, ctx::close);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 5_000, "elapsed=" + elapsedMillis);
+        assertTrue(Storage.destroyed.get()); // 의존하는 빈이 실패/시간 초과여도 정리된다
+        assertTrue(HangingClient.interrupted.get());
+
+        List<Throwable> all = new ArrayList<>(Arrays.asList(e.getSuppressed()));
+        all.add(e);
+        assertEquals(2, all.size());
+        assertTrue(all.stream().anyMatch(t -> t.getMessage().contains("@PreDestroy timed out")));
+        assertTrue(all.stream().anyMatch(t -> t.getMessage().contains("BrokenClient")));
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간이 지나면 남은 빈을 포기하고 바로 돌아온다")
+    void total_timeout_abandons_remaining_beans() {
+        Storage.destroyed.set(false);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.faultyshutdown")
+                .shutdownTimeout(Duration.ofSeconds(30), Duration.ofMillis(300))
+                .build();
+        ctx.getBean(HangingClient.class);
+
+        long start = System.nanoTime();
+        IllegalStateException e = assertThrows(IllegalStateException.class, ctx::close);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 5_000, "elapsed=" + elapsedMillis);
+        assertTrue(e.getMessage().startsWith("Shutdown timed out"), e.getMessage());
+        assertTrue(e.getMessage().contains(Storage.class.getName()), e.getMessage());
+        assertFalse(Storage.destroyed.get());
+    }
+
+    @Test
+    @DisplayName("전체 제한 시간은 close()의 모든 단계가 나눠 쓴다 (작업 대기와 @PreDestroy가 따로 받지 않는다)")
+    void total_timeout_covers_every_step() throws InterruptedException {
+        ManualClock clock = new ManualClock(Instant.EPOCH, ZoneOffset.UTC);
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.slowshutdown")
+                .schedulerClock(clock)
+                .shutdownTimeout(Duration.ofSeconds(30), Duration.ofMillis(400))
+                .build();
+        ctx.getBean(StuckConnection.class);
+        clock.advance(Duration.ofMillis(10));
+        assertTrue(ctx.getBean(StuckExport.class).started.await(5, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        IllegalStateException e = assertThrows(IllegalStateException.class, ctx::close);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 750, "elapsed=" + elapsedMillis); // 단계마다 400ms씩이면 800ms 이상
+        assertTrue(e.getMessage().startsWith("Scheduled tasks did not finish"), e.getMessage());
+        assertTrue(Arrays.stream(e.getSuppressed()).anyMatch(s -> s.getMessage().contains(StuckConnection.class.getName())),
+                Arrays.toString(e.getSuppressed()));
+    }
+}
@@ -0,0 +1,84 @@
+package myspring.core;
+
+import fixtures.metrics.ReportingService;
+import fixtures.metrics.RequestContext;
+import fixtures.metrics.SlowRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import myspring.core.annotation.ScopeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("빈 생성 계측 테스트")
+class StartupReportTest {
+
+    private static BeanCreationMetrics metricsOf(StartupReport report, Class<?> type) {
+        return report.bySelfTime().stream().filter(m -> m.beanClass() == type).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("빈별 total/self/@PostConstruct 시간, 의존 깊이, 스코프별 인스턴스 수를 기록한다")
+    void records_per_bean_metrics() {
+        ApplicationContext ctx = ApplicationContext.builder("fixtures.metrics").instrumentation(true).build();
+        ctx.getBean(ReportingService.class);
+        ctx.getBean(RequestContext.class);
+
+        StartupReport report = ctx.getStartupReport().orElseThrow();
+        BeanCreationMetrics service = metricsOf(report, ReportingService.class);
+        BeanCreationMetrics repository = metricsOf(report, SlowRepository.class);
+        BeanCreationMetrics context = metricsOf(report, RequestContext.class);
+
+        assertEquals(0, service.maxDepth());
+        assertEquals(1, repository.maxDepth());
+        assertTrue(repository.postConstructTime().compareTo(Duration.ofMillis(25)) >= 0);
+        // 의존성 생성 시간은 total에는 들어가고 self에서는 빠진다
+        assertTrue(service.totalTime().compareTo(repository.totalTime()) >= 0);
+        assertTrue(service.selfTime().compareTo(Duration.ofMillis(25)) < 0, service.toString());
+        assertEquals(SlowRepository.class, report.bySelfTime().get(0).beanClass());
+        assertEquals(ReportingService.class, report.byTotalTime().get(0).beanClass());
+
+        assertEquals(2, context.instances());
+        assertEquals(Map.of(ScopeType.SINGLETON, 2L, ScopeType.PROTOTYPE, 2L), report.instancesByScope());
+        assertTrue(report.toString().contains(SlowRepository.class.getName()));
+    }
+
+    @Test
+    @DisplayName("instrumentation을 켜지 않으면 보고서가 없다")
+    void disabled_by_default() {
+        ApplicationContext ctx = ApplicationContext.of("fixtures.metrics");
+        ctx.getBean(ReportingService.class);
+        assertTrue(ctx.getStartupReport().isEmpty());
+    }
+
+    @Test
+    @DisplayName("JFR 녹화 중에는 빈 생성과 라이프사이클 콜백이 이벤트로 남는다")
+    void emits_jfr_events() throws Exception {
+        Path file = Files.createTempFile("myspring", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("myspring.BeanCreation").withThreshold(Duration.ZERO);
+            recording.enable("myspring.LifecycleCallback").withThreshold(Duration.ZERO);
+            recording.start();
+            ApplicationContext.of("fixtures.metrics").getBean(ReportingService.class);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("myspring.BeanCreation")
+                && e.getClass("beanClass").getName().equals(SlowRepository.class.getName())
+                && e.getInt("depth") == 1));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("myspring.LifecycleCallback")
+                && e.getString("method").equals(SlowRepository.class.getName() + "#warmUp")
+                && e.getString("phase").equals("PostConstruct")));
+    }
+}
@@ -0,0 +1,79 @@
+package myspring.core;
+
+import fixtures.threadscope.Digest;
+import fixtures.threadscope.RequestState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("THREAD/SCOPED 스코프 테스트")
+class ThreadScopeTest {
+
+    @Test
+    @DisplayName("THREAD 빈은 스레드마다 하나이고, endThreadScope로 현재 스레드 것만 소멸한다")
+    void thread_bean_is_per_thread() throws Exception {
+        Digest.destroyed.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.threadscope");
+        Digest mine = ctx.getBean(Digest.class);
+        assertSame(mine, ctx.getBean(Digest.class));
+
+        AtomicReference<Digest> other = new AtomicReference<>();
+        Thread t = new Thread(() -> other.set(ctx.getBean(Digest.class)));
+        t.start();
+        t.join();
+        assertNotSame(mine, other.get());
+
+        ctx.endThreadScope();
+        assertEquals(1, Digest.destroyed.get());
+        assertNotSame(mine, ctx.getBean(Digest.class));
+
+        ctx.close(); // 남은 것(끝난 스레드 것 + 새로 만든 것) 모두 소멸
+        assertEquals(3, Digest.destroyed.get());
+    }
+
+    @Test
+    @DisplayName("끝난 스레드의 빈은 정리되어 살아 있는 스레드 수 이상으로 쌓이지 않는다")
+    void ended_threads_are_reaped() throws Exception {
+        AtomicInteger destroyed = new AtomicInteger();
+        ThreadScope scope = new ThreadScope(bean -> destroyed.incrementAndGet());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Thread t = new Thread(() -> scope.get(Object.class, Object::new));
+            threads.add(t);
+            t.start();
+            t.join();
+        }
+        // 등록이 쌓일 때마다 자동 정리 → 전체 스레드 수보다 훨씬 적게 남는다
+        assertTrue(scope.size() < 500, "size=" + scope.size());
+
+        scope.reapEndedThreads();
+        assertEquals(0, scope.size());
+        assertEquals(500, destroyed.get());
+    }
+
+    @Test
+    @DisplayName("SCOPED 빈은 블록 안에서 하나, 블록이 끝나면 소멸하고, 블록 밖에서는 얻을 수 없다")
+    void scoped_bean_lives_for_block() throws Exception {
+        RequestState.destroyed.set(0);
+        ApplicationContext ctx = ApplicationContext.of("fixtures.threadscope");
+
+        RequestState outer = ctx.callInScope(() -> {
+            RequestState a = ctx.getBean(RequestState.class);
+            assertSame(a, ctx.getBean(RequestState.class));
+            ctx.runInScope(() -> assertNotSame(a, ctx.getBean(RequestState.class))); // 중첩 블록은 새 묶음
+            assertEquals(1, RequestState.destroyed.get());
+            assertSame(a, ctx.getBean(RequestState.class)); // 바깥 바인딩 복원
+            return a;
+        });
+
+        assertNotNull(outer);
+        assertEquals(2, RequestState.destroyed.get());
+        assertThrows(IllegalStateException.class, () -> ctx.getBean(RequestState.class));
+    }
+}